@@ -56,6 +56,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.LongStream;
 import java.util.stream.Stream;
@@ -73,6 +74,7 @@ public class AggregatorBenchmark {
     static final int BLOCK_LENGTH = 8 * 1024;
     private static final int OP_COUNT = 1024;
     private static final int GROUPS = 5;
+    private static final int HIGH_CARDINALITY_GROUPS = BLOCK_LENGTH / 8;
     private static final int TOP_N_LIMIT = 3;
 
     private static final BlockFactory blockFactory = BlockFactory.getInstance(
@@ -89,6 +91,8 @@ public class AggregatorBenchmark {
     private static final String TWO_LONGS = "two_" + LONGS;
     private static final String TWO_BYTES_REFS = "two_" + BYTES_REFS;
     private static final String TWO_ORDINALS = "two_" + ORDINALS;
+    private static final String HIGH_CARDINALITY_BYTES_REFS = "high_cardinality_" + BYTES_REFS;
+    private static final String TWO_HIGH_CARDINALITY_BYTES_REFS = "two_" + HIGH_CARDINALITY_BYTES_REFS;
     private static final String LONGS_AND_BYTES_REFS = LONGS + "_and_" + BYTES_REFS;
     private static final String TWO_LONGS_AND_BYTES_REFS = "two_" + LONGS + "_and_" + BYTES_REFS;
     private static final String TOP_N_LONGS = "top_n_" + LONGS;
@@ -148,6 +152,8 @@ public class AggregatorBenchmark {
             TWO_LONGS,
             TWO_BYTES_REFS,
             TWO_ORDINALS,
+            HIGH_CARDINALITY_BYTES_REFS,
+            TWO_HIGH_CARDINALITY_BYTES_REFS,
             LONGS_AND_BYTES_REFS,
             TWO_LONGS_AND_BYTES_REFS,
             TOP_N_LONGS }
@@ -175,9 +181,9 @@ public class AggregatorBenchmark {
             case INTS -> List.of(new BlockHash.GroupSpec(0, ElementType.INT));
             case DOUBLES -> List.of(new BlockHash.GroupSpec(0, ElementType.DOUBLE));
             case BOOLEANS -> List.of(new BlockHash.GroupSpec(0, ElementType.BOOLEAN));
-            case BYTES_REFS, ORDINALS -> List.of(new BlockHash.GroupSpec(0, ElementType.BYTES_REF));
+            case BYTES_REFS, ORDINALS, HIGH_CARDINALITY_BYTES_REFS -> List.of(new BlockHash.GroupSpec(0, ElementType.BYTES_REF));
             case TWO_LONGS -> List.of(new BlockHash.GroupSpec(0, ElementType.LONG), new BlockHash.GroupSpec(1, ElementType.LONG));
-            case TWO_BYTES_REFS, TWO_ORDINALS -> List.of(
+            case TWO_BYTES_REFS, TWO_ORDINALS, TWO_HIGH_CARDINALITY_BYTES_REFS -> List.of(
                 new BlockHash.GroupSpec(0, ElementType.BYTES_REF),
                 new BlockHash.GroupSpec(1, ElementType.BYTES_REF)
             );
@@ -260,6 +266,10 @@ public class AggregatorBenchmark {
                 checkGroupingBlock(prefix, BYTES_REFS, page.getBlock(0));
                 checkGroupingBlock(prefix, BYTES_REFS, page.getBlock(1));
             }
+            case TWO_HIGH_CARDINALITY_BYTES_REFS -> {
+                checkGroupingBlock(prefix, HIGH_CARDINALITY_BYTES_REFS, page.getBlock(0));
+                checkGroupingBlock(prefix, HIGH_CARDINALITY_BYTES_REFS, page.getBlock(1));
+            }
             case LONGS_AND_BYTES_REFS -> {
                 checkGroupingBlock(prefix, LONGS, page.getBlock(0));
                 checkGroupingBlock(prefix, BYTES_REFS, page.getBlock(1));
@@ -274,6 +284,7 @@ public class AggregatorBenchmark {
         Block values = page.getBlock(page.getBlockCount() - 1);
         int groups = switch (grouping) {
             case BOOLEANS -> 2;
+            case HIGH_CARDINALITY_BYTES_REFS, TWO_HIGH_CARDINALITY_BYTES_REFS -> HIGH_CARDINALITY_GROUPS;
             default -> GROUPS;
         };
         int availableGroups = switch (grouping) {
@@ -443,6 +454,21 @@ public class AggregatorBenchmark {
                     }
                 }
             }
+            case HIGH_CARDINALITY_BYTES_REFS -> {
+                BytesRefBlock groups = (BytesRefBlock) block;
+                for (int g = 0; g < HIGH_CARDINALITY_GROUPS; g++) {
+                    if (false == groups.getBytesRef(g, new BytesRef()).equals(highCardinalityBytesGroup(g))) {
+                        throw new AssertionError(
+                            prefix
+                                + "bad group expected ["
+                                + highCardinalityBytesGroup(g)
+                                + "] but was ["
+                                + groups.getBytesRef(g, new BytesRef())
+                                + "]"
+                        );
+                    }
+                }
+            }
             default -> throw new IllegalArgumentException("bad grouping [" + grouping + "]");
         }
     }
@@ -564,6 +590,10 @@ public class AggregatorBenchmark {
             case TWO_LONGS -> List.of(groupingBlock(LONGS, blockType), groupingBlock(LONGS, blockType));
             case TWO_BYTES_REFS -> List.of(groupingBlock(BYTES_REFS, blockType), groupingBlock(BYTES_REFS, blockType));
             case TWO_ORDINALS -> List.of(groupingBlock(ORDINALS, blockType), groupingBlock(ORDINALS, blockType));
+            case TWO_HIGH_CARDINALITY_BYTES_REFS -> List.of(
+                groupingBlock(HIGH_CARDINALITY_BYTES_REFS, blockType),
+                groupingBlock(HIGH_CARDINALITY_BYTES_REFS, blockType)
+            );
             case LONGS_AND_BYTES_REFS -> List.of(groupingBlock(LONGS, blockType), groupingBlock(BYTES_REFS, blockType));
             case TWO_LONGS_AND_BYTES_REFS -> List.of(
                 groupingBlock(LONGS, blockType),
@@ -639,6 +669,15 @@ public class AggregatorBenchmark {
                 }
                 yield new OrdinalBytesRefVector(ordinals.build(), bytes.build()).asBlock();
             }
+            case HIGH_CARDINALITY_BYTES_REFS -> {
+                BytesRefBlock.Builder builder = blockFactory.newBytesRefBlockBuilder(BLOCK_LENGTH);
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    for (int v = 0; v < valuesPerGroup; v++) {
+                        builder.appendBytesRef(highCardinalityBytesGroup(i % HIGH_CARDINALITY_GROUPS));
+                    }
+                }
+                yield builder.build();
+            }
             default -> throw new UnsupportedOperationException("unsupported grouping [" + grouping + "]");
         };
     }
@@ -654,6 +693,10 @@ public class AggregatorBenchmark {
         });
     }
 
+    private static BytesRef highCardinalityBytesGroup(int group) {
+        return new BytesRef(String.format(Locale.ROOT, "group-%05d", group));
+    }
+
     private static AggregatorFunctionSupplier filtered(AggregatorFunctionSupplier agg, String filter) {
         if (filter.equals("none")) {
             return agg;
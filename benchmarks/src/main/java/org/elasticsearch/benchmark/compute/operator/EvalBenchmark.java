@@ -53,6 +53,7 @@ import org.elasticsearch.xpack.esql.expression.function.scalar.string.ToUpper;
 import org.elasticsearch.xpack.esql.expression.function.scalar.string.regex.RLike;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.arithmetic.Add;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.Equals;
+import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.GreaterThan;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.LessThan;
 import org.elasticsearch.xpack.esql.planner.Layout;
 import org.elasticsearch.xpack.esql.plugin.EsqlPlugin;
@@ -127,6 +128,7 @@ public class EvalBenchmark {
             "coalesce_2_lazy",
             "date_trunc",
             "equal_to_const",
+            "greater_than_const",
             "long_equal_to_long",
             "long_equal_to_int",
             "mv_min",
@@ -228,6 +230,14 @@ public class EvalBenchmark {
                     layout(longField)
                 ).get(driverContext);
             }
+            case "greater_than_const" -> {
+                FieldAttribute longField = longField();
+                yield EvalMapper.toEvaluator(
+                    FOLD_CONTEXT,
+                    new GreaterThan(Source.EMPTY, longField, new Literal(Source.EMPTY, BLOCK_LENGTH / 2 * 100_000L, DataType.LONG)),
+                    layout(longField)
+                ).get(driverContext);
+            }
             case "long_equal_to_long" -> {
                 FieldAttribute lhs = longField();
                 FieldAttribute rhs = longField();
@@ -460,6 +470,15 @@ public class EvalBenchmark {
                     }
                 }
             }
+            case "greater_than_const" -> {
+                BooleanVector v = actual.<BooleanBlock>getBlock(1).asVector();
+                for (int i = 0; i < BLOCK_LENGTH; i++) {
+                    boolean expected = i > BLOCK_LENGTH / 2;
+                    if (v.getBoolean(i) != expected) {
+                        throw new AssertionError("[" + operation + "] expected [" + expected + "] but was [" + v.getBoolean(i) + "]");
+                    }
+                }
+            }
             case "long_equal_to_long", "long_equal_to_int" -> {
                 BooleanVector v = actual.<BooleanBlock>getBlock(2).asVector();
                 for (int i = 0; i < BLOCK_LENGTH; i++) {
@@ -586,6 +605,7 @@ public class EvalBenchmark {
                 }
                 yield new Page(builder.build());
             }
+            case "greater_than_const" -> page("equal_to_const");
             case "add_double" -> {
                 var builder = blockFactory.newDoubleBlockBuilder(BLOCK_LENGTH);
                 for (int i = 0; i < BLOCK_LENGTH; i++) {
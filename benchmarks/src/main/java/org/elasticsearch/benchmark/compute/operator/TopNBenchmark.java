@@ -66,6 +66,11 @@ public class TopNBenchmark {
     private static final String BYTES_REFS = "bytes_refs";
     private static final String TWO_LONGS = "two_" + LONGS;
     private static final String LONGS_AND_BYTES_REFS = LONGS + "_and_" + BYTES_REFS;
+    /**
+     * Sorts on a long and carries many other columns, like a {@code SORT} over wide documents.
+     */
+    private static final String WIDE = "wide";
+    private static final int WIDE_COLUMNS = 10;
 
     static {
         // Smoke test all the expected values and force loading subclasses more like prod
@@ -84,7 +89,7 @@ public class TopNBenchmark {
         }
     }
 
-    @Param({ LONGS, INTS, DOUBLES, BOOLEANS, BYTES_REFS, TWO_LONGS, LONGS_AND_BYTES_REFS })
+    @Param({ LONGS, INTS, DOUBLES, BOOLEANS, BYTES_REFS, TWO_LONGS, LONGS_AND_BYTES_REFS, WIDE })
     public String data;
 
     @Param({ "10", "10000" })
@@ -92,7 +97,7 @@ public class TopNBenchmark {
 
     private static Operator operator(String data, int topCount) {
         int count = switch (data) {
-            case LONGS, INTS, DOUBLES, BOOLEANS, BYTES_REFS -> 1;
+            case LONGS, INTS, DOUBLES, BOOLEANS, BYTES_REFS, WIDE -> 1;
             case TWO_LONGS, LONGS_AND_BYTES_REFS -> 2;
             default -> throw new IllegalArgumentException("unsupported data type [" + data + "]");
         };
@@ -104,6 +109,7 @@ public class TopNBenchmark {
             case BYTES_REFS -> List.of(ElementType.BYTES_REF);
             case TWO_LONGS -> List.of(ElementType.LONG, ElementType.LONG);
             case LONGS_AND_BYTES_REFS -> List.of(ElementType.LONG, ElementType.BYTES_REF);
+            case WIDE -> wide(ElementType.LONG, ElementType.BYTES_REF);
             default -> throw new IllegalArgumentException("unsupported data type [" + data + "]");
         };
         List<TopNEncoder> encoders = switch (data) {
@@ -111,6 +117,7 @@ public class TopNBenchmark {
             case BYTES_REFS -> List.of(TopNEncoder.UTF8);
             case TWO_LONGS -> List.of(TopNEncoder.DEFAULT_SORTABLE, TopNEncoder.DEFAULT_SORTABLE);
             case LONGS_AND_BYTES_REFS -> List.of(TopNEncoder.DEFAULT_SORTABLE, TopNEncoder.UTF8);
+            case WIDE -> wide(TopNEncoder.DEFAULT_SORTABLE, TopNEncoder.UTF8);
             default -> throw new IllegalArgumentException("unsupported data type [" + data + "]");
         };
         CircuitBreakerService breakerService = new HierarchyCircuitBreakerService(
@@ -140,10 +147,27 @@ public class TopNBenchmark {
         return switch (data) {
             case TWO_LONGS -> new Page(block(LONGS), block(LONGS));
             case LONGS_AND_BYTES_REFS -> new Page(block(LONGS), block(BYTES_REFS));
+            case WIDE -> {
+                Block[] blocks = new Block[WIDE_COLUMNS + 1];
+                blocks[0] = block(LONGS);
+                for (int i = 1; i < blocks.length; i++) {
+                    blocks[i] = block(BYTES_REFS);
+                }
+                yield new Page(blocks);
+            }
             default -> new Page(block(data));
         };
     }
 
+    private static <T> List<T> wide(T sorted, T other) {
+        List<T> columns = new ArrayList<>(WIDE_COLUMNS + 1);
+        columns.add(sorted);
+        for (int i = 0; i < WIDE_COLUMNS; i++) {
+            columns.add(other);
+        }
+        return columns;
+    }
+
     private static Block block(String data) {
         return switch (data) {
             case LONGS -> {
@@ -95,7 +95,7 @@ public class ScriptScoreBenchmark {
         SourceProvider.fromLookup(MappingLookup.EMPTY, null, SourceFieldMetrics.NOOP)
     );
 
-    @Param({ "expression", "metal", "painless_cast", "painless_def" })
+    @Param({ "expression", "metal", "metal_block", "painless_cast", "painless_def" })
     private String script;
 
     @Param({ "16" })
@@ -110,6 +110,7 @@ public class ScriptScoreBenchmark {
         factory = switch (script) {
             case "expression" -> scriptModule.engines.get("expression").compile("test", "doc['n'].value", ScoreScript.CONTEXT, Map.of());
             case "metal" -> bareMetalScript();
+            case "metal_block" -> bareMetalBlockScript();
             case "painless_cast" -> scriptModule.engines.get("painless")
                 .compile(
                     "test",
@@ -198,4 +199,68 @@ public class ScriptScoreBenchmark {
             };
         };
     }
+
+    /**
+     * Like {@link #bareMetalScript()} but scores a block of documents per call through
+     * {@link ScoreScript#executeBlock}, loading the values into an array before converting them.
+     */
+    private ScoreScript.Factory bareMetalBlockScript() {
+        return (params, lookup) -> {
+            MappedFieldType type = fieldTypes.get("n");
+            IndexNumericFieldData ifd = (IndexNumericFieldData) lookup.getForField(type, MappedFieldType.FielddataOperation.SEARCH);
+            return new ScoreScript.LeafFactory() {
+                @Override
+                public ScoreScript newInstance(DocReader docReader) throws IOException {
+                    SortedNumericDocValues values = ifd.load(((DocValuesDocReader) docReader).getLeafReaderContext()).getLongValues();
+                    return new ScoreScript(params, null, docReader) {
+                        private long[] buffer = new long[0];
+
+                        @Override
+                        public double execute(ExplanationHolder explanation) {
+                            throw new UnsupportedOperationException("only block execution is supported");
+                        }
+
+                        @Override
+                        public boolean supportsBlockExecution() {
+                            return true;
+                        }
+
+                        @Override
+                        public void executeBlock(int[] docs, int count, double[] scores) {
+                            if (buffer.length < count) {
+                                buffer = new long[docs.length];
+                            }
+                            try {
+                                for (int i = 0; i < count; i++) {
+                                    values.advance(docs[i]);
+                                    if (values.docValueCount() != 1) {
+                                        throw new IllegalArgumentException("script only works when there is exactly one value");
+                                    }
+                                    buffer[i] = values.nextValue();
+                                }
+                            } catch (IOException e) {
+                                throw new RuntimeException(e);
+                            }
+                            for (int i = 0; i < count; i++) {
+                                scores[i] = buffer[i];
+                            }
+                        }
+
+                        @Override
+                        public void setDocument(int docid) {}
+                    };
+                }
+
+                @Override
+                public boolean needs_score() {
+                    return false;
+                }
+
+                @Override
+                public boolean needs_termStats() {
+                    return false;
+                }
+            };
+        };
+    }
 }
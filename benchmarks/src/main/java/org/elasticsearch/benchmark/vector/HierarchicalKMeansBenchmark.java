@@ -0,0 +1,96 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.benchmark.vector;
+
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.search.TaskExecutor;
+import org.elasticsearch.common.logging.LogConfigurator;
+import org.elasticsearch.index.codec.vectors.cluster.HierarchicalKMeans;
+import org.elasticsearch.index.codec.vectors.cluster.KMeansResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the clustering the IVF vectors format runs when writing a segment, with vector assignments computed on the
+ * calling thread ({@code threads=1}) or split across a pool as during a merge with an intra-merge executor.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@Fork(value = 1, jvmArgsPrepend = { "--add-modules=jdk.incubator.vector" })
+public class HierarchicalKMeansBenchmark {
+    static {
+        LogConfigurator.configureESLogging(); // native access requires logging to be initialized
+    }
+
+    @Param({ "100000" })
+    int numVectors;
+
+    @Param({ "128", "768" })
+    int dims;
+
+    @Param({ "1", "4" })
+    int threads;
+
+    FloatVectorValues vectors;
+    ExecutorService executorService;
+    TaskExecutor taskExecutor;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(42);
+        List<float[]> values = new ArrayList<>(numVectors);
+        for (int i = 0; i < numVectors; i++) {
+            float[] vector = new float[dims];
+            for (int j = 0; j < dims; j++) {
+                vector[j] = random.nextFloat();
+            }
+            values.add(vector);
+        }
+        vectors = FloatVectorValues.fromFloats(values, dims);
+        if (threads > 1) {
+            executorService = Executors.newFixedThreadPool(threads);
+            taskExecutor = new TaskExecutor(executorService);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (executorService != null) {
+            executorService.shutdown();
+        }
+    }
+
+    @Benchmark
+    public KMeansResult cluster() throws IOException {
+        return new HierarchicalKMeans(dims, taskExecutor).cluster(vectors, 384);
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.benchmark.vector;
+
+import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.common.logging.LogConfigurator;
+import org.elasticsearch.simdvec.ESVectorUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures late-interaction (MaxSim) scoring of a multi-vector query against the vectors of a single document, one query
+ * vector at a time versus {@link ESVectorUtil#maxDotProducts} which scores several query vectors per pass over a document vector.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsPrepend = { "--add-modules=jdk.incubator.vector" })
+public class MaxSimBenchmark {
+    static {
+        LogConfigurator.configureESLogging(); // native access requires logging to be initialized
+    }
+
+    @Param({ "96", "128", "768" })
+    int dims;
+
+    @Param({ "32" })
+    int queryVectors;
+
+    @Param({ "128" })
+    int docVectors;
+
+    float[][] floatQuery;
+    float[][] floatDoc;
+    byte[][] byteQuery;
+    byte[][] byteDoc;
+    float[] maxes;
+
+    @Setup(Level.Iteration)
+    public void init() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        floatQuery = new float[queryVectors][dims];
+        byteQuery = new byte[queryVectors][dims];
+        for (int i = 0; i < queryVectors; i++) {
+            for (int j = 0; j < dims; j++) {
+                floatQuery[i][j] = random.nextFloat();
+            }
+            random.nextBytes(byteQuery[i]);
+        }
+        floatDoc = new float[docVectors][dims];
+        byteDoc = new byte[docVectors][dims];
+        for (int i = 0; i < docVectors; i++) {
+            for (int j = 0; j < dims; j++) {
+                floatDoc[i][j] = random.nextFloat();
+            }
+            random.nextBytes(byteDoc[i]);
+        }
+        maxes = new float[queryVectors];
+    }
+
+    @Benchmark
+    public float floatPerQueryVector() {
+        Arrays.fill(maxes, Float.NEGATIVE_INFINITY);
+        for (float[] d : floatDoc) {
+            for (int i = 0; i < floatQuery.length; i++) {
+                maxes[i] = Math.max(maxes[i], VectorUtil.dotProduct(floatQuery[i], d));
+            }
+        }
+        return sum(maxes);
+    }
+
+    @Benchmark
+    public float floatMaxDotProducts() {
+        Arrays.fill(maxes, Float.NEGATIVE_INFINITY);
+        for (float[] d : floatDoc) {
+            ESVectorUtil.maxDotProducts(floatQuery, d, maxes);
+        }
+        return sum(maxes);
+    }
+
+    @Benchmark
+    public float bytePerQueryVector() {
+        Arrays.fill(maxes, Float.NEGATIVE_INFINITY);
+        for (byte[] d : byteDoc) {
+            for (int i = 0; i < byteQuery.length; i++) {
+                maxes[i] = Math.max(maxes[i], VectorUtil.dotProduct(byteQuery[i], d));
+            }
+        }
+        return sum(maxes);
+    }
+
+    @Benchmark
+    public float byteMaxDotProducts() {
+        Arrays.fill(maxes, Float.NEGATIVE_INFINITY);
+        for (byte[] d : byteDoc) {
+            ESVectorUtil.maxDotProducts(byteQuery, d, maxes);
+        }
+        return sum(maxes);
+    }
+
+    private static float sum(float[] values) {
+        float sum = 0;
+        for (float v : values) {
+            sum += v;
+        }
+        return sum;
+    }
+}
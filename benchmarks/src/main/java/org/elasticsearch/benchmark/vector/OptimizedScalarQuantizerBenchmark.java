@@ -12,6 +12,7 @@ package org.elasticsearch.benchmark.vector;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.elasticsearch.common.logging.LogConfigurator;
 import org.elasticsearch.index.codec.vectors.OptimizedScalarQuantizer;
+import org.elasticsearch.simdvec.ESVectorUtil;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -44,6 +45,8 @@ public class OptimizedScalarQuantizerBenchmark {
     float[] vector;
     float[] centroid;
     byte[] destination;
+    byte[][] destinations;
+    float[] interval = new float[] { -0.5f, 0.5f };
 
     @Param({ "1", "4", "7" })
     byte bits;
@@ -55,6 +58,7 @@ public class OptimizedScalarQuantizerBenchmark {
         ThreadLocalRandom random = ThreadLocalRandom.current();
         // random byte arrays for binary methods
         destination = new byte[dims];
+        destinations = new byte[2][dims];
         vector = new float[dims];
         centroid = new float[dims];
         for (int i = 0; i < dims; ++i) {
@@ -75,4 +79,28 @@ public class OptimizedScalarQuantizerBenchmark {
         osq.scalarQuantize(vector, destination, bits, centroid);
         return destination;
     }
+
+    @Benchmark
+    public byte[][] multiScalar() {
+        osq.multiScalarQuantize(vector, destinations, new byte[] { 1, 4 }, centroid);
+        return destinations;
+    }
+
+    @Benchmark
+    @Fork(jvmArgsPrepend = { "--add-modules=jdk.incubator.vector" })
+    public byte[][] multiVector() {
+        osq.multiScalarQuantize(vector, destinations, new byte[] { 1, 4 }, centroid);
+        return destinations;
+    }
+
+    @Benchmark
+    public int quantizeWithIntervalsScalar() {
+        return ESVectorUtil.quantizeVectorWithIntervals(vector, destination, interval[0], interval[1], bits);
+    }
+
+    @Benchmark
+    @Fork(jvmArgsPrepend = { "--add-modules=jdk.incubator.vector" })
+    public int quantizeWithIntervalsVector() {
+        return ESVectorUtil.quantizeVectorWithIntervals(vector, destination, interval[0], interval[1], bits);
+    }
 }
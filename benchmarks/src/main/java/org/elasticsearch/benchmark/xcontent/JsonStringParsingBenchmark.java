@@ -0,0 +1,85 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.benchmark.xcontent;
+
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.xcontent.XContentBuilder;
+import org.elasticsearch.xcontent.XContentFactory;
+import org.elasticsearch.xcontent.XContentParser;
+import org.elasticsearch.xcontent.XContentParserConfiguration;
+import org.elasticsearch.xcontent.XContentType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures tokenizing JSON documents made of string values with {@link XContentParser#optimizedText()}, which scans the
+ * raw UTF-8 bytes of each string without decoding it.
+ */
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JsonStringParsingBenchmark {
+
+    @Param({ "8", "64", "512" })
+    private int valueLength;
+
+    @Param({ "ascii", "mixed" })
+    private String charset;
+
+    private BytesReference source;
+
+    @Setup
+    public void setup() throws IOException {
+        final String chars = switch (charset) {
+            case "ascii" -> "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789 -_./:";
+            case "mixed" -> "abcdefghijklmnopqrstuvwxyzåäöéèüß0123456789 -_./:\"\\";
+            default -> throw new IllegalArgumentException("Unknown charset [" + charset + "]");
+        };
+        Random random = new Random(42);
+        XContentBuilder builder = XContentFactory.jsonBuilder().startObject();
+        for (int i = 0; i < 100; i++) {
+            StringBuilder value = new StringBuilder(valueLength);
+            for (int j = 0; j < valueLength; j++) {
+                value.append(chars.charAt(random.nextInt(chars.length())));
+            }
+            builder.field("field" + i, value.toString());
+        }
+        source = BytesReference.bytes(builder.endObject());
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) throws IOException {
+        try (XContentParser parser = XContentType.JSON.xContent().createParser(XContentParserConfiguration.EMPTY, source.streamInput())) {
+            XContentParser.Token token;
+            while ((token = parser.nextToken()) != null) {
+                if (token == XContentParser.Token.VALUE_STRING) {
+                    bh.consume(parser.optimizedText());
+                }
+            }
+        }
+    }
+}
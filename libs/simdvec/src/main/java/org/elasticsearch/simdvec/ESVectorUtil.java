@@ -99,6 +99,47 @@ public class ESVectorUtil {
         return IMPL.ipFloatByte(q, d);
     }
 
+    /**
+     * Compute the inner products of a document vector with each of the given query vectors, keeping the maximum seen
+     * so far per query vector. This is the inner loop of late-interaction (MaxSim) scoring, where every query vector is
+     * compared with every vector of a document.
+     * @param q the query vectors, each of the same dimension as the document vector
+     * @param d the document vector
+     * @param maxes the maximum inner product per query vector, updated in place
+     */
+    public static void maxDotProducts(float[][] q, float[] d, float[] maxes) {
+        checkMaxDotProductsArgs(q.length, maxes);
+        for (float[] v : q) {
+            if (v.length != d.length) {
+                throw new IllegalArgumentException("vector dimensions differ: " + v.length + "!=" + d.length);
+            }
+        }
+        IMPL.maxDotProducts(q, d, maxes);
+    }
+
+    /**
+     * Compute the inner products of a byte document vector with each of the given byte query vectors, keeping the maximum
+     * seen so far per query vector.
+     * @param q the query vectors, each of the same dimension as the document vector
+     * @param d the document vector
+     * @param maxes the maximum inner product per query vector, updated in place
+     */
+    public static void maxDotProducts(byte[][] q, byte[] d, float[] maxes) {
+        checkMaxDotProductsArgs(q.length, maxes);
+        for (byte[] v : q) {
+            if (v.length != d.length) {
+                throw new IllegalArgumentException("vector dimensions differ: " + v.length + "!=" + d.length);
+            }
+        }
+        IMPL.maxDotProducts(q, d, maxes);
+    }
+
+    private static void checkMaxDotProductsArgs(int numQueryVectors, float[] maxes) {
+        if (maxes.length != numQueryVectors) {
+            throw new IllegalArgumentException("expected [" + numQueryVectors + "] maxes but got [" + maxes.length + "]");
+        }
+    }
+
     /**
      * AND bit count computed over signed bytes.
      * Copied from Lucene's XOR implementation
@@ -218,6 +259,23 @@ public class ESVectorUtil {
         IMPL.centerAndCalculateOSQStatsDp(target, centroid, centered, stats);
     }
 
+    /**
+     * Quantize the vector to the given interval, assigning each component to the nearest of the {@code 2^bits} points
+     * @param vector The vector being quantized, assumed to be centered
+     * @param destination The destination of the quantized vector, one byte per component
+     * @param lowInterval The lower bound of the interval
+     * @param upperInterval The upper bound of the interval
+     * @param bits The number of bits per component, between 1 and 8
+     * @return The sum of the quantized components
+     */
+    public static int quantizeVectorWithIntervals(float[] vector, byte[] destination, float lowInterval, float upperInterval, byte bits) {
+        if (vector.length > destination.length) {
+            throw new IllegalArgumentException("vector dimensions differ: " + vector.length + ">" + destination.length);
+        }
+        assert bits > 0 && bits <= 8;
+        return IMPL.quantizeVectorWithIntervals(vector, destination, lowInterval, upperInterval, bits);
+    }
+
     /**
      * Calculates the difference between two vectors and stores the result in a third vector.
      * @param v1 the first vector
@@ -11,6 +11,7 @@ package org.elasticsearch.simdvec.internal.vectorization;
 
 import org.apache.lucene.util.BitUtil;
 import org.apache.lucene.util.Constants;
+import org.apache.lucene.util.VectorUtil;
 
 final class DefaultESVectorUtilSupport implements ESVectorUtilSupport {
 
@@ -178,6 +179,53 @@ final class DefaultESVectorUtilSupport implements ESVectorUtilSupport {
         return acc0 + acc1 + acc2 + acc3;
     }
 
+    @Override
+    public int quantizeVectorWithIntervals(float[] vector, byte[] destination, float lowInterval, float upperInterval, byte bits) {
+        return quantizeVectorWithIntervalsImpl(vector, 0, destination, lowInterval, upperInterval, bits);
+    }
+
+    static int quantizeVectorWithIntervalsImpl(
+        float[] vector,
+        int start,
+        byte[] destination,
+        float lowInterval,
+        float upperInterval,
+        byte bits
+    ) {
+        float nSteps = ((1 << bits) - 1);
+        float step = (upperInterval - lowInterval) / nSteps;
+        int sumQuery = 0;
+        for (int h = start; h < vector.length; h++) {
+            float xi = Math.min(Math.max(vector[h], lowInterval), upperInterval);
+            int assignment = Math.round((xi - lowInterval) / step);
+            sumQuery += assignment;
+            destination[h] = (byte) assignment;
+        }
+        return sumQuery;
+    }
+
+    @Override
+    public void maxDotProducts(float[][] q, float[] d, float[] maxes) {
+        maxDotProductsImpl(q, 0, d, maxes);
+    }
+
+    @Override
+    public void maxDotProducts(byte[][] q, byte[] d, float[] maxes) {
+        maxDotProductsImpl(q, 0, d, maxes);
+    }
+
+    static void maxDotProductsImpl(float[][] q, int start, float[] d, float[] maxes) {
+        for (int i = start; i < q.length; i++) {
+            maxes[i] = Math.max(maxes[i], VectorUtil.dotProduct(q[i], d));
+        }
+    }
+
+    static void maxDotProductsImpl(byte[][] q, int start, byte[] d, float[] maxes) {
+        for (int i = start; i < q.length; i++) {
+            maxes[i] = Math.max(maxes[i], VectorUtil.dotProduct(q[i], d));
+        }
+    }
+
     public static float ipFloatBitImpl(float[] q, byte[] d) {
         return ipFloatBitImpl(q, d, 0);
     }
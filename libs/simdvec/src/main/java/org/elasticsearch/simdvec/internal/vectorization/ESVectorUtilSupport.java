@@ -29,6 +29,12 @@ public interface ESVectorUtilSupport {
 
     void centerAndCalculateOSQStatsDp(float[] target, float[] centroid, float[] centered, float[] stats);
 
+    int quantizeVectorWithIntervals(float[] vector, byte[] destination, float lowInterval, float upperInterval, byte bits);
+
     float soarResidual(float[] v1, float[] centroid, float[] originalResidual);
 
+    void maxDotProducts(float[][] q, float[] d, float[] maxes);
+
+    void maxDotProducts(byte[][] q, byte[] d, float[] maxes);
+
 }
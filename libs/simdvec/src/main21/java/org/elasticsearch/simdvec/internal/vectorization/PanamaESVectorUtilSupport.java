@@ -13,6 +13,7 @@ import jdk.incubator.vector.ByteVector;
 import jdk.incubator.vector.FloatVector;
 import jdk.incubator.vector.IntVector;
 import jdk.incubator.vector.LongVector;
+import jdk.incubator.vector.ShortVector;
 import jdk.incubator.vector.Vector;
 import jdk.incubator.vector.VectorMask;
 import jdk.incubator.vector.VectorOperators;
@@ -23,8 +24,10 @@ import org.apache.lucene.util.BitUtil;
 import org.apache.lucene.util.Constants;
 
 import static jdk.incubator.vector.VectorOperators.ADD;
+import static jdk.incubator.vector.VectorOperators.B2S;
 import static jdk.incubator.vector.VectorOperators.MAX;
 import static jdk.incubator.vector.VectorOperators.MIN;
+import static jdk.incubator.vector.VectorOperators.S2I;
 
 public final class PanamaESVectorUtilSupport implements ESVectorUtilSupport {
 
@@ -367,6 +370,39 @@ public final class PanamaESVectorUtilSupport implements ESVectorUtilSupport {
         return (1f - lambda) * xe * xe / norm2 + lambda * e;
     }
 
+    @Override
+    public int quantizeVectorWithIntervals(float[] vector, byte[] destination, float lowInterval, float upperInterval, byte bits) {
+        // if the array size is large (> 2x platform vector size), it's worth the overhead to vectorize
+        if (BYTE_SPECIES_FOR_PREFFERED_FLOATS == null || vector.length <= 2 * PREFERRED_FLOAT_SPECIES.length()) {
+            return DefaultESVectorUtilSupport.quantizeVectorWithIntervalsImpl(vector, 0, destination, lowInterval, upperInterval, bits);
+        }
+        float nSteps = ((1 << bits) - 1);
+        float step = (upperInterval - lowInterval) / nSteps;
+        IntVector sumVec = IntVector.zero(INT_SPECIES_FOR_PREFERRED_FLOATS);
+        int i = 0;
+        for (; i < PREFERRED_FLOAT_SPECIES.loopBound(vector.length); i += PREFERRED_FLOAT_SPECIES.length()) {
+            FloatVector v = FloatVector.fromArray(PREFERRED_FLOAT_SPECIES, vector, i);
+            FloatVector scaled = v.max(lowInterval).min(upperInterval).sub(lowInterval).div(step);
+            // values are clamped to the interval so they aren't negative, and rounding them like Math.round means truncating
+            // them and rounding up if their fraction is at least 0.5. Adding 0.5 before truncating instead would round up
+            // values right below a .5 boundary, because the addition itself rounds.
+            IntVector truncated = (IntVector) scaled.convertShape(VectorOperators.F2I, INT_SPECIES_FOR_PREFERRED_FLOATS, 0);
+            FloatVector fraction = scaled.sub((FloatVector) truncated.convertShape(VectorOperators.I2F, PREFERRED_FLOAT_SPECIES, 0));
+            VectorMask<Integer> roundUp = fraction.compare(VectorOperators.GE, 0.5f).cast(INT_SPECIES_FOR_PREFERRED_FLOATS);
+            IntVector assignment = truncated.add(1, roundUp);
+            sumVec = sumVec.add(assignment);
+            ((ByteVector) assignment.convertShape(VectorOperators.I2B, BYTE_SPECIES_FOR_PREFFERED_FLOATS, 0)).intoArray(destination, i);
+        }
+        return sumVec.reduceLanes(ADD) + DefaultESVectorUtilSupport.quantizeVectorWithIntervalsImpl(
+            vector,
+            i,
+            destination,
+            lowInterval,
+            upperInterval,
+            bits
+        );
+    }
+
     @Override
     public float soarResidual(float[] v1, float[] centroid, float[] originalResidual) {
         assert v1.length == centroid.length;
@@ -410,6 +446,109 @@ public final class PanamaESVectorUtilSupport implements ESVectorUtilSupport {
         return proj;
     }
 
+    @Override
+    public void maxDotProducts(float[][] q, float[] d, float[] maxes) {
+        int i = 0;
+        if (d.length >= FLOAT_SPECIES.length()) {
+            // score four query vectors per pass so that each lane of the document vector is only loaded once
+            for (; i + 4 <= q.length; i += 4) {
+                maxDotProducts4(q, i, d, maxes);
+            }
+        }
+        DefaultESVectorUtilSupport.maxDotProductsImpl(q, i, d, maxes);
+    }
+
+    private static void maxDotProducts4(float[][] q, int offset, float[] d, float[] maxes) {
+        final float[] q0 = q[offset];
+        final float[] q1 = q[offset + 1];
+        final float[] q2 = q[offset + 2];
+        final float[] q3 = q[offset + 3];
+        FloatVector acc0 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector acc1 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector acc2 = FloatVector.zero(FLOAT_SPECIES);
+        FloatVector acc3 = FloatVector.zero(FLOAT_SPECIES);
+        int i = 0;
+        int limit = FLOAT_SPECIES.loopBound(d.length);
+        for (; i < limit; i += FLOAT_SPECIES.length()) {
+            FloatVector dv = FloatVector.fromArray(FLOAT_SPECIES, d, i);
+            acc0 = fma(FloatVector.fromArray(FLOAT_SPECIES, q0, i), dv, acc0);
+            acc1 = fma(FloatVector.fromArray(FLOAT_SPECIES, q1, i), dv, acc1);
+            acc2 = fma(FloatVector.fromArray(FLOAT_SPECIES, q2, i), dv, acc2);
+            acc3 = fma(FloatVector.fromArray(FLOAT_SPECIES, q3, i), dv, acc3);
+        }
+        float dp0 = acc0.reduceLanes(ADD);
+        float dp1 = acc1.reduceLanes(ADD);
+        float dp2 = acc2.reduceLanes(ADD);
+        float dp3 = acc3.reduceLanes(ADD);
+        // tail
+        for (; i < d.length; i++) {
+            dp0 = fma(q0[i], d[i], dp0);
+            dp1 = fma(q1[i], d[i], dp1);
+            dp2 = fma(q2[i], d[i], dp2);
+            dp3 = fma(q3[i], d[i], dp3);
+        }
+        maxes[offset] = Math.max(maxes[offset], dp0);
+        maxes[offset + 1] = Math.max(maxes[offset + 1], dp1);
+        maxes[offset + 2] = Math.max(maxes[offset + 2], dp2);
+        maxes[offset + 3] = Math.max(maxes[offset + 3], dp3);
+    }
+
+    private static final VectorSpecies<Byte> BYTE_SPECIES_64 = ByteVector.SPECIES_64;
+    private static final VectorSpecies<Short> SHORT_SPECIES_128 = ShortVector.SPECIES_128;
+
+    @Override
+    public void maxDotProducts(byte[][] q, byte[] d, float[] maxes) {
+        int i = 0;
+        if (d.length >= BYTE_SPECIES_64.length() && VECTOR_BITSIZE >= 256 && HAS_FAST_INTEGER_VECTORS) {
+            // score four query vectors per pass so that each lane of the document vector is only loaded and widened once
+            for (; i + 4 <= q.length; i += 4) {
+                maxDotProducts4(q, i, d, maxes);
+            }
+        }
+        DefaultESVectorUtilSupport.maxDotProductsImpl(q, i, d, maxes);
+    }
+
+    private static void maxDotProducts4(byte[][] q, int offset, byte[] d, float[] maxes) {
+        final byte[] q0 = q[offset];
+        final byte[] q1 = q[offset + 1];
+        final byte[] q2 = q[offset + 2];
+        final byte[] q3 = q[offset + 3];
+        IntVector acc0 = IntVector.zero(INT_SPECIES_256);
+        IntVector acc1 = IntVector.zero(INT_SPECIES_256);
+        IntVector acc2 = IntVector.zero(INT_SPECIES_256);
+        IntVector acc3 = IntVector.zero(INT_SPECIES_256);
+        int i = 0;
+        int limit = BYTE_SPECIES_64.loopBound(d.length);
+        for (; i < limit; i += BYTE_SPECIES_64.length()) {
+            Vector<Short> dv = ByteVector.fromArray(BYTE_SPECIES_64, d, i).convertShape(B2S, SHORT_SPECIES_128, 0);
+            acc0 = acc0.add(mulWiden(q0, i, dv));
+            acc1 = acc1.add(mulWiden(q1, i, dv));
+            acc2 = acc2.add(mulWiden(q2, i, dv));
+            acc3 = acc3.add(mulWiden(q3, i, dv));
+        }
+        int dp0 = acc0.reduceLanes(ADD);
+        int dp1 = acc1.reduceLanes(ADD);
+        int dp2 = acc2.reduceLanes(ADD);
+        int dp3 = acc3.reduceLanes(ADD);
+        // tail
+        for (; i < d.length; i++) {
+            dp0 += q0[i] * d[i];
+            dp1 += q1[i] * d[i];
+            dp2 += q2[i] * d[i];
+            dp3 += q3[i] * d[i];
+        }
+        maxes[offset] = Math.max(maxes[offset], dp0);
+        maxes[offset + 1] = Math.max(maxes[offset + 1], dp1);
+        maxes[offset + 2] = Math.max(maxes[offset + 2], dp2);
+        maxes[offset + 3] = Math.max(maxes[offset + 3], dp3);
+    }
+
+    /** Multiplies eight signed bytes of {@code q} with the widened document lanes, the products of two bytes always fit a short. */
+    private static Vector<Integer> mulWiden(byte[] q, int i, Vector<Short> dv) {
+        Vector<Short> qv = ByteVector.fromArray(BYTE_SPECIES_64, q, i).convertShape(B2S, SHORT_SPECIES_128, 0);
+        return qv.mul(dv).convertShape(S2I, INT_SPECIES_256, 0);
+    }
+
     private static final VectorSpecies<Byte> BYTE_SPECIES_128 = ByteVector.SPECIES_128;
     private static final VectorSpecies<Byte> BYTE_SPECIES_256 = ByteVector.SPECIES_256;
 
@@ -749,6 +888,10 @@ public final class PanamaESVectorUtilSupport implements ESVectorUtilSupport {
 
     private static final VectorSpecies<Float> PREFERRED_FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
     private static final VectorSpecies<Byte> BYTE_SPECIES_FOR_PREFFERED_FLOATS;
+    private static final VectorSpecies<Integer> INT_SPECIES_FOR_PREFERRED_FLOATS = VectorSpecies.of(
+        int.class,
+        VectorShape.forBitSize(PREFERRED_FLOAT_SPECIES.vectorBitSize())
+    );
 
     static {
         VectorSpecies<Byte> byteForFloat;
@@ -268,6 +268,56 @@ public class ESVectorUtilTests extends BaseVectorizationTests {
         }
     }
 
+    public void testQuantizeVectorWithIntervals() {
+        int size = random().nextInt(1, 512);
+        var vector = new float[size];
+        for (int i = 0; i < size; ++i) {
+            vector[i] = random().nextFloat(-1f, 1f);
+        }
+        float low = random().nextFloat(-1f, 0f);
+        float upper = random().nextFloat(0.01f, 1f);
+        for (byte bits : new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }) {
+            byte[] expected = new byte[size];
+            int expectedSum = defaultedProvider.getVectorUtilSupport().quantizeVectorWithIntervals(vector, expected, low, upper, bits);
+            byte[] result = new byte[size];
+            int resultSum = defOrPanamaProvider.getVectorUtilSupport().quantizeVectorWithIntervals(vector, result, low, upper, bits);
+            assertArrayEquals(expected, result);
+            assertEquals(expectedSum, resultSum);
+            int sum = 0;
+            for (byte b : expected) {
+                assertTrue(Byte.toUnsignedInt(b) < (1 << bits));
+                sum += Byte.toUnsignedInt(b);
+            }
+            assertEquals(sum, expectedSum);
+        }
+    }
+
+    public void testQuantizeVectorWithIntervalsOnRoundingBoundaries() {
+        int size = random().nextInt(64, 512);
+        for (byte bits : new byte[] { 1, 2, 3, 4, 5, 6, 7, 8 }) {
+            int nSteps = (1 << bits) - 1;
+            // with an interval of [0, nSteps] each step is exactly one, so components land right on, below and above .5 boundaries
+            var vector = new float[size];
+            for (int i = 0; i < size; ++i) {
+                float boundary = random().nextInt(0, nSteps) + 0.5f;
+                vector[i] = switch (random().nextInt(3)) {
+                    case 0 -> Math.nextDown(boundary);
+                    case 1 -> boundary;
+                    default -> Math.nextUp(boundary);
+                };
+            }
+            byte[] expected = new byte[size];
+            int expectedSum = defaultedProvider.getVectorUtilSupport().quantizeVectorWithIntervals(vector, expected, 0f, nSteps, bits);
+            byte[] result = new byte[size];
+            int resultSum = defOrPanamaProvider.getVectorUtilSupport().quantizeVectorWithIntervals(vector, result, 0f, nSteps, bits);
+            assertArrayEquals(expected, result);
+            assertEquals(expectedSum, resultSum);
+            for (int i = 0; i < size; ++i) {
+                assertEquals(Math.round(vector[i]), Byte.toUnsignedInt(expected[i]));
+            }
+        }
+    }
+
     public void testSoarOverspillScore() {
         int size = random().nextInt(128, 512);
         float deltaEps = 1e-5f * size;
@@ -284,6 +334,79 @@ public class ESVectorUtilTests extends BaseVectorizationTests {
         assertEquals(expected, result, deltaEps);
     }
 
+    public void testMaxDotProductsFloat() {
+        int dims = randomIntBetween(1, 512);
+        float[][] q = new float[randomIntBetween(1, 17)][dims];
+        float[] d = new float[dims];
+        for (int j = 0; j < dims; j++) {
+            d[j] = random().nextFloat();
+            for (float[] v : q) {
+                v[j] = random().nextFloat();
+            }
+        }
+        float[] initial = new float[q.length];
+        float[] expected = new float[q.length];
+        for (int i = 0; i < q.length; i++) {
+            float dotProduct = 0;
+            for (int j = 0; j < dims; j++) {
+                dotProduct += q[i][j] * d[j];
+            }
+            initial[i] = randomBoolean() ? Float.NEGATIVE_INFINITY : dotProduct + (randomBoolean() ? 1 : -1);
+            expected[i] = Math.max(initial[i], dotProduct);
+        }
+        double delta = 1e-5 * dims;
+        float[] maxes = initial.clone();
+        ESVectorUtil.maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, (float) delta);
+        maxes = initial.clone();
+        defaultedProvider.getVectorUtilSupport().maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, (float) delta);
+        maxes = initial.clone();
+        defOrPanamaProvider.getVectorUtilSupport().maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, (float) delta);
+    }
+
+    public void testMaxDotProductsByte() {
+        int dims = randomIntBetween(1, 512);
+        byte[][] q = new byte[randomIntBetween(1, 17)][dims];
+        byte[] d = new byte[dims];
+        random().nextBytes(d);
+        for (byte[] v : q) {
+            random().nextBytes(v);
+        }
+        if (randomBoolean()) {
+            // the largest products of two bytes
+            Arrays.fill(d, Byte.MIN_VALUE);
+            Arrays.fill(q[0], Byte.MIN_VALUE);
+        }
+        float[] initial = new float[q.length];
+        float[] expected = new float[q.length];
+        for (int i = 0; i < q.length; i++) {
+            int dotProduct = 0;
+            for (int j = 0; j < dims; j++) {
+                dotProduct += q[i][j] * d[j];
+            }
+            initial[i] = randomBoolean() ? Float.NEGATIVE_INFINITY : dotProduct + (randomBoolean() ? 1 : -1);
+            expected[i] = Math.max(initial[i], dotProduct);
+        }
+        float[] maxes = initial.clone();
+        ESVectorUtil.maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, 0f);
+        maxes = initial.clone();
+        defaultedProvider.getVectorUtilSupport().maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, 0f);
+        maxes = initial.clone();
+        defOrPanamaProvider.getVectorUtilSupport().maxDotProducts(q, d, maxes);
+        assertArrayEquals(expected, maxes, 0f);
+    }
+
+    public void testMaxDotProductsDimensionMismatch() {
+        float[] maxes = new float[2];
+        expectThrows(IllegalArgumentException.class, () -> ESVectorUtil.maxDotProducts(new float[2][4], new float[3], maxes));
+        expectThrows(IllegalArgumentException.class, () -> ESVectorUtil.maxDotProducts(new byte[2][4], new byte[3], maxes));
+        expectThrows(IllegalArgumentException.class, () -> ESVectorUtil.maxDotProducts(new float[3][4], new float[4], maxes));
+    }
+
     void testIpByteBinImpl(ToLongBiFunction<byte[], byte[]> ipByteBinFunc) {
         int iterations = atLeast(50);
         for (int i = 0; i < iterations; i++) {
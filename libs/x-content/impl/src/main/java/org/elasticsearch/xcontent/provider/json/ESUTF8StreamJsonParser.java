@@ -21,10 +21,21 @@ import org.elasticsearch.xcontent.XContentString;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.List;
 
 public class ESUTF8StreamJsonParser extends UTF8StreamJsonParser {
+    private static final VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+    private static final long HIGH_BITS = 0x8080808080808080L;
+    private static final long LOW_BITS = 0x0101010101010101L;
+    private static final long SPACES = LOW_BITS * ' ';
+    private static final long QUOTES = LOW_BITS * '"';
+    private static final long BACKSLASHES = LOW_BITS * '\\';
+
     protected int stringEnd = -1;
     protected int stringLength;
 
@@ -75,6 +86,15 @@ public class ESUTF8StreamJsonParser extends UTF8StreamJsonParser {
         backslashes.clear();
 
         loop: while (true) {
+            // skip runs of plain ASCII eight bytes at a time, stopping at the first byte that needs to be looked at
+            while (ptr + Long.BYTES <= max) {
+                final int plain = plainAsciiPrefix(inputBuffer, ptr);
+                ptr += plain;
+                stringLength += plain;
+                if (plain < Long.BYTES) {
+                    break;
+                }
+            }
             if (ptr >= max) {
                 return null;
             }
@@ -138,6 +158,25 @@ public class ESUTF8StreamJsonParser extends UTF8StreamJsonParser {
         }
     }
 
+    /**
+     * Returns how many of the eight bytes starting at {@code offset} are, in order, plain ASCII characters of a JSON string:
+     * neither a quote, a backslash, a control character nor part of a multi-byte UTF-8 sequence. These are exactly the bytes
+     * with an input code of {@code 0}. All eight bytes are checked at once, "SIMD within a register" style; the zero byte
+     * tests may flag false positives, but only in bytes after a genuine match so the lowest flagged byte is always exact.
+     */
+    static int plainAsciiPrefix(byte[] buffer, int offset) {
+        final long word = (long) LONG_LE.get(buffer, offset);
+        final long special = (word & HIGH_BITS) // non-ASCII
+            | ((word - SPACES) & ~word & HIGH_BITS) // control characters
+            | hasZeroByte(word ^ QUOTES)
+            | hasZeroByte(word ^ BACKSLASHES);
+        return Long.numberOfTrailingZeros(special) >>> 3;
+    }
+
+    private static long hasZeroByte(long word) {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
+
     @Override
     public JsonToken nextToken() throws IOException {
         if (_currToken == JsonToken.VALUE_STRING && _tokenIncomplete && stringEnd > 0) {
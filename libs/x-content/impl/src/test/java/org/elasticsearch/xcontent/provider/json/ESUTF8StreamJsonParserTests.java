@@ -131,6 +131,25 @@ public class ESUTF8StreamJsonParserTests extends ESTestCase {
         });
     }
 
+    public void testPlainAsciiPrefix() {
+        byte[] buffer = new byte[16];
+        for (int iter = 0; iter < 1000; iter++) {
+            for (int i = 0; i < buffer.length; i++) {
+                buffer[i] = (byte) (randomBoolean() ? randomIntBetween(0x20, 0x7F) : randomIntBetween(0, 0xFF));
+            }
+            int offset = randomIntBetween(0, buffer.length - Long.BYTES);
+            int expected = 0;
+            while (expected < Long.BYTES) {
+                int c = buffer[offset + expected] & 0xFF;
+                if (c < 0x20 || c >= 0x80 || c == '"' || c == '\\') {
+                    break;
+                }
+                expected++;
+            }
+            assertThat(ESUTF8StreamJsonParser.plainAsciiPrefix(buffer, offset), Matchers.equalTo(expected));
+        }
+    }
+
     private record TestInput(String input, String result, boolean supportsOptimized) {}
 
     private static final TestInput[] ESCAPE_SEQUENCES = {
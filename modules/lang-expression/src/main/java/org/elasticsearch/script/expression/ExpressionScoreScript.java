@@ -24,16 +24,19 @@ import java.io.IOException;
 
 /**
  * A bridge to evaluate an {@link Expression} against {@link Bindings} in the context
- * of a {@link ScoreScript}.
+ * of a {@link ScoreScript}. Expressions that don't use the score are also evaluated a block of
+ * documents at a time, see {@link ScoreScript#executeBlock}.
  */
 class ExpressionScoreScript implements ScoreScript.LeafFactory {
 
     private final Expression exprScript;
+    private final SimpleBindings bindings;
     private final DoubleValuesSource source;
     private final boolean needsScores;
 
     ExpressionScoreScript(Expression e, SimpleBindings b, boolean needsScores) {
         this.exprScript = e;
+        this.bindings = b;
         this.source = exprScript.getDoubleValuesSource(b);
         this.needsScores = needsScores;
     }
@@ -90,7 +93,82 @@ class ExpressionScoreScript implements ScoreScript.LeafFactory {
                     throw new IllegalStateException("Can't advance to doc using " + exprScript, e);
                 }
             }
+
+            // the values of the variables of the expression for the documents of a block, created on the first block
+            ColumnValues columns;
+
+            @Override
+            public boolean supportsBlockExecution() {
+                // the block is scored before the sub-query scores of its documents are known
+                return needsScores == false;
+            }
+
+            @Override
+            public void executeBlock(int[] docs, int count, double[] scores) {
+                try {
+                    if (columns == null) {
+                        columns = new ColumnValues(exprScript, bindings, leaf);
+                    }
+                    columns.load(docs, count);
+                    for (int i = 0; i < count; i++) {
+                        columns.index = i;
+                        scores[i] = exprScript.evaluate(columns.values);
+                    }
+                } catch (Exception exception) {
+                    throw new GeneralScriptException("Error evaluating " + exprScript, exception);
+                }
+            }
         };
     }
 
+    /**
+     * The values of each variable of an expression for a block of documents. Every variable is read for all the documents
+     * of the block in a tight loop, and the expression is then evaluated for each document over these columns.
+     */
+    private static final class ColumnValues {
+        private final DoubleValues[] sources;
+        private final double[][] columns;
+        /**
+         * The {@link DoubleValues} to evaluate the expression with, reading the columns at {@link #index}.
+         */
+        private final DoubleValues[] values;
+        private int index;
+
+        ColumnValues(Expression expression, Bindings bindings, LeafReaderContext leaf) throws IOException {
+            final int variables = expression.variables.length;
+            this.sources = new DoubleValues[variables];
+            this.columns = new double[variables][0];
+            this.values = new DoubleValues[variables];
+            for (int v = 0; v < variables; v++) {
+                sources[v] = bindings.getDoubleValuesSource(expression.variables[v]).getValues(leaf, null);
+                final int variable = v;
+                values[v] = new DoubleValues() {
+                    @Override
+                    public double doubleValue() {
+                        return columns[variable][index];
+                    }
+
+                    @Override
+                    public boolean advanceExact(int doc) {
+                        return true;
+                    }
+                };
+            }
+        }
+
+        void load(int[] docs, int count) throws IOException {
+            for (int v = 0; v < sources.length; v++) {
+                if (columns[v].length < count) {
+                    columns[v] = new double[docs.length];
+                }
+                final DoubleValues source = sources[v];
+                final double[] column = columns[v];
+                for (int i = 0; i < count; i++) {
+                    // like the expression evaluated a document at a time, documents without a value read 0
+                    column[i] = source.advanceExact(docs[i]) ? source.doubleValue() : 0;
+                }
+            }
+        }
+    }
+
 }
@@ -0,0 +1,93 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.script.expression;
+
+import org.elasticsearch.index.fielddata.IndexNumericFieldData;
+import org.elasticsearch.index.fielddata.LeafNumericFieldData;
+import org.elasticsearch.index.fielddata.SortedNumericDoubleValues;
+import org.elasticsearch.index.mapper.NumberFieldMapper.NumberFieldType;
+import org.elasticsearch.index.mapper.NumberFieldMapper.NumberType;
+import org.elasticsearch.script.DocValuesDocReader;
+import org.elasticsearch.script.ScoreScript;
+import org.elasticsearch.search.lookup.SearchLookup;
+import org.elasticsearch.search.lookup.Source;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.xcontent.XContentType;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class ExpressionScoreScriptTests extends ESTestCase {
+    private ExpressionScriptEngine service;
+    private SearchLookup lookup;
+
+    @Override
+    public void setUp() throws Exception {
+        super.setUp();
+
+        NumberFieldType fieldType = new NumberFieldType("field", NumberType.DOUBLE);
+
+        // every third document has no value
+        SortedNumericDoubleValues doubleValues = mock(SortedNumericDoubleValues.class);
+        when(doubleValues.advanceExact(anyInt())).thenAnswer(invocation -> (int) invocation.getArgument(0) % 3 != 0);
+        when(doubleValues.docValueCount()).thenReturn(1);
+        when(doubleValues.nextValue()).thenReturn(2.718);
+
+        LeafNumericFieldData atomicFieldData = mock(LeafNumericFieldData.class);
+        when(atomicFieldData.getDoubleValues()).thenReturn(doubleValues);
+
+        IndexNumericFieldData fieldData = mock(IndexNumericFieldData.class);
+        when(fieldData.getFieldName()).thenReturn("field");
+        when(fieldData.load(any())).thenReturn(atomicFieldData);
+
+        service = new ExpressionScriptEngine();
+        lookup = new SearchLookup(
+            field -> field.equals("field") ? fieldType : null,
+            (ignored, _lookup, fdt) -> fieldData,
+            (ctx, doc) -> Source.empty(XContentType.JSON)
+        );
+    }
+
+    private ScoreScript.LeafFactory compile(String expression) {
+        ScoreScript.Factory factory = service.compile(null, expression, ScoreScript.CONTEXT, Collections.emptyMap());
+        return factory.newFactory(Collections.emptyMap(), lookup);
+    }
+
+    public void testBlockExecution() throws IOException {
+        ScoreScript.LeafFactory factory = compile("doc['field'].value * 2 + 1");
+        ScoreScript blockScript = factory.newInstance(mock(DocValuesDocReader.class));
+        assertTrue(blockScript.supportsBlockExecution());
+        ScoreScript docScript = factory.newInstance(mock(DocValuesDocReader.class));
+
+        int count = between(1, 128);
+        int[] docs = new int[count + between(0, 10)];
+        for (int i = 0, doc = 0; i < count; i++) {
+            doc += between(1, 5);
+            docs[i] = doc;
+        }
+        double[] scores = new double[docs.length];
+        blockScript.executeBlock(docs, count, scores);
+        for (int i = 0; i < count; i++) {
+            docScript.setDocument(docs[i]);
+            assertEquals(docScript.execute(null), scores[i], 0.0);
+            assertEquals(docs[i] % 3 == 0 ? 1.0 : 2.718 * 2 + 1, scores[i], 0.0);
+        }
+    }
+
+    public void testNoBlockExecutionWithScores() throws IOException {
+        ScoreScript script = compile("doc['field'].value * _score").newInstance(mock(DocValuesDocReader.class));
+        assertFalse(script.supportsBlockExecution());
+    }
+}
@@ -298,6 +298,8 @@ public class TransportVersions {
     public static final TransportVersion HEAP_USAGE_IN_CLUSTER_INFO = def(9_096_0_00);
     public static final TransportVersion NONE_CHUNKING_STRATEGY = def(9_097_0_00);
     public static final TransportVersion PROJECT_DELETION_GLOBAL_BLOCK = def(9_098_0_00);
+    public static final TransportVersion SPARSE_VECTOR_SCORE_PRUNED_TOKENS = def(9_099_0_00);
+    public static final TransportVersion ESQL_EXCHANGE_WAIT_STATS = def(9_100_0_00);
 
     /*
      * STOP! READ THIS FIRST! No, really,
@@ -16,6 +16,7 @@ import org.elasticsearch.action.index.IndexRequest;
 import org.elasticsearch.action.index.IndexResponse;
 import org.elasticsearch.action.support.replication.ReplicationResponse;
 import org.elasticsearch.action.support.replication.TransportWriteAction;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.index.engine.Engine;
 import org.elasticsearch.index.shard.IndexShard;
 import org.elasticsearch.index.translog.Translog;
@@ -55,6 +56,8 @@ class BulkPrimaryExecutionContext {
 
     private final BulkShardRequest request;
     private final IndexShard primary;
+    @Nullable
+    private final BulkShardDocumentPreParser preParser;
     private Translog.Location locationToSync = null;
     private int currentIndex = -1;
 
@@ -65,8 +68,13 @@ class BulkPrimaryExecutionContext {
     private long noopMappingUpdateRetryForMappingVersion;
 
     BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary) {
+        this(request, primary, null);
+    }
+
+    BulkPrimaryExecutionContext(BulkShardRequest request, IndexShard primary, @Nullable BulkShardDocumentPreParser preParser) {
         this.request = request;
         this.primary = primary;
+        this.preParser = preParser;
         advance();
     }
 
@@ -157,6 +165,19 @@ class BulkPrimaryExecutionContext {
         return primary;
     }
 
+    /** returns the document of the current item if it was parsed ahead of execution, see {@link BulkShardDocumentPreParser} */
+    @Nullable
+    public IndexShard.PreParsedDocument takePreParsedDocument() {
+        return preParser == null ? null : preParser.take(currentIndex);
+    }
+
+    /** stops parsing documents ahead of execution, once no more items will be executed */
+    public void stopPreParsing() {
+        if (preParser != null) {
+            preParser.stop();
+        }
+    }
+
     /**
      * sets the request that should actually be executed on the primary. This can be different then the request
      * received from the user (specifically, an update request is translated to an indexing or delete request).
@@ -0,0 +1,240 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.action.bulk;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.action.DocWriteRequest;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.common.unit.ByteSizeUnit;
+import org.elasticsearch.common.util.concurrent.AbstractRunnable;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.index.mapper.SourceToParse;
+import org.elasticsearch.index.shard.IndexShard;
+import org.elasticsearch.plugins.internal.DocumentParsingProvider;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Parses the index requests of a {@link BulkShardRequest} on a bounded number of helper tasks while the primary executes the
+ * items one by one. Parsing is the most expensive part of indexing a document, and unlike sequence number assignment and the
+ * engine write it does not need to happen in order, so parsing ahead lets a single shard bulk use more than one core.
+ * <p>
+ * The sequential loop claims each item's document via {@link #take}. An item that has not been parsed yet, or is still being
+ * parsed, is simply parsed again by the caller, so the indexing loop never waits on a helper task. Documents are parsed with the
+ * mapping at the time of parsing and {@link IndexShard#applyIndexOperationOnPrimary} ignores them if the mapping changed since.
+ * <p>
+ * Parsed documents are held until the indexing loop takes them, so helper tasks only run a bounded distance ahead of it: at
+ * most {@link #MAX_ITEMS_AHEAD} items and {@link #MAX_BYTES_AHEAD} bytes of source that were parsed but not taken yet. A helper
+ * that gets too far ahead stops, and the indexing loop restarts it once it caught up.
+ */
+final class BulkShardDocumentPreParser {
+
+    private static final Logger logger = LogManager.getLogger(BulkShardDocumentPreParser.class);
+
+    /**
+     * The minimum number of index requests a shard bulk request must hold per helper task for parsing ahead to be worth it.
+     */
+    static final int MIN_ITEMS_PER_TASK = 64;
+
+    /**
+     * The maximum number of items helper tasks parse ahead of the item the indexing loop last took.
+     */
+    static final int MAX_ITEMS_AHEAD = 256;
+
+    /**
+     * The maximum number of source bytes of documents that were parsed ahead but not taken by the indexing loop yet.
+     */
+    static final long MAX_BYTES_AHEAD = ByteSizeUnit.MB.toBytes(16);
+
+    private static final Object PARSING = new Object();
+    private static final Object TAKEN = new Object();
+
+    private final BulkShardRequest request;
+    private final IndexShard primary;
+    private final DocumentParsingProvider documentParsingProvider;
+    private final Executor executor;
+    private final AtomicInteger nextItem = new AtomicInteger();
+    private final AtomicLong bytesAhead = new AtomicLong();
+    private final AtomicInteger stoppedTasks = new AtomicInteger();
+    private volatile int nextItemToTake;
+    /**
+     * Per item state: {@code null} until a helper starts parsing, then {@link #PARSING}, then the parsed document. Once the
+     * indexing loop reached the item it is {@link #TAKEN} and helpers skip it.
+     */
+    private final AtomicReferenceArray<Object> items;
+
+    private BulkShardDocumentPreParser(
+        BulkShardRequest request,
+        IndexShard primary,
+        DocumentParsingProvider documentParsingProvider,
+        Executor executor
+    ) {
+        this.request = request;
+        this.primary = primary;
+        this.documentParsingProvider = documentParsingProvider;
+        this.executor = executor;
+        this.items = new AtomicReferenceArray<>(request.items().length);
+    }
+
+    /**
+     * Starts parsing the index requests of the given request ahead of the indexing loop.
+     *
+     * @return the pre-parser, or {@code null} if the request is too small to benefit from parsing ahead
+     */
+    @Nullable
+    static BulkShardDocumentPreParser start(
+        BulkShardRequest request,
+        IndexShard primary,
+        DocumentParsingProvider documentParsingProvider,
+        Executor executor,
+        int maxThreads
+    ) {
+        if (maxThreads <= 0) {
+            return null;
+        }
+        int indexRequests = 0;
+        for (BulkItemRequest item : request.items()) {
+            if (isPreParseable(item)) {
+                indexRequests++;
+            }
+        }
+        final int tasks = Math.min(maxThreads, indexRequests / MIN_ITEMS_PER_TASK);
+        if (tasks <= 0) {
+            return null;
+        }
+        final BulkShardDocumentPreParser preParser = new BulkShardDocumentPreParser(request, primary, documentParsingProvider, executor);
+        for (int i = 0; i < tasks; i++) {
+            executor.execute(preParser.new ParseTask());
+        }
+        return preParser;
+    }
+
+    private static boolean isPreParseable(BulkItemRequest item) {
+        final DocWriteRequest<?> request = item.request();
+        return item.getPrimaryResponse() == null
+            && request instanceof IndexRequest
+            && (request.opType() == DocWriteRequest.OpType.INDEX || request.opType() == DocWriteRequest.OpType.CREATE);
+    }
+
+    /**
+     * Claims the document parsed ahead for the item at the given position, if any. Each item can only be taken once, a retry of
+     * the same item (e.g. after a mapping update) parses it again.
+     */
+    @Nullable
+    IndexShard.PreParsedDocument take(int itemIndex) {
+        if (itemIndex >= nextItemToTake) {
+            nextItemToTake = itemIndex + 1;
+        }
+        final Object state = items.getAndSet(itemIndex, TAKEN);
+        if (state instanceof IndexShard.PreParsedDocument preParsedDocument) {
+            bytesAhead.addAndGet(-sourceBytes(itemIndex));
+            resumeTasks();
+            return preParsedDocument;
+        }
+        resumeTasks();
+        return null;
+    }
+
+    private boolean isTooFarAhead() {
+        return nextItem.get() - nextItemToTake >= MAX_ITEMS_AHEAD || bytesAhead.get() >= MAX_BYTES_AHEAD;
+    }
+
+    /**
+     * Restarts the helper tasks that stopped because they got too far ahead of the indexing loop, if it caught up since.
+     */
+    private void resumeTasks() {
+        int stopped;
+        while ((stopped = stoppedTasks.get()) > 0 && nextItem.get() < items.length() && isTooFarAhead() == false) {
+            if (stoppedTasks.compareAndSet(stopped, stopped - 1)) {
+                executor.execute(new ParseTask());
+            }
+        }
+    }
+
+    private long sourceBytes(int itemIndex) {
+        return ((IndexRequest) request.items()[itemIndex].request()).source().length();
+    }
+
+    /**
+     * Stops all helper tasks from parsing any further items.
+     */
+    void stop() {
+        nextItem.set(items.length());
+    }
+
+    private void parse(int itemIndex) {
+        final BulkItemRequest item = request.items()[itemIndex];
+        if (isPreParseable(item) == false || items.compareAndSet(itemIndex, null, PARSING) == false) {
+            return;
+        }
+        final IndexRequest indexRequest = (IndexRequest) item.request();
+        final SourceToParse sourceToParse = new SourceToParse(
+            indexRequest.id(),
+            indexRequest.source(),
+            indexRequest.getContentType(),
+            indexRequest.routing(),
+            indexRequest.getDynamicTemplates(),
+            indexRequest.getIncludeSourceOnError(),
+            documentParsingProvider.newMeteringParserDecorator(indexRequest)
+        );
+        IndexShard.PreParsedDocument preParsedDocument = null;
+        try {
+            preParsedDocument = primary.preParseDocument(sourceToParse);
+        } catch (Exception e) {
+            // the indexing loop parses the document again and reports the failure on the item
+            logger.trace(() -> "failed to parse document [" + indexRequest.id() + "] ahead of indexing", e);
+        }
+        if (preParsedDocument == null) {
+            items.compareAndSet(itemIndex, PARSING, null);
+            return;
+        }
+        final long bytes = sourceBytes(itemIndex);
+        bytesAhead.addAndGet(bytes);
+        if (items.compareAndSet(itemIndex, PARSING, preParsedDocument) == false) {
+            // the indexing loop reached the item while it was being parsed
+            bytesAhead.addAndGet(-bytes);
+        }
+    }
+
+    private class ParseTask extends AbstractRunnable {
+        @Override
+        protected void doRun() {
+            int itemIndex;
+            while (true) {
+                if (isTooFarAhead()) {
+                    // the indexing loop restarts the task once it caught up
+                    stoppedTasks.incrementAndGet();
+                    resumeTasks();
+                    return;
+                }
+                if ((itemIndex = nextItem.getAndIncrement()) >= items.length()) {
+                    return;
+                }
+                parse(itemIndex);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            // parsing ahead is best effort, the indexing loop parses every document that was not parsed here
+            logger.debug("failed to parse documents ahead of indexing", e);
+        }
+
+        @Override
+        public void onRejection(Exception e) {
+            // rejections are expected under load, the indexing loop parses the documents itself
+            logger.trace("rejected parsing documents ahead of indexing", e);
+        }
+    }
+}
@@ -38,6 +38,7 @@ import org.elasticsearch.cluster.service.ClusterService;
 import org.elasticsearch.common.bytes.BytesReference;
 import org.elasticsearch.common.compress.CompressedXContent;
 import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.settings.Setting;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.xcontent.XContentHelper;
 import org.elasticsearch.core.Nullable;
@@ -94,11 +95,23 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
     // 3. Parsed string fields create new copies of their data, further increasing memory consumption.
     private static final int MAX_EXPANDED_OPERATION_MEMORY_OVERHEAD_FACTOR = 4;
 
+    /**
+     * The maximum number of tasks parsing the documents of a single shard bulk request ahead of the sequential indexing loop, in
+     * addition to the thread executing the request. The tasks run on the shard's write executor. {@code 0} disables parsing ahead.
+     */
+    public static final Setting<Integer> PARALLEL_PARSING_MAX_THREADS = Setting.intSetting(
+        "indices.write.parallel_parsing.max_threads",
+        0,
+        0,
+        Setting.Property.NodeScope
+    );
+
     private final UpdateHelper updateHelper;
     private final MappingUpdatedAction mappingUpdatedAction;
     private final Consumer<Runnable> postWriteAction;
 
     private final DocumentParsingProvider documentParsingProvider;
+    private final int parallelParsingMaxThreads;
 
     @Inject
     public TransportShardBulkAction(
@@ -138,6 +151,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         this.mappingUpdatedAction = mappingUpdatedAction;
         this.postWriteAction = WriteAckDelay.create(settings, threadPool);
         this.documentParsingProvider = documentParsingProvider;
+        this.parallelParsingMaxThreads = PARALLEL_PARSING_MAX_THREADS.get(settings);
     }
 
     private static final TransportRequestOptions TRANSPORT_REQUEST_OPTIONS = TransportRequestOptions.of(
@@ -202,7 +216,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             var index = primary.shardId().getIndex();
             var indexMetadata = clusterState.metadata().lookupProject(index).map(p -> p.index(index)).orElse(null);
             return indexMetadata == null || (indexMetadata.mapping() != null && indexMetadata.getMappingVersion() != initialMappingVersion);
-        }), listener, executor(primary), postWriteRefresh, postWriteAction, documentParsingProvider);
+        }), listener, executor(primary), postWriteRefresh, postWriteAction, documentParsingProvider, parallelParsingMaxThreads);
     }
 
     @Override
@@ -262,10 +276,44 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
         @Nullable PostWriteRefresh postWriteRefresh,
         @Nullable Consumer<Runnable> postWriteAction,
         DocumentParsingProvider documentParsingProvider
+    ) {
+        performOnPrimary(
+            request,
+            primary,
+            updateHelper,
+            nowInMillisSupplier,
+            mappingUpdater,
+            waitForMappingUpdate,
+            listener,
+            executor,
+            postWriteRefresh,
+            postWriteAction,
+            documentParsingProvider,
+            0
+        );
+    }
+
+    public static void performOnPrimary(
+        BulkShardRequest request,
+        IndexShard primary,
+        UpdateHelper updateHelper,
+        LongSupplier nowInMillisSupplier,
+        MappingUpdatePerformer mappingUpdater,
+        ObjLongConsumer<ActionListener<Void>> waitForMappingUpdate,
+        ActionListener<PrimaryResult<BulkShardRequest, BulkShardResponse>> listener,
+        Executor executor,
+        @Nullable PostWriteRefresh postWriteRefresh,
+        @Nullable Consumer<Runnable> postWriteAction,
+        DocumentParsingProvider documentParsingProvider,
+        int parallelParsingMaxThreads
     ) {
         new ActionRunnable<>(listener) {
 
-            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(request, primary);
+            private final BulkPrimaryExecutionContext context = new BulkPrimaryExecutionContext(
+                request,
+                primary,
+                BulkShardDocumentPreParser.start(request, primary, documentParsingProvider, executor, parallelParsingMaxThreads)
+            );
 
             final long startBulkTime = System.nanoTime();
 
@@ -294,6 +342,12 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 finishRequest();
             }
 
+            @Override
+            public void onFailure(Exception e) {
+                context.stopPreParsing();
+                super.onFailure(e);
+            }
+
             @Override
             public void onRejection(Exception e) {
                 // We must finish the outstanding request. Finishing the outstanding request can include
@@ -321,6 +375,12 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                         finishRequest();
                     }
 
+                    @Override
+                    public void onFailure(Exception e) {
+                        context.stopPreParsing();
+                        super.onFailure(e);
+                    }
+
                     @Override
                     public boolean isForceExecution() {
                         return true;
@@ -329,6 +389,7 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
             }
 
             private void finishRequest() {
+                context.stopPreParsing();
                 ActionListener.completeWith(
                     listener,
                     () -> new WritePrimaryResult<>(
@@ -417,15 +478,29 @@ public class TransportShardBulkAction extends TransportWriteAction<BulkShardRequ
                 request.getIncludeSourceOnError(),
                 meteringParserDecorator
             );
-            result = primary.applyIndexOperationOnPrimary(
-                version,
-                request.versionType(),
-                sourceToParse,
-                request.ifSeqNo(),
-                request.ifPrimaryTerm(),
-                request.getAutoGeneratedTimestamp(),
-                request.isRetry()
-            );
+            final IndexShard.PreParsedDocument preParsedDocument = context.takePreParsedDocument();
+            if (preParsedDocument == null) {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry()
+                );
+            } else {
+                result = primary.applyIndexOperationOnPrimary(
+                    version,
+                    request.versionType(),
+                    sourceToParse,
+                    request.ifSeqNo(),
+                    request.ifPrimaryTerm(),
+                    request.getAutoGeneratedTimestamp(),
+                    request.isRetry(),
+                    preParsedDocument
+                );
+            }
             if (result.getResultType() == Engine.Result.Type.MAPPING_UPDATE_REQUIRED) {
                 return handleMappingUpdateRequired(
                     context,
@@ -9,6 +9,9 @@
 
 package org.elasticsearch.cluster.action.index;
 
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.elasticsearch.ExceptionsHelper;
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.admin.indices.mapping.put.PutMappingRequest;
 import org.elasticsearch.action.admin.indices.mapping.put.TransportAutoPutMappingAction;
@@ -23,10 +26,18 @@ import org.elasticsearch.common.util.concurrent.AdjustableSemaphore;
 import org.elasticsearch.common.util.concurrent.RunOnce;
 import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.Index;
+import org.elasticsearch.index.mapper.MapperException;
 import org.elasticsearch.index.mapper.Mapping;
 import org.elasticsearch.injection.guice.Inject;
+import org.elasticsearch.rest.RestStatus;
 import org.elasticsearch.xcontent.XContentType;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Called by shards in the cluster when their mapping was dynamically updated and it needs to be updated
  * in the cluster state meta data (and broadcast to all members).
@@ -49,16 +60,37 @@ public class MappingUpdatedAction {
         Property.NodeScope
     );
 
+    /**
+     * Whether dynamic mapping updates for an index that arrive while another update for the same index is in flight are merged
+     * and sent to the master as a single update once the in-flight one completes.
+     */
+    public static final Setting<Boolean> INDICES_BATCH_DYNAMIC_UPDATES_SETTING = Setting.boolSetting(
+        "indices.mapping.batch_dynamic_updates",
+        true,
+        Property.Dynamic,
+        Property.NodeScope
+    );
+
+    private static final Logger logger = LogManager.getLogger(MappingUpdatedAction.class);
+
     private IndicesAdminClient client;
     private volatile TimeValue dynamicMappingUpdateTimeout;
+    private volatile boolean batchDynamicUpdates;
     private final AdjustableSemaphore semaphore;
+    /**
+     * The updates waiting for the in-flight update of each index to complete. An index has an entry for as long as an update for
+     * it is in flight, updates for indices without an entry are sent right away.
+     */
+    private final Map<Index, List<PendingUpdate>> pendingUpdates = new HashMap<>();
 
     @Inject
     public MappingUpdatedAction(Settings settings, ClusterSettings clusterSettings) {
         this.dynamicMappingUpdateTimeout = INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING.get(settings);
+        this.batchDynamicUpdates = INDICES_BATCH_DYNAMIC_UPDATES_SETTING.get(settings);
         this.semaphore = new AdjustableSemaphore(INDICES_MAX_IN_FLIGHT_UPDATES_SETTING.get(settings), true);
         clusterSettings.addSettingsUpdateConsumer(INDICES_MAPPING_DYNAMIC_TIMEOUT_SETTING, this::setDynamicMappingUpdateTimeout);
         clusterSettings.addSettingsUpdateConsumer(INDICES_MAX_IN_FLIGHT_UPDATES_SETTING, this::setMaxInFlightUpdates);
+        clusterSettings.addSettingsUpdateConsumer(INDICES_BATCH_DYNAMIC_UPDATES_SETTING, this::setBatchDynamicUpdates);
     }
 
     private void setDynamicMappingUpdateTimeout(TimeValue dynamicMappingUpdateTimeout) {
@@ -69,6 +101,10 @@ public class MappingUpdatedAction {
         semaphore.setMaxPermits(maxInFlightUpdates);
     }
 
+    private void setBatchDynamicUpdates(boolean batchDynamicUpdates) {
+        this.batchDynamicUpdates = batchDynamicUpdates;
+    }
+
     public void setClient(Client client) {
         this.client = client.admin().indices();
     }
@@ -80,6 +116,37 @@ public class MappingUpdatedAction {
      * potentially waiting for a master node to be available.
      */
     public void updateMappingOnMaster(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+        if (batchDynamicUpdates && index != null) {
+            synchronized (pendingUpdates) {
+                final List<PendingUpdate> pending = pendingUpdates.get(index);
+                if (pending != null) {
+                    // an update for this index is in flight, this one is sent along with the others that arrive in the meantime
+                    pending.add(new PendingUpdate(mappingUpdate, listener));
+                    return;
+                }
+                pendingUpdates.put(index, new ArrayList<>());
+            }
+            final RunOnce release = new RunOnce(semaphore::release);
+            try {
+                semaphore.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                // no permit was acquired, so fail the updates that were queued in the meantime rather than sending them
+                final List<PendingUpdate> queued;
+                synchronized (pendingUpdates) {
+                    queued = pendingUpdates.remove(index);
+                }
+                assert queued != null : "no pending updates for [" + index + "]";
+                try {
+                    listener.onFailure(e);
+                } finally {
+                    ActionListener.onFailure(queued.stream().map(PendingUpdate::listener).toList(), e);
+                }
+                return;
+            }
+            sendUpdates(index, List.of(new PendingUpdate(mappingUpdate, listener)), () -> onUpdatesSent(index, release));
+            return;
+        }
         final RunOnce release = new RunOnce(semaphore::release);
         try {
             semaphore.acquire();
@@ -99,6 +166,102 @@ public class MappingUpdatedAction {
         }
     }
 
+    /**
+     * Called once the updates in flight for the given index completed. Sends the updates that arrived in the meantime as a single
+     * batch, holding on to the same permit, or releases the permit if there are none.
+     */
+    private void onUpdatesSent(Index index, Runnable release) {
+        final List<PendingUpdate> batch;
+        synchronized (pendingUpdates) {
+            batch = pendingUpdates.remove(index);
+            assert batch != null : "no pending updates for [" + index + "]";
+            if (batch.isEmpty()) {
+                release.run();
+                return;
+            }
+            pendingUpdates.put(index, new ArrayList<>());
+        }
+        sendUpdates(index, batch, () -> onUpdatesSent(index, release));
+    }
+
+    private void sendUpdates(Index index, List<PendingUpdate> updates, Runnable onSent) {
+        if (updates.size() == 1) {
+            final PendingUpdate update = updates.get(0);
+            sendUpdateMappingSafely(index, update.mappingUpdate(), ActionListener.runAfter(update.listener(), onSent::run));
+            return;
+        }
+        Mapping merged = updates.get(0).mappingUpdate();
+        try {
+            for (int i = 1; i < updates.size(); i++) {
+                merged = merged.mergeDynamicUpdate(updates.get(i).mappingUpdate());
+            }
+        } catch (Exception e) {
+            logger.debug(() -> "failed to merge [" + updates.size() + "] dynamic mapping updates for [" + index + "]", e);
+            sendUpdatesOneByOne(index, updates.iterator(), onSent);
+            return;
+        }
+        final List<ActionListener<Void>> listeners = updates.stream().map(PendingUpdate::listener).toList();
+        sendUpdateMappingSafely(index, merged, new ActionListener<>() {
+            @Override
+            public void onResponse(Void unused) {
+                try {
+                    ActionListener.onResponse(listeners, null);
+                } finally {
+                    onSent.run();
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                logger.debug(() -> "failed to apply [" + updates.size() + "] merged dynamic mapping updates for [" + index + "]", e);
+                if (isMappingValidationFailure(e)) {
+                    // don't let a single bad update fail all the others that were merged with it
+                    sendUpdatesOneByOne(index, updates.iterator(), onSent);
+                    return;
+                }
+                // the master couldn't be reached or didn't process the update in time, sending each update again would only
+                // multiply the load on the master, so fail them all like they would have failed had they been sent on their own
+                try {
+                    ActionListener.onFailure(listeners, e);
+                } finally {
+                    onSent.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * Whether the master rejected the mapping update itself, as opposed to failing to process it, for instance because it timed
+     * out or because of a transport failure.
+     */
+    private static boolean isMappingValidationFailure(Exception e) {
+        final Throwable cause = ExceptionsHelper.unwrapCause(e);
+        return cause instanceof MapperException || ExceptionsHelper.status(cause) == RestStatus.BAD_REQUEST;
+    }
+
+    private void sendUpdatesOneByOne(Index index, Iterator<PendingUpdate> updates, Runnable onSent) {
+        if (updates.hasNext() == false) {
+            onSent.run();
+            return;
+        }
+        final PendingUpdate update = updates.next();
+        sendUpdateMappingSafely(
+            index,
+            update.mappingUpdate(),
+            ActionListener.runAfter(update.listener(), () -> sendUpdatesOneByOne(index, updates, onSent))
+        );
+    }
+
+    private void sendUpdateMappingSafely(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+        try {
+            sendUpdateMapping(index, mappingUpdate, listener);
+        } catch (Exception e) {
+            listener.onFailure(e);
+        }
+    }
+
+    private record PendingUpdate(Mapping mappingUpdate, ActionListener<Void> listener) {}
+
     // used by tests
     int blockedThreads() {
         return semaphore.getQueueLength();
@@ -129,7 +129,14 @@ public class ScriptScoreQuery extends Query {
                     public BulkScorer bulkScorer() throws IOException {
                         if (minScore == null) {
                             final BulkScorer subQueryBulkScorer = subQueryScorerSupplier.bulkScorer();
-                            return new ScriptScoreBulkScorer(subQueryBulkScorer, subQueryScoreMode, makeScoreScript(context), boost);
+                            final ScoreScript scoreScript = makeScoreScript(context);
+                            if (subQueryScoreMode == ScoreMode.COMPLETE_NO_SCORES
+                                && scoreMode.needsScores()
+                                && scoreScript.supportsBlockExecution()) {
+                                // the script depends on nothing but the doc id, so it can be evaluated a block of docs at a time
+                                return new BlockScriptScoreBulkScorer(subQueryBulkScorer, scoreScript, boost);
+                            }
+                            return new ScriptScoreBulkScorer(subQueryBulkScorer, subQueryScoreMode, scoreScript, boost);
                         } else {
                             return super.bulkScorer();
                         }
@@ -235,6 +242,14 @@ public class ScriptScoreQuery extends Query {
         return Objects.hash(classHash(), subQuery, script, minScore, indexName, shardId, indexVersion);
     }
 
+    private static void checkScore(float score, int docId) {
+        if (score < 0f || Float.isNaN(score)) {
+            throw new IllegalArgumentException(
+                "script_score script returned an invalid score [" + score + "] for doc [" + docId + "]. Must be a non-negative score!"
+            );
+        }
+    }
+
     private static class ScriptScorer extends Scorer {
         private final ScoreScript scoreScript;
         private final Scorer subQueryScorer;
@@ -262,16 +277,7 @@ public class ScriptScoreQuery extends Query {
             int docId = docID();
             scoreScript.setDocument(docId);
             float score = (float) scoreScript.execute(explanation);
-            if (score < 0f || Float.isNaN(score)) {
-                throw new IllegalArgumentException(
-                    "script_score script returned an invalid score ["
-                        + score
-                        + "] "
-                        + "for doc ["
-                        + docId
-                        + "]. Must be a non-negative score!"
-                );
-            }
+            checkScore(score, docId);
             return score * boost;
         }
 
@@ -324,16 +330,7 @@ public class ScriptScoreQuery extends Query {
             int docId = docIDSupplier.getAsInt();
             scoreScript.setDocument(docId);
             float score = (float) scoreScript.execute(null);
-            if (score < 0f || Float.isNaN(score)) {
-                throw new IllegalArgumentException(
-                    "script_score script returned an invalid score ["
-                        + score
-                        + "] "
-                        + "for doc ["
-                        + docId
-                        + "]. Must be a non-negative score!"
-                );
-            }
+            checkScore(score, docId);
             return score * boost;
         }
 
@@ -386,4 +383,109 @@ public class ScriptScoreQuery extends Query {
 
     }
 
+    /**
+     * A {@link BulkScorer} for scripts that don't need the sub-query's score and {@link ScoreScript#supportsBlockExecution support}
+     * block execution. Matching docs are buffered into blocks of
+     * {@link #BLOCK_SIZE} and handed to the collector in order. The first time the collector asks for the score of a doc
+     * of the block, the whole block is scored with a single call to {@link ScoreScript#executeBlock}, which keeps the
+     * per-document overhead of the script out of the hot loop. Blocks whose scores are never read are never scored.
+     */
+    static class BlockScriptScoreBulkScorer extends BulkScorer {
+        static final int BLOCK_SIZE = 128;
+
+        private final BulkScorer subQueryBulkScorer;
+        private final ScoreScript scoreScript;
+        private final float boost;
+        private final int[] docs = new int[BLOCK_SIZE];
+        private final double[] scores = new double[BLOCK_SIZE];
+
+        BlockScriptScoreBulkScorer(BulkScorer subQueryBulkScorer, ScoreScript scoreScript, float boost) {
+            this.subQueryBulkScorer = subQueryBulkScorer;
+            this.scoreScript = scoreScript;
+            this.boost = boost;
+        }
+
+        @Override
+        public int score(LeafCollector collector, Bits acceptDocs, int min, int max) throws IOException {
+            BlockCollector blockCollector = new BlockCollector(collector);
+            int next = subQueryBulkScorer.score(blockCollector, acceptDocs, min, max);
+            blockCollector.flush();
+            return next;
+        }
+
+        @Override
+        public long cost() {
+            return subQueryBulkScorer.cost();
+        }
+
+        private class BlockCollector implements LeafCollector {
+            private final LeafCollector in;
+            private final BlockScorable scorable = new BlockScorable();
+            private boolean scorerSet = false;
+            private int count = 0;
+
+            BlockCollector(LeafCollector in) {
+                this.in = in;
+            }
+
+            @Override
+            public void setScorer(Scorable scorer) throws IOException {
+                // the sub-query's scores are not needed, the collector always sees the block scorable
+                if (scorerSet == false) {
+                    in.setScorer(scorable);
+                    scorerSet = true;
+                }
+            }
+
+            @Override
+            public void collect(int doc) throws IOException {
+                docs[count++] = doc;
+                if (count == BLOCK_SIZE) {
+                    flush();
+                }
+            }
+
+            @Override
+            public DocIdSetIterator competitiveIterator() throws IOException {
+                // buffered docs are collected later than they are matched, which only makes the competitive iterator lag behind
+                return in.competitiveIterator();
+            }
+
+            void flush() throws IOException {
+                final int size = count;
+                if (size == 0) {
+                    return;
+                }
+                count = 0;
+                if (scorerSet == false) {
+                    in.setScorer(scorable);
+                    scorerSet = true;
+                }
+                scorable.size = size;
+                scorable.scored = false;
+                for (int i = 0; i < size; i++) {
+                    scorable.index = i;
+                    in.collect(docs[i]);
+                }
+            }
+        }
+
+        private class BlockScorable extends Scorable {
+            private int index;
+            private int size;
+            private boolean scored;
+
+            @Override
+            public float score() {
+                if (scored == false) {
+                    scoreScript.executeBlock(docs, size, scores);
+                    scored = true;
+                }
+                float score = (float) scores[index];
+                checkScore(score, docs[index]);
+                return score * boost;
+            }
+        }
+    }
+
 }
@@ -15,10 +15,12 @@ import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.MergeState;
 import org.apache.lucene.index.SegmentWriteState;
 import org.apache.lucene.internal.hppc.IntArrayList;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
 import org.apache.lucene.util.VectorUtil;
 import org.apache.lucene.util.quantization.OptimizedScalarQuantizer;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.index.codec.vectors.cluster.HierarchicalKMeans;
 import org.elasticsearch.index.codec.vectors.cluster.KMeansResult;
 import org.elasticsearch.logging.LogManager;
@@ -202,7 +204,10 @@ public class DefaultIVFVectorsWriter extends IVFVectorsWriter {
         float[] globalCentroid
     ) throws IOException {
         // TODO: take advantage of prior generated clusters from mergeState in the future
-        return calculateAndWriteCentroids(fieldInfo, floatVectorValues, centroidOutput, globalCentroid, false);
+        final TaskExecutor executor = mergeState.intraMergeTaskExecutor == null
+            ? null
+            : new TaskExecutor(mergeState.intraMergeTaskExecutor);
+        return calculateAndWriteCentroids(fieldInfo, floatVectorValues, centroidOutput, globalCentroid, false, executor);
     }
 
     CentroidAssignments calculateAndWriteCentroids(
@@ -211,7 +216,7 @@ public class DefaultIVFVectorsWriter extends IVFVectorsWriter {
         IndexOutput centroidOutput,
         float[] globalCentroid
     ) throws IOException {
-        return calculateAndWriteCentroids(fieldInfo, floatVectorValues, centroidOutput, globalCentroid, true);
+        return calculateAndWriteCentroids(fieldInfo, floatVectorValues, centroidOutput, globalCentroid, true, null);
     }
 
     /**
@@ -223,6 +228,7 @@ public class DefaultIVFVectorsWriter extends IVFVectorsWriter {
      * @param centroidOutput the centroid output
      * @param globalCentroid the global centroid, calculated by this method and used to quantize the centroids
      * @param cacheCentroids whether the centroids are kept or discarded once computed
+     * @param executor if not {@code null}, used to assign vectors to centroids concurrently
      * @return the vector assignments, soar assignments, and if asked the centroids themselves that were computed
      * @throws IOException if an I/O error occurs
      */
@@ -231,13 +237,17 @@ public class DefaultIVFVectorsWriter extends IVFVectorsWriter {
         FloatVectorValues floatVectorValues,
         IndexOutput centroidOutput,
         float[] globalCentroid,
-        boolean cacheCentroids
+        boolean cacheCentroids,
+        @Nullable TaskExecutor executor
     ) throws IOException {
 
         long nanoTime = System.nanoTime();
 
         // TODO: consider hinting / bootstrapping hierarchical kmeans with the prior segments centroids
-        KMeansResult kMeansResult = new HierarchicalKMeans(floatVectorValues.dimension()).cluster(floatVectorValues, vectorPerCluster);
+        KMeansResult kMeansResult = new HierarchicalKMeans(floatVectorValues.dimension(), executor).cluster(
+            floatVectorValues,
+            vectorPerCluster
+        );
         float[][] centroids = kMeansResult.centroids();
         int[] assignments = kMeansResult.assignments();
         int[] soarAssignments = kMeansResult.soarAssignments();
@@ -262,23 +272,27 @@ public class DefaultIVFVectorsWriter extends IVFVectorsWriter {
             logger.debug("final centroid count: {}", centroids.length);
         }
 
+        // group the vectors by cluster in a single pass over each assignment array, primary assignments before SOAR ones
+        int[] clusterSizes = new int[centroids.length];
+        for (int c : assignments) {
+            clusterSizes[c]++;
+        }
+        for (int c : soarAssignments) {
+            if (c >= 0) {
+                clusterSizes[c]++;
+            }
+        }
         IntArrayList[] assignmentsByCluster = new IntArrayList[centroids.length];
         for (int c = 0; c < centroids.length; c++) {
-            IntArrayList cluster = new IntArrayList(vectorPerCluster);
-            for (int j = 0; j < assignments.length; j++) {
-                if (assignments[j] == c) {
-                    cluster.add(j);
-                }
-            }
-
-            for (int j = 0; j < soarAssignments.length; j++) {
-                if (soarAssignments[j] == c) {
-                    cluster.add(j);
-                }
+            assignmentsByCluster[c] = new IntArrayList(clusterSizes[c]);
+        }
+        for (int j = 0; j < assignments.length; j++) {
+            assignmentsByCluster[assignments[j]].add(j);
+        }
+        for (int j = 0; j < soarAssignments.length; j++) {
+            if (soarAssignments[j] >= 0) {
+                assignmentsByCluster[soarAssignments[j]].add(j);
             }
-
-            cluster.trimToSize();
-            assignmentsByCluster[c] = cluster;
         }
 
         if (cacheCentroids) {
@@ -35,6 +35,8 @@ public final class ES814HnswScalarQuantizedVectorsFormat extends KnnVectorsForma
 
     private final int beamWidth;
 
+    private final int numMergeWorkers;
+
     /** The format for storing, reading, merging vectors on disk */
     private final FlatVectorsFormat flatVectorsFormat;
 
@@ -43,6 +45,21 @@ public final class ES814HnswScalarQuantizedVectorsFormat extends KnnVectorsForma
     }
 
     public ES814HnswScalarQuantizedVectorsFormat(int maxConn, int beamWidth, Float confidenceInterval, int bits, boolean compress) {
+        this(maxConn, beamWidth, confidenceInterval, bits, compress, 1);
+    }
+
+    /**
+     * @param numMergeWorkers the number of tasks the graph of a merged segment is built with, these run on the intra-merge
+     *     executor of the merge scheduler
+     */
+    public ES814HnswScalarQuantizedVectorsFormat(
+        int maxConn,
+        int beamWidth,
+        Float confidenceInterval,
+        int bits,
+        boolean compress,
+        int numMergeWorkers
+    ) {
         super(NAME);
         if (maxConn <= 0 || maxConn > MAXIMUM_MAX_CONN) {
             throw new IllegalArgumentException(
@@ -54,14 +71,18 @@ public final class ES814HnswScalarQuantizedVectorsFormat extends KnnVectorsForma
                 "beamWidth must be positive and less than or equal to " + MAXIMUM_BEAM_WIDTH + "; beamWidth=" + beamWidth
             );
         }
+        if (numMergeWorkers <= 0) {
+            throw new IllegalArgumentException("numMergeWorkers must be positive; numMergeWorkers=" + numMergeWorkers);
+        }
         this.maxConn = maxConn;
         this.beamWidth = beamWidth;
+        this.numMergeWorkers = numMergeWorkers;
         this.flatVectorsFormat = new ES814ScalarQuantizedVectorsFormat(confidenceInterval, bits, compress);
     }
 
     @Override
     public KnnVectorsWriter fieldsWriter(SegmentWriteState state) throws IOException {
-        return new Lucene99HnswVectorsWriter(state, maxConn, beamWidth, flatVectorsFormat.fieldsWriter(state), 1, null);
+        return new Lucene99HnswVectorsWriter(state, maxConn, beamWidth, flatVectorsFormat.fieldsWriter(state), numMergeWorkers, null);
     }
 
     @Override
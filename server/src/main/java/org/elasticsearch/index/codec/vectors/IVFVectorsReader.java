@@ -277,7 +277,13 @@ public abstract class IVFVectorsReader extends KnnVectorsReader {
             // todo do we need direct access to the raw centroid???, this is used for quantizing, maybe hydrating and quantizing
             // is enough?
             expectedDocs += scorer.resetPostingsScorer(centroidOrdinal, centroidQueryScorer.centroid(centroidOrdinal));
-            actualDocs += scorer.visit(knnCollector);
+            int scoredDocs = scorer.visit(knnCollector);
+            actualDocs += scoredDocs;
+            if (acceptDocs != null && scoredDocs == 0) {
+                // none of the documents of this posting list matches the filter, only its doc ids were read so it does not
+                // count as a probe, otherwise selective filters would exhaust nProbe on centroids that cannot contribute
+                --centroidsVisited;
+            }
         }
         if (acceptDocs != null) {
             float unfilteredRatioVisited = (float) expectedDocs / numVectors;
@@ -342,7 +342,8 @@ public abstract class IVFVectorsWriter extends KnnVectorsWriter {
 
             @Override
             public FloatVectorValues copy() {
-                return this;
+                // clustering may read the vectors from several threads, each needs its own file pointer and buffer
+                return getFloatVectorValues(fieldInfo, randomAccessInput.clone(), numVectors);
             }
 
             @Override
@@ -55,6 +55,13 @@ public class OptimizedScalarQuantizer {
         this(similarityFunction, DEFAULT_LAMBDA, DEFAULT_ITERS);
     }
 
+    /**
+     * Returns a new quantizer with the same parameters. Quantizers hold scratch space, so each thread needs its own.
+     */
+    public OptimizedScalarQuantizer copy() {
+        return new OptimizedScalarQuantizer(similarityFunction, lambda, iters);
+    }
+
     public record QuantizationResult(float lowerInterval, float upperInterval, float additionalCorrection, int quantizedComponentSum) {}
 
     public QuantizationResult[] multiScalarQuantize(float[] vector, byte[][] destinations, byte[] bits, float[] centroid) {
@@ -79,18 +86,14 @@ public class OptimizedScalarQuantizer {
             // Linearly scale the interval to the standard deviation of the vector, ensuring we are within the min/max bounds
             initInterval(bits[i], vecStd, vecMean, min, max, intervalScratch);
             optimizeIntervals(intervalScratch, vector, norm2, points);
-            float nSteps = ((1 << bits[i]) - 1);
-            float a = intervalScratch[0];
-            float b = intervalScratch[1];
-            float step = (b - a) / nSteps;
-            int sumQuery = 0;
             // Now we have the optimized intervals, quantize the vector
-            for (int h = 0; h < vector.length; h++) {
-                float xi = (float) clamp(vector[h], a, b);
-                int assignment = Math.round((xi - a) / step);
-                sumQuery += assignment;
-                destinations[i][h] = (byte) assignment;
-            }
+            int sumQuery = ESVectorUtil.quantizeVectorWithIntervals(
+                vector,
+                destinations[i],
+                intervalScratch[0],
+                intervalScratch[1],
+                bits[i]
+            );
             results[i] = new QuantizationResult(
                 intervalScratch[0],
                 intervalScratch[1],
@@ -121,18 +124,8 @@ public class OptimizedScalarQuantizer {
         // Linearly scale the interval to the standard deviation of the vector, ensuring we are within the min/max bounds
         initInterval(bits, vecStd, vecMean, min, max, intervalScratch);
         optimizeIntervals(intervalScratch, vector, norm2, points);
-        float nSteps = ((1 << bits) - 1);
         // Now we have the optimized intervals, quantize the vector
-        float a = intervalScratch[0];
-        float b = intervalScratch[1];
-        float step = (b - a) / nSteps;
-        int sumQuery = 0;
-        for (int h = 0; h < vector.length; h++) {
-            float xi = (float) clamp(vector[h], a, b);
-            int assignment = Math.round((xi - a) / step);
-            sumQuery += assignment;
-            destination[h] = (byte) assignment;
-        }
+        int sumQuery = ESVectorUtil.quantizeVectorWithIntervals(vector, destination, intervalScratch[0], intervalScratch[1], bits);
         return new QuantizationResult(
             intervalScratch[0],
             intervalScratch[1],
@@ -10,7 +10,9 @@
 package org.elasticsearch.index.codec.vectors.cluster;
 
 import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.core.Nullable;
 
 import java.io.IOException;
 
@@ -29,17 +31,39 @@ public class HierarchicalKMeans {
     final int samplesPerCluster;
     final int clustersPerNeighborhood;
     final float soarLambda;
+    @Nullable
+    final TaskExecutor executor;
 
     public HierarchicalKMeans(int dimension) {
-        this(dimension, MAX_ITERATIONS_DEFAULT, SAMPLES_PER_CLUSTER_DEFAULT, MAXK, DEFAULT_SOAR_LAMBDA);
+        this(dimension, null);
+    }
+
+    /**
+     * @param dimension the dimension of the vectors to cluster
+     * @param executor if not {@code null}, used to assign vectors to their nearest centroids concurrently
+     */
+    public HierarchicalKMeans(int dimension, @Nullable TaskExecutor executor) {
+        this(dimension, MAX_ITERATIONS_DEFAULT, SAMPLES_PER_CLUSTER_DEFAULT, MAXK, DEFAULT_SOAR_LAMBDA, executor);
     }
 
     HierarchicalKMeans(int dimension, int maxIterations, int samplesPerCluster, int clustersPerNeighborhood, float soarLambda) {
+        this(dimension, maxIterations, samplesPerCluster, clustersPerNeighborhood, soarLambda, null);
+    }
+
+    HierarchicalKMeans(
+        int dimension,
+        int maxIterations,
+        int samplesPerCluster,
+        int clustersPerNeighborhood,
+        float soarLambda,
+        @Nullable TaskExecutor executor
+    ) {
         this.dimension = dimension;
         this.maxIterations = maxIterations;
         this.samplesPerCluster = samplesPerCluster;
         this.clustersPerNeighborhood = clustersPerNeighborhood;
         this.soarLambda = soarLambda;
+        this.executor = executor;
     }
 
     /**
@@ -69,7 +93,13 @@ public class HierarchicalKMeans {
         if (kMeansIntermediate.centroids().length > 1 && kMeansIntermediate.centroids().length < vectors.size()) {
             float f = Math.min((float) samplesPerCluster / targetSize, 1.0f);
             int localSampleSize = (int) (f * vectors.size());
-            KMeansLocal kMeansLocal = new KMeansLocal(localSampleSize, maxIterations, clustersPerNeighborhood, DEFAULT_SOAR_LAMBDA);
+            KMeansLocal kMeansLocal = new KMeansLocal(
+                localSampleSize,
+                maxIterations,
+                clustersPerNeighborhood,
+                DEFAULT_SOAR_LAMBDA,
+                executor
+            );
             kMeansLocal.cluster(vectors, kMeansIntermediate, true);
         }
 
@@ -87,7 +117,7 @@ public class HierarchicalKMeans {
         // TODO: instead of creating a sub-cluster assignments reuse the parent array each time
         int[] assignments = new int[vectors.size()];
 
-        KMeansLocal kmeans = new KMeansLocal(m, maxIterations);
+        KMeansLocal kmeans = new KMeansLocal(m, maxIterations, executor);
         float[][] centroids = KMeansLocal.pickInitialCentroids(vectors, k);
         KMeansIntermediate kMeansIntermediate = new KMeansIntermediate(centroids);
         kmeans.cluster(vectors, kMeansIntermediate);
@@ -96,23 +126,29 @@ public class HierarchicalKMeans {
         // handle assignment here so we can track distance and cluster size
         int[] centroidVectorCount = new int[centroids.length];
         float[][] nextCentroids = new float[centroids.length][dimension];
-        for (int i = 0; i < vectors.size(); i++) {
-            float smallest = Float.MAX_VALUE;
-            int centroidIdx = -1;
-            float[] vector = vectors.vectorValue(i);
-            for (int j = 0; j < centroids.length; j++) {
-                float[] centroid = centroids[j];
-                float d = VectorUtil.squareDistance(vector, centroid);
-                if (d < smallest) {
-                    smallest = d;
-                    centroidIdx = j;
+        KMeansLocal.forEachRange(executor, vectors, vectors.size(), (values, start, end) -> {
+            for (int i = start; i < end; i++) {
+                float smallest = Float.MAX_VALUE;
+                int centroidIdx = -1;
+                float[] vector = values.vectorValue(i);
+                for (int j = 0; j < centroids.length; j++) {
+                    float[] centroid = centroids[j];
+                    float d = VectorUtil.squareDistance(vector, centroid);
+                    if (d < smallest) {
+                        smallest = d;
+                        centroidIdx = j;
+                    }
                 }
+                assignments[i] = centroidIdx;
             }
+        });
+        for (int i = 0; i < vectors.size(); i++) {
+            int centroidIdx = assignments[i];
+            float[] vector = vectors.vectorValue(i);
             centroidVectorCount[centroidIdx]++;
             for (int j = 0; j < dimension; j++) {
                 nextCentroids[centroidIdx][j] += vector[j];
             }
-            assignments[i] = centroidIdx;
         }
 
         // update centroids based on assignments of all vectors
@@ -10,7 +10,9 @@
 package org.elasticsearch.index.codec.vectors.cluster;
 
 import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.simdvec.ESVectorUtil;
 
 import java.io.IOException;
@@ -18,6 +20,8 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * k-means implementation specific to the needs of the {@link HierarchicalKMeans} algorithm that deals specifically
@@ -26,20 +30,65 @@ import java.util.Random;
  */
 class KMeansLocal {
 
+    /** the minimum number of vectors a task assigns to centroids when assignments are computed concurrently */
+    static final int MIN_VECTORS_PER_TASK = 4096;
+    /** the maximum number of tasks vector assignments are split into */
+    static final int MAX_TASKS = 64;
+
     final int sampleSize;
     final int maxIterations;
     final int clustersPerNeighborhood;
     final float soarLambda;
+    @Nullable
+    final TaskExecutor executor;
 
-    KMeansLocal(int sampleSize, int maxIterations, int clustersPerNeighborhood, float soarLambda) {
+    KMeansLocal(int sampleSize, int maxIterations, int clustersPerNeighborhood, float soarLambda, @Nullable TaskExecutor executor) {
         this.sampleSize = sampleSize;
         this.maxIterations = maxIterations;
         this.clustersPerNeighborhood = clustersPerNeighborhood;
         this.soarLambda = soarLambda;
+        this.executor = executor;
+    }
+
+    KMeansLocal(int sampleSize, int maxIterations, int clustersPerNeighborhood, float soarLambda) {
+        this(sampleSize, maxIterations, clustersPerNeighborhood, soarLambda, null);
+    }
+
+    KMeansLocal(int sampleSize, int maxIterations, @Nullable TaskExecutor executor) {
+        this(sampleSize, maxIterations, -1, -1f, executor);
     }
 
     KMeansLocal(int sampleSize, int maxIterations) {
-        this(sampleSize, maxIterations, -1, -1f);
+        this(sampleSize, maxIterations, null);
+    }
+
+    @FunctionalInterface
+    interface RangeConsumer {
+        void accept(FloatVectorValues vectors, int start, int end) throws IOException;
+    }
+
+    /**
+     * Calls the consumer for contiguous ranges covering the first {@code size} vectors. If an executor is given and there are
+     * enough vectors the ranges are processed concurrently, each with its own copy of the vectors since
+     * {@link FloatVectorValues} are not thread-safe. Consumers must only write to per vector state within their range.
+     */
+    static void forEachRange(@Nullable TaskExecutor executor, FloatVectorValues vectors, int size, RangeConsumer consumer)
+        throws IOException {
+        if (executor == null || size < 2 * MIN_VECTORS_PER_TASK) {
+            consumer.accept(vectors, 0, size);
+            return;
+        }
+        final int rangeSize = Math.max(MIN_VECTORS_PER_TASK, (size + MAX_TASKS - 1) / MAX_TASKS);
+        List<Callable<Void>> tasks = new ArrayList<>((size + rangeSize - 1) / rangeSize);
+        for (int start = 0; start < size; start += rangeSize) {
+            final int rangeStart = start;
+            final int rangeEnd = Math.min(size, start + rangeSize);
+            tasks.add(() -> {
+                consumer.accept(vectors.copy(), rangeStart, rangeEnd);
+                return null;
+            });
+        }
+        executor.invokeAll(tasks);
     }
 
     /**
@@ -77,7 +126,7 @@ class KMeansLocal {
         int sampleSize,
         List<int[]> neighborhoods
     ) throws IOException {
-        boolean changed = false;
+        AtomicBoolean changed = new AtomicBoolean();
         int dim = vectors.dimension();
         int[] centroidCounts = new int[centroids.length];
 
@@ -85,19 +134,31 @@ class KMeansLocal {
             Arrays.fill(nextCentroids[i], 0.0f);
         }
 
-        for (int i = 0; i < sampleSize; i++) {
-            float[] vector = vectors.vectorValue(i);
-            int[] neighborOffsets = null;
-            int centroidIdx = -1;
-            if (neighborhoods != null) {
-                neighborOffsets = neighborhoods.get(assignments[i]);
-                centroidIdx = assignments[i];
+        // finding the nearest centroids dominates the cost of a step, so it is the part that may run concurrently
+        forEachRange(executor, vectors, sampleSize, (values, start, end) -> {
+            boolean rangeChanged = false;
+            for (int i = start; i < end; i++) {
+                float[] vector = values.vectorValue(i);
+                int[] neighborOffsets = null;
+                int centroidIdx = -1;
+                if (neighborhoods != null) {
+                    neighborOffsets = neighborhoods.get(assignments[i]);
+                    centroidIdx = assignments[i];
+                }
+                int bestCentroidOffset = getBestCentroidOffset(centroids, vector, centroidIdx, neighborOffsets);
+                if (assignments[i] != bestCentroidOffset) {
+                    rangeChanged = true;
+                }
+                assignments[i] = bestCentroidOffset;
             }
-            int bestCentroidOffset = getBestCentroidOffset(centroids, vector, centroidIdx, neighborOffsets);
-            if (assignments[i] != bestCentroidOffset) {
-                changed = true;
+            if (rangeChanged) {
+                changed.set(true);
             }
-            assignments[i] = bestCentroidOffset;
+        });
+
+        for (int i = 0; i < sampleSize; i++) {
+            float[] vector = vectors.vectorValue(i);
+            int bestCentroidOffset = assignments[i];
             centroidCounts[bestCentroidOffset]++;
             for (short d = 0; d < dim; d++) {
                 nextCentroids[bestCentroidOffset][d] += vector[d];
@@ -113,7 +174,7 @@ class KMeansLocal {
             }
         }
 
-        return changed;
+        return changed.get();
     }
 
     int getBestCentroidOffset(float[][] centroids, float[] vector, int centroidIdx, int[] centroidOffsets) {
@@ -179,38 +240,40 @@ class KMeansLocal {
 
         int[] spilledAssignments = new int[assignments.length];
 
-        float[] diffs = new float[vectors.dimension()];
-        for (int i = 0; i < vectors.size(); i++) {
-            float[] vector = vectors.vectorValue(i);
-
-            int currAssignment = assignments[i];
-            float[] currentCentroid = centroids[currAssignment];
-            for (short j = 0; j < vectors.dimension(); j++) {
-                float diff = vector[j] - currentCentroid[j];
-                diffs[j] = diff;
-            }
-
-            // TODO: cache these?
-            // float vectorCentroidDist = assignmentDistances[i];
-            float vectorCentroidDist = VectorUtil.squareDistance(vector, currentCentroid);
+        forEachRange(executor, vectors, vectors.size(), (values, start, end) -> {
+            float[] diffs = new float[values.dimension()];
+            for (int i = start; i < end; i++) {
+                float[] vector = values.vectorValue(i);
 
-            int bestAssignment = -1;
-            float minSoar = Float.MAX_VALUE;
-            assert neighborhoods.get(currAssignment) != null;
-            for (int neighbor : neighborhoods.get(currAssignment)) {
-                if (neighbor == currAssignment) {
-                    continue;
+                int currAssignment = assignments[i];
+                float[] currentCentroid = centroids[currAssignment];
+                for (short j = 0; j < values.dimension(); j++) {
+                    float diff = vector[j] - currentCentroid[j];
+                    diffs[j] = diff;
                 }
-                float[] neighborCentroid = centroids[neighbor];
-                float soar = distanceSoar(diffs, vector, neighborCentroid, vectorCentroidDist);
-                if (soar < minSoar) {
-                    bestAssignment = neighbor;
-                    minSoar = soar;
+
+                // TODO: cache these?
+                // float vectorCentroidDist = assignmentDistances[i];
+                float vectorCentroidDist = VectorUtil.squareDistance(vector, currentCentroid);
+
+                int bestAssignment = -1;
+                float minSoar = Float.MAX_VALUE;
+                assert neighborhoods.get(currAssignment) != null;
+                for (int neighbor : neighborhoods.get(currAssignment)) {
+                    if (neighbor == currAssignment) {
+                        continue;
+                    }
+                    float[] neighborCentroid = centroids[neighbor];
+                    float soar = distanceSoar(diffs, vector, neighborCentroid, vectorCentroidDist);
+                    if (soar < minSoar) {
+                        bestAssignment = neighbor;
+                        minSoar = soar;
+                    }
                 }
-            }
 
-            spilledAssignments[i] = bestAssignment;
-        }
+                spilledAssignments[i] = bestAssignment;
+            }
+        });
 
         return spilledAssignments;
     }
@@ -21,6 +21,7 @@ package org.elasticsearch.index.codec.vectors.es816;
 
 import org.apache.lucene.codecs.CodecUtil;
 import org.apache.lucene.codecs.hnsw.FlatVectorsReader;
+import org.apache.lucene.codecs.lucene95.HasIndexSlice;
 import org.apache.lucene.codecs.lucene95.OrdToDocDISIReaderConfiguration;
 import org.apache.lucene.index.ByteVectorValues;
 import org.apache.lucene.index.CorruptIndexException;
@@ -375,7 +376,7 @@ public class ES816BinaryQuantizedVectorsReader extends FlatVectorsReader impleme
     }
 
     /** Binarized vector values holding row and quantized vector values */
-    protected static final class BinarizedVectorValues extends FloatVectorValues {
+    protected static final class BinarizedVectorValues extends FloatVectorValues implements HasIndexSlice {
         private final FloatVectorValues rawVectorValues;
         private final BinarizedByteVectorValues quantizedVectorValues;
 
@@ -384,6 +385,12 @@ public class ES816BinaryQuantizedVectorsReader extends FlatVectorsReader impleme
             this.quantizedVectorValues = quantizedVectorValues;
         }
 
+        /** The slice of the raw vectors, which {@link #vectorValue} reads from */
+        @Override
+        public IndexInput getSlice() {
+            return rawVectorValues instanceof HasIndexSlice hasIndexSlice ? hasIndexSlice.getSlice() : null;
+        }
+
         @Override
         public int dimension() {
             return rawVectorValues.dimension();
@@ -38,6 +38,7 @@ import org.apache.lucene.index.VectorEncoding;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.internal.hppc.FloatArrayList;
 import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.VectorScorer;
 import org.apache.lucene.store.IndexInput;
 import org.apache.lucene.store.IndexOutput;
@@ -46,6 +47,7 @@ import org.apache.lucene.util.VectorUtil;
 import org.apache.lucene.util.hnsw.CloseableRandomVectorScorerSupplier;
 import org.apache.lucene.util.hnsw.RandomVectorScorerSupplier;
 import org.apache.lucene.util.hnsw.UpdateableRandomVectorScorer;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.SuppressForbidden;
 import org.elasticsearch.index.codec.vectors.BQSpaceUtils;
 import org.elasticsearch.index.codec.vectors.BQVectorUtils;
@@ -58,6 +60,7 @@ import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import static org.apache.lucene.index.VectorSimilarityFunction.COSINE;
 import static org.apache.lucene.search.DocIdSetIterator.NO_MORE_DOCS;
@@ -360,34 +363,49 @@ public class ES818BinaryQuantizedVectorsWriter extends FlatVectorsWriter {
         IndexOutput binarizedQueryData,
         FloatVectorValues floatVectorValues,
         float[] centroid,
-        OptimizedScalarQuantizer binaryQuantizer
+        OptimizedScalarQuantizer binaryQuantizer,
+        @Nullable TaskExecutor executor
     ) throws IOException {
         int discretizedDimension = BQVectorUtils.discretize(floatVectorValues.dimension(), 64);
         DocsWithFieldSet docsWithField = new DocsWithFieldSet();
-        byte[][] quantizationScratch = new byte[2][floatVectorValues.dimension()];
         byte[] toIndex = new byte[discretizedDimension / 8];
         byte[] toQuery = new byte[(discretizedDimension / 8) * BQSpaceUtils.B_QUERY];
+        QuantizationBlock block = new QuantizationBlock(floatVectorValues.dimension(), centroid, binaryQuantizer, executor);
         KnnVectorValues.DocIndexIterator iterator = floatVectorValues.iterator();
         for (int docV = iterator.nextDoc(); docV != NO_MORE_DOCS; docV = iterator.nextDoc()) {
-            // write index vector
-            OptimizedScalarQuantizer.QuantizationResult[] r = binaryQuantizer.multiScalarQuantize(
-                floatVectorValues.vectorValue(iterator.index()),
-                quantizationScratch,
-                new byte[] { 1, 4 },
-                centroid
-            );
+            docsWithField.add(docV);
+            if (block.add(floatVectorValues.vectorValue(iterator.index()))) {
+                block.quantize();
+                writeBlock(block, binarizedVectorData, binarizedQueryData, toIndex, toQuery);
+            }
+        }
+        if (block.size() > 0) {
+            block.quantize();
+            writeBlock(block, binarizedVectorData, binarizedQueryData, toIndex, toQuery);
+        }
+        return docsWithField;
+    }
+
+    private static void writeBlock(
+        QuantizationBlock block,
+        IndexOutput binarizedVectorData,
+        IndexOutput binarizedQueryData,
+        byte[] toIndex,
+        byte[] toQuery
+    ) throws IOException {
+        for (int i = 0; i < block.size(); i++) {
+            OptimizedScalarQuantizer.QuantizationResult[] r = block.results[i];
             // pack and store document bit vector
-            BQVectorUtils.packAsBinary(quantizationScratch[0], toIndex);
+            BQVectorUtils.packAsBinary(block.quantized[i][0], toIndex);
             binarizedVectorData.writeBytes(toIndex, toIndex.length);
             binarizedVectorData.writeInt(Float.floatToIntBits(r[0].lowerInterval()));
             binarizedVectorData.writeInt(Float.floatToIntBits(r[0].upperInterval()));
             binarizedVectorData.writeInt(Float.floatToIntBits(r[0].additionalCorrection()));
             assert r[0].quantizedComponentSum() >= 0 && r[0].quantizedComponentSum() <= 0xffff;
             binarizedVectorData.writeShort((short) r[0].quantizedComponentSum());
-            docsWithField.add(docV);
 
             // pack and store the 4bit query vector
-            BQSpaceUtils.transposeHalfByte(quantizationScratch[1], toQuery);
+            BQSpaceUtils.transposeHalfByte(block.quantized[i][1], toQuery);
             binarizedQueryData.writeBytes(toQuery, toQuery.length);
             binarizedQueryData.writeInt(Float.floatToIntBits(r[1].lowerInterval()));
             binarizedQueryData.writeInt(Float.floatToIntBits(r[1].upperInterval()));
@@ -395,7 +413,7 @@ public class ES818BinaryQuantizedVectorsWriter extends FlatVectorsWriter {
             assert r[1].quantizedComponentSum() >= 0 && r[1].quantizedComponentSum() <= 0xffff;
             binarizedQueryData.writeShort((short) r[1].quantizedComponentSum());
         }
-        return docsWithField;
+        block.clear();
     }
 
     static DocsWithFieldSet writeBinarizedVectorData(IndexOutput output, BinarizedByteVectorValues binarizedByteVectorValues)
@@ -475,7 +493,8 @@ public class ES818BinaryQuantizedVectorsWriter extends FlatVectorsWriter {
                 tempScoreQuantizedVectorData,
                 floatVectorValues,
                 centroid,
-                quantizer
+                quantizer,
+                mergeState.intraMergeTaskExecutor == null ? null : new TaskExecutor(mergeState.intraMergeTaskExecutor)
             );
             CodecUtil.writeFooter(tempQuantizedVectorData);
             IOUtils.close(tempQuantizedVectorData);
@@ -722,6 +741,81 @@ public class ES818BinaryQuantizedVectorsWriter extends FlatVectorsWriter {
         }
     }
 
+    /**
+     * Buffers merged vectors and quantizes them to their index and query representations a block at a time. Merged vectors
+     * can only be read sequentially, so buffering a block is what allows splitting its quantization across the threads of the
+     * intra-merge executor, while the block size bounds the memory this takes regardless of the number of vectors.
+     */
+    static final class QuantizationBlock {
+        static final int BLOCK_BYTES = 4 << 20;
+        static final int MIN_VECTORS_PER_TASK = 64;
+        static final int MAX_TASKS = 16;
+        private static final byte[] BITS = new byte[] { 1, 4 };
+
+        private final float[][] vectors;
+        final byte[][][] quantized;
+        final OptimizedScalarQuantizer.QuantizationResult[][] results;
+        private final float[] centroid;
+        private final OptimizedScalarQuantizer[] quantizers;
+        private final TaskExecutor executor;
+        private int size;
+
+        QuantizationBlock(int dimension, float[] centroid, OptimizedScalarQuantizer quantizer, @Nullable TaskExecutor executor) {
+            int blockSize = executor == null ? 1 : Math.max(MIN_VECTORS_PER_TASK, BLOCK_BYTES / (dimension * Float.BYTES));
+            this.vectors = new float[blockSize][dimension];
+            this.quantized = new byte[blockSize][BITS.length][dimension];
+            this.results = new OptimizedScalarQuantizer.QuantizationResult[blockSize][];
+            this.centroid = centroid;
+            this.quantizers = new OptimizedScalarQuantizer[executor == null ? 1 : MAX_TASKS];
+            this.quantizers[0] = quantizer;
+            this.executor = executor;
+        }
+
+        /**
+         * Copies the vector into the block, returning whether the block is full.
+         */
+        boolean add(float[] vector) {
+            System.arraycopy(vector, 0, vectors[size++], 0, vector.length);
+            return size == vectors.length;
+        }
+
+        int size() {
+            return size;
+        }
+
+        void clear() {
+            size = 0;
+        }
+
+        void quantize() throws IOException {
+            final int tasks = Math.min(quantizers.length, size / MIN_VECTORS_PER_TASK);
+            if (tasks <= 1) {
+                quantize(quantizers[0], 0, size);
+                return;
+            }
+            List<Callable<Void>> callables = new ArrayList<>(tasks);
+            for (int t = 0; t < tasks; t++) {
+                if (quantizers[t] == null) {
+                    quantizers[t] = quantizers[0].copy();
+                }
+                final OptimizedScalarQuantizer quantizer = quantizers[t];
+                final int start = (int) ((long) size * t / tasks);
+                final int end = (int) ((long) size * (t + 1) / tasks);
+                callables.add(() -> {
+                    quantize(quantizer, start, end);
+                    return null;
+                });
+            }
+            executor.invokeAll(callables);
+        }
+
+        private void quantize(OptimizedScalarQuantizer quantizer, int start, int end) {
+            for (int i = start; i < end; i++) {
+                results[i] = quantizer.multiScalarQuantize(vectors[i], quantized[i], BITS, centroid);
+            }
+        }
+    }
+
     // When accessing vectorValue method, targerOrd here means a row ordinal.
     static class OffHeapBinarizedQueryVectorValues {
         private final IndexInput slice;
@@ -37,8 +37,11 @@ import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.Condition;
@@ -157,6 +160,18 @@ public class ThreadPoolMergeExecutorService implements Closeable {
         Property.Dynamic,
         Property.NodeScope
     );
+    /**
+     * The maximum number of merge threads, across all the merges of the node, that can help a running merge with the parts
+     * of its work that can be split, e.g. building the HNSW graph of a vector field. Helpers only ever run on otherwise idle
+     * merge threads, and the merge thread itself does the work that no helper picked up.
+     * Defaults to {@code -1}, which allows as many helpers as there are merge threads; {@code 0} disables intra-merge concurrency.
+     */
+    public static final Setting<Integer> INDICES_MERGE_MAX_INTRA_MERGE_THREADS_SETTING = Setting.intSetting(
+        "indices.merge.max_intra_merge_threads",
+        -1,
+        -1,
+        Property.NodeScope
+    );
     /**
      * Floor for IO write rate limit of individual merge tasks (we will never go any lower than this)
      */
@@ -199,6 +214,11 @@ public class ThreadPoolMergeExecutorService implements Closeable {
     private final int concurrentMergesFloorLimitForThrottling;
     private final int concurrentMergesCeilLimitForThrottling;
     private final AvailableDiskSpacePeriodicMonitor availableDiskSpacePeriodicMonitor;
+    /**
+     * Permits for merge threads that help other merges, see {@link #INDICES_MERGE_MAX_INTRA_MERGE_THREADS_SETTING}.
+     */
+    private final Semaphore intraMergePermits;
+    private final Executor intraMergeExecutor = this::executeIntraMergeTask;
 
     private final List<MergeEventListener> mergeEventListeners = new CopyOnWriteArrayList<>();
 
@@ -227,6 +247,8 @@ public class ThreadPoolMergeExecutorService implements Closeable {
         this.concurrentMergesFloorLimitForThrottling = 2;
         this.concurrentMergesCeilLimitForThrottling = maxConcurrentMerges * 2;
         assert concurrentMergesFloorLimitForThrottling <= concurrentMergesCeilLimitForThrottling;
+        final int maxIntraMergeThreads = clusterSettings.get(INDICES_MERGE_MAX_INTRA_MERGE_THREADS_SETTING);
+        this.intraMergePermits = new Semaphore(maxIntraMergeThreads < 0 ? maxConcurrentMerges : maxIntraMergeThreads);
         this.availableDiskSpacePeriodicMonitor = startDiskSpaceMonitoring(
             threadPool,
             nodeEnvironment.dataPaths(),
@@ -761,6 +783,39 @@ public class ThreadPoolMergeExecutorService implements Closeable {
         }
     }
 
+    /**
+     * The executor for the intra-merge work of the merges run by this service. The work is handed to an idle merge thread if
+     * there is one and the node-wide limit of helping merge threads is not reached, otherwise it runs on the calling thread.
+     */
+    Executor getIntraMergeExecutor() {
+        return intraMergeExecutor;
+    }
+
+    private void executeIntraMergeTask(Runnable task) {
+        if (hasIdleMergeThread() == false || intraMergePermits.tryAcquire() == false) {
+            task.run();
+            return;
+        }
+        try {
+            executorService.execute(() -> {
+                try {
+                    task.run();
+                } finally {
+                    intraMergePermits.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            intraMergePermits.release();
+            task.run();
+        }
+    }
+
+    private boolean hasIdleMergeThread() {
+        // a racy check, a task that gets queued is still run by the merge thread waiting on it, see TaskExecutor
+        return executorService instanceof ThreadPoolExecutor threadPoolExecutor
+            && threadPoolExecutor.getActiveCount() < threadPoolExecutor.getMaximumPoolSize();
+    }
+
     public boolean usingMaxTargetIORateBytesPerSec() {
         return MAX_IO_RATE.getBytes() == targetIORateBytesPerSec.get();
     }
@@ -38,6 +38,7 @@ import java.util.Map;
 import java.util.PriorityQueue;
 import java.util.Set;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
@@ -335,6 +336,12 @@ public class ThreadPoolMergeScheduler extends MergeScheduler implements Elastics
         }
     }
 
+    @Override
+    public Executor getIntraMergeExecutor(MergePolicy.OneMerge merge) {
+        // lets e.g. the HNSW graph of a merged vector field be built by idle merge threads, bounded node-wide
+        return threadPoolMergeExecutorService.getIntraMergeExecutor();
+    }
+
     @Override
     public Directory wrapForMerge(MergePolicy.OneMerge merge, Directory in) {
         // Return a wrapped Directory which has rate-limited output.
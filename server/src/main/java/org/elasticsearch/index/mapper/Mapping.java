@@ -177,6 +177,16 @@ public final class Mapping implements ToXContentFragment {
         return new Mapping(mergedRoot, mergedMetadataMappers.values().toArray(new MetadataFieldMapper[0]), mergedMeta);
     }
 
+    /**
+     * Merges another dynamic mapping update into this one, so that updates generated concurrently against the same mapping can be
+     * sent to the master as a single update.
+     *
+     * @throws IllegalArgumentException if the updates conflict, for instance because they map the same field differently
+     */
+    public Mapping mergeDynamicUpdate(Mapping other) {
+        return merge(other, MergeReason.MAPPING_AUTO_UPDATE, Long.MAX_VALUE);
+    }
+
     /**
      * Returns a copy of this mapper that ensures that the number of fields isn't greater than the provided fields budget.
      * @param fieldsBudget the maximum number of fields this mapping may have
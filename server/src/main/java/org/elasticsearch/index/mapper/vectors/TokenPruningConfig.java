@@ -9,6 +9,7 @@
 
 package org.elasticsearch.index.mapper.vectors;
 
+import org.elasticsearch.TransportVersions;
 import org.elasticsearch.common.ParsingException;
 import org.elasticsearch.common.io.stream.StreamInput;
 import org.elasticsearch.common.io.stream.StreamOutput;
@@ -29,6 +30,7 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
     public static final ParseField TOKENS_FREQ_RATIO_THRESHOLD = new ParseField("tokens_freq_ratio_threshold");
     public static final ParseField TOKENS_WEIGHT_THRESHOLD = new ParseField("tokens_weight_threshold");
     public static final ParseField ONLY_SCORE_PRUNED_TOKENS_FIELD = new ParseField("only_score_pruned_tokens");
+    public static final ParseField SCORE_PRUNED_TOKENS_FIELD = new ParseField("score_pruned_tokens");
 
     // Tokens whose frequency is more than 5 times the average frequency of all tokens in the specified field are considered outliers.
     public static final float DEFAULT_TOKENS_FREQ_RATIO_THRESHOLD = 5;
@@ -39,12 +41,22 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
     private final float tokensFreqRatioThreshold;
     private final float tokensWeightThreshold;
     private final boolean onlyScorePrunedTokens;
+    private final boolean scorePrunedTokens;
 
     public TokenPruningConfig() {
         this(DEFAULT_TOKENS_FREQ_RATIO_THRESHOLD, DEFAULT_TOKENS_WEIGHT_THRESHOLD, false);
     }
 
     public TokenPruningConfig(float tokensFreqRatioThreshold, float tokensWeightThreshold, boolean onlyScorePrunedTokens) {
+        this(tokensFreqRatioThreshold, tokensWeightThreshold, onlyScorePrunedTokens, false);
+    }
+
+    public TokenPruningConfig(
+        float tokensFreqRatioThreshold,
+        float tokensWeightThreshold,
+        boolean onlyScorePrunedTokens,
+        boolean scorePrunedTokens
+    ) {
         if (tokensFreqRatioThreshold < 1 || tokensFreqRatioThreshold > MAX_TOKENS_FREQ_RATIO_THRESHOLD) {
             throw new IllegalArgumentException(
                 "["
@@ -58,15 +70,30 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         if (tokensWeightThreshold < 0 || tokensWeightThreshold > 1) {
             throw new IllegalArgumentException("[" + TOKENS_WEIGHT_THRESHOLD.getPreferredName() + "] must be between 0 and 1");
         }
+        if (onlyScorePrunedTokens && scorePrunedTokens) {
+            throw new IllegalArgumentException(
+                "["
+                    + ONLY_SCORE_PRUNED_TOKENS_FIELD.getPreferredName()
+                    + "] and ["
+                    + SCORE_PRUNED_TOKENS_FIELD.getPreferredName()
+                    + "] cannot both be true"
+            );
+        }
         this.tokensFreqRatioThreshold = tokensFreqRatioThreshold;
         this.tokensWeightThreshold = tokensWeightThreshold;
         this.onlyScorePrunedTokens = onlyScorePrunedTokens;
+        this.scorePrunedTokens = scorePrunedTokens;
     }
 
     public TokenPruningConfig(StreamInput in) throws IOException {
         this.tokensFreqRatioThreshold = in.readFloat();
         this.tokensWeightThreshold = in.readFloat();
         this.onlyScorePrunedTokens = in.readBoolean();
+        if (in.getTransportVersion().onOrAfter(TransportVersions.SPARSE_VECTOR_SCORE_PRUNED_TOKENS)) {
+            this.scorePrunedTokens = in.readBoolean();
+        } else {
+            this.scorePrunedTokens = false;
+        }
     }
 
     @Override
@@ -74,6 +101,13 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         out.writeFloat(tokensFreqRatioThreshold);
         out.writeFloat(tokensWeightThreshold);
         out.writeBoolean(onlyScorePrunedTokens);
+        if (out.getTransportVersion().onOrAfter(TransportVersions.SPARSE_VECTOR_SCORE_PRUNED_TOKENS)) {
+            out.writeBoolean(scorePrunedTokens);
+        } else if (scorePrunedTokens) {
+            throw new IllegalArgumentException(
+                "[" + SCORE_PRUNED_TOKENS_FIELD.getPreferredName() + "] is not supported on all nodes in the cluster"
+            );
+        }
     }
 
     /**
@@ -105,6 +139,16 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         return onlyScorePrunedTokens;
     }
 
+    /**
+     * Returns whether the tokens identified as non-relevant still contribute to the score of the documents matched by the
+     * relevant tokens. When {@code true}, only relevant tokens are used to select documents, which keeps the query cheap, but
+     * the matched documents are scored against every token of the query, as if a second pass rescored them with
+     * {@link #isOnlyScorePrunedTokens()}.
+     */
+    public boolean isScorePrunedTokens() {
+        return scorePrunedTokens;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -112,12 +156,13 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         TokenPruningConfig that = (TokenPruningConfig) o;
         return Float.compare(that.tokensFreqRatioThreshold, tokensFreqRatioThreshold) == 0
             && Float.compare(that.tokensWeightThreshold, tokensWeightThreshold) == 0
-            && onlyScorePrunedTokens == that.onlyScorePrunedTokens;
+            && onlyScorePrunedTokens == that.onlyScorePrunedTokens
+            && scorePrunedTokens == that.scorePrunedTokens;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(tokensFreqRatioThreshold, tokensWeightThreshold, onlyScorePrunedTokens);
+        return Objects.hash(tokensFreqRatioThreshold, tokensWeightThreshold, onlyScorePrunedTokens, scorePrunedTokens);
     }
 
     @Override
@@ -128,6 +173,9 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         if (onlyScorePrunedTokens) {
             builder.field(ONLY_SCORE_PRUNED_TOKENS_FIELD.getPreferredName(), onlyScorePrunedTokens);
         }
+        if (scorePrunedTokens) {
+            builder.field(SCORE_PRUNED_TOKENS_FIELD.getPreferredName(), scorePrunedTokens);
+        }
         builder.endObject();
         return builder;
     }
@@ -138,6 +186,7 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
         float ratioThreshold = DEFAULT_TOKENS_FREQ_RATIO_THRESHOLD;
         float weightThreshold = DEFAULT_TOKENS_WEIGHT_THRESHOLD;
         boolean onlyScorePrunedTokens = false;
+        boolean scorePrunedTokens = false;
         while ((token = parser.nextToken()) != XContentParser.Token.END_OBJECT) {
             if (token == XContentParser.Token.START_OBJECT) {
                 continue;
@@ -147,7 +196,8 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
                 if (Set.of(
                     TOKENS_FREQ_RATIO_THRESHOLD.getPreferredName(),
                     TOKENS_WEIGHT_THRESHOLD.getPreferredName(),
-                    ONLY_SCORE_PRUNED_TOKENS_FIELD.getPreferredName()
+                    ONLY_SCORE_PRUNED_TOKENS_FIELD.getPreferredName(),
+                    SCORE_PRUNED_TOKENS_FIELD.getPreferredName()
                 ).contains(currentFieldName) == false) {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -161,6 +211,8 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
                     weightThreshold = parser.floatValue();
                 } else if (ONLY_SCORE_PRUNED_TOKENS_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
                     onlyScorePrunedTokens = parser.booleanValue();
+                } else if (SCORE_PRUNED_TOKENS_FIELD.match(currentFieldName, parser.getDeprecationHandler())) {
+                    scorePrunedTokens = parser.booleanValue();
                 } else {
                     throw new ParsingException(
                         parser.getTokenLocation(),
@@ -174,6 +226,6 @@ public class TokenPruningConfig implements Writeable, ToXContentObject {
                 );
             }
         }
-        return new TokenPruningConfig(ratioThreshold, weightThreshold, onlyScorePrunedTokens);
+        return new TokenPruningConfig(ratioThreshold, weightThreshold, onlyScorePrunedTokens, scorePrunedTokens);
     }
 }
@@ -947,6 +947,32 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifPrimaryTerm,
         long autoGeneratedTimestamp,
         boolean isRetry
+    ) throws IOException {
+        return applyIndexOperationOnPrimary(
+            version,
+            versionType,
+            sourceToParse,
+            ifSeqNo,
+            ifPrimaryTerm,
+            autoGeneratedTimestamp,
+            isRetry,
+            null
+        );
+    }
+
+    /**
+     * Same as {@link #applyIndexOperationOnPrimary(long, VersionType, SourceToParse, long, long, long, boolean)} but reuses a
+     * document that was already parsed via {@link #preParseDocument}, as long as the mapping has not changed since.
+     */
+    public Engine.IndexResult applyIndexOperationOnPrimary(
+        long version,
+        VersionType versionType,
+        SourceToParse sourceToParse,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long autoGeneratedTimestamp,
+        boolean isRetry,
+        @Nullable PreParsedDocument preParsedDocument
     ) throws IOException {
         assert versionType.validateVersionForWrites(version);
         return applyIndexOperation(
@@ -960,10 +986,31 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             autoGeneratedTimestamp,
             isRetry,
             Engine.Operation.Origin.PRIMARY,
-            sourceToParse
+            sourceToParse,
+            preParsedDocument
         );
     }
 
+    /**
+     * Parses the given source with the current document mapper without indexing it. This is safe to call concurrently with
+     * indexing operations, which allows documents of a bulk request to be parsed ahead of the sequential indexing loop.
+     *
+     * @return the parsed document, or {@code null} if the shard has no mapping yet
+     */
+    @Nullable
+    public PreParsedDocument preParseDocument(SourceToParse sourceToParse) {
+        final DocumentMapper documentMapper = mapperService.documentMapper();
+        if (documentMapper == null) {
+            return null;
+        }
+        return new PreParsedDocument(documentMapper, documentMapper.parse(sourceToParse));
+    }
+
+    /**
+     * A document parsed ahead of time, along with the mapper that parsed it so that it is only used while that mapper is current.
+     */
+    public record PreParsedDocument(DocumentMapper documentMapper, ParsedDocument parsedDocument) {}
+
     public Engine.IndexResult applyIndexOperationOnReplica(
         long seqNo,
         long opPrimaryTerm,
@@ -983,7 +1030,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             autoGeneratedTimeStamp,
             isRetry,
             Engine.Operation.Origin.REPLICA,
-            sourceToParse
+            sourceToParse,
+            null
         );
     }
 
@@ -998,7 +1046,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long autoGeneratedTimeStamp,
         boolean isRetry,
         Engine.Operation.Origin origin,
-        SourceToParse sourceToParse
+        SourceToParse sourceToParse,
+        @Nullable PreParsedDocument preParsedDocument
     ) throws IOException {
         assert opPrimaryTerm <= getOperationPrimaryTerm()
             : "op term [ " + opPrimaryTerm + " ] > shard term [" + getOperationPrimaryTerm() + "]";
@@ -1008,6 +1057,7 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             operation = prepareIndex(
                 mapperService,
                 sourceToParse,
+                preParsedDocument,
                 seqNo,
                 opPrimaryTerm,
                 version,
@@ -1069,6 +1119,38 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
         long ifSeqNo,
         long ifPrimaryTerm,
         long startTimeInNanos
+    ) {
+        return prepareIndex(
+            mapperService,
+            source,
+            null,
+            seqNo,
+            primaryTerm,
+            version,
+            versionType,
+            origin,
+            autoGeneratedIdTimestamp,
+            isRetry,
+            ifSeqNo,
+            ifPrimaryTerm,
+            startTimeInNanos
+        );
+    }
+
+    private static Engine.Index prepareIndex(
+        MapperService mapperService,
+        SourceToParse source,
+        @Nullable PreParsedDocument preParsedDocument,
+        long seqNo,
+        long primaryTerm,
+        long version,
+        VersionType versionType,
+        Engine.Operation.Origin origin,
+        long autoGeneratedIdTimestamp,
+        boolean isRetry,
+        long ifSeqNo,
+        long ifPrimaryTerm,
+        long startTimeInNanos
     ) {
         assert source.dynamicTemplates().isEmpty() || origin == Engine.Operation.Origin.PRIMARY
             : "dynamic_templates parameter can only be associated with primary operations";
@@ -1078,7 +1160,13 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
             documentMapper = DocumentMapper.createEmpty(mapperService);
             mapping = documentMapper.mapping();
         }
-        ParsedDocument doc = documentMapper.parse(source);
+        final ParsedDocument doc;
+        if (preParsedDocument != null && preParsedDocument.documentMapper() == documentMapper) {
+            // the mapping did not change since the document was parsed so the result is identical to parsing it again
+            doc = preParsedDocument.parsedDocument();
+        } else {
+            doc = documentMapper.parse(source);
+        }
         if (mapping != null) {
             // If we are indexing but there is no mapping we create one. This is to ensure that whenever at least a document is indexed
             // some mappings do exist. It covers for the case of indexing an empty doc (`{}`).
@@ -2089,7 +2177,8 @@ public class IndexShard extends AbstractIndexShardComponent implements IndicesCl
                     index.getAutoGeneratedIdTimestamp(),
                     true,
                     origin,
-                    new SourceToParse(index.id(), index.source(), XContentHelper.xContentType(index.source()), index.routing())
+                    new SourceToParse(index.id(), index.source(), XContentHelper.xContentType(index.source()), index.routing()),
+                    null
                 );
             }
             case DELETE -> {
@@ -57,6 +57,9 @@ public final class WeightedTokensUtils {
             return new MatchNoDocsQuery("query is against an empty field");
         }
 
+        boolean scorePrunedTokens = tokenPruningConfig != null && tokenPruningConfig.isScorePrunedTokens();
+        var prunedQb = new BooleanQuery.Builder();
+        int numPrunedTokens = 0;
         for (var token : tokens) {
             boolean keep = shouldKeepToken(
                 fieldName,
@@ -70,10 +73,21 @@ public final class WeightedTokensUtils {
             keep ^= tokenPruningConfig != null && tokenPruningConfig.isOnlyScorePrunedTokens();
             if (keep) {
                 qb.add(new BoostQuery(ft.termQuery(token.token(), context), token.weight()), BooleanClause.Occur.SHOULD);
+            } else if (scorePrunedTokens) {
+                prunedQb.add(new BoostQuery(ft.termQuery(token.token(), context), token.weight()), BooleanClause.Occur.SHOULD);
+                numPrunedTokens++;
             }
         }
 
-        return new SparseVectorQueryWrapper(fieldName, qb.setMinimumNumberShouldMatch(1).build());
+        Query query = qb.setMinimumNumberShouldMatch(1).build();
+        if (numPrunedTokens > 0) {
+            // Only the retained tokens select documents, the pruned tokens add to their score. Each side is a pure disjunction so
+            // block-max scoring can still skip the documents whose score cannot compete with the current top hits.
+            query = new BooleanQuery.Builder().add(query, BooleanClause.Occur.MUST)
+                .add(prunedQb.build(), BooleanClause.Occur.SHOULD)
+                .build();
+        }
+        return new SparseVectorQueryWrapper(fieldName, query);
     }
 
     /**
@@ -105,6 +105,31 @@ public abstract class ScoreScript extends DocBasedScript {
 
     public abstract double execute(ExplanationHolder explanation);
 
+    /**
+     * Whether this script implements {@link #executeBlock} in a way that is cheaper than scoring the documents one at a time.
+     * Only then are documents scored a block at a time.
+     */
+    public boolean supportsBlockExecution() {
+        return false;
+    }
+
+    /**
+     * Compute the scores of a block of documents at once, writing the score of {@code docs[i]} into {@code scores[i]}. Documents are
+     * passed in increasing doc id order. The default implementation calls {@link #setDocument} and {@link #execute} for each document;
+     * scripts that can evaluate over whole arrays of doc values should override this, and {@link #supportsBlockExecution}, so the
+     * inner loop stays tight enough for the JIT to unroll and vectorise.
+     *
+     * @param docs the segment-relative doc ids to score
+     * @param count the number of valid entries in {@code docs}
+     * @param scores the array to receive the scores, at least {@code count} long
+     */
+    public void executeBlock(int[] docs, int count, double[] scores) {
+        for (int i = 0; i < count; i++) {
+            setDocument(docs[i]);
+            scores[i] = execute(null);
+        }
+    }
+
     /** Return the parameters for this script. */
     public Map<String, Object> getParams() {
         return params;
@@ -10,7 +10,7 @@
 package org.elasticsearch.script.field.vectors;
 
 import org.apache.lucene.util.BytesRef;
-import org.apache.lucene.util.VectorUtil;
+import org.elasticsearch.simdvec.ESVectorUtil;
 
 import java.util.Arrays;
 import java.util.Iterator;
@@ -39,10 +39,7 @@ public class FloatRankVectors implements RankVectors {
         float[] maxes = new float[query.length];
         Arrays.fill(maxes, Float.NEGATIVE_INFINITY);
         while (vectorValues.hasNext()) {
-            float[] vv = vectorValues.next();
-            for (int i = 0; i < query.length; i++) {
-                maxes[i] = Math.max(maxes[i], VectorUtil.dotProduct(query[i], vv));
-            }
+            ESVectorUtil.maxDotProducts(query, vectorValues.next(), maxes);
         }
         float sum = 0;
         for (float m : maxes) {
@@ -158,11 +158,18 @@ public class FieldFetcher {
     private final Map<String, FieldContext> fieldContexts;
     private final UnmappedFieldFetcher unmappedFieldFetcher;
     private final StoredFieldsSpec storedFieldsSpec;
+    /**
+     * Whether values are read from more than one place in the source, in which case parsing it fully once is cheaper than
+     * letting the first read decode only its own path.
+     */
+    private final boolean parseSourceUpfront;
 
     private FieldFetcher(Map<String, FieldContext> fieldContexts, UnmappedFieldFetcher unmappedFieldFetcher) {
         this.fieldContexts = fieldContexts;
         this.unmappedFieldFetcher = unmappedFieldFetcher;
         this.storedFieldsSpec = StoredFieldsSpec.build(fieldContexts.values(), fc -> fc.valueFetcher.storedFieldsSpec());
+        long sourceFetchers = fieldContexts.values().stream().filter(fc -> fc.valueFetcher.storedFieldsSpec().requiresSource()).count();
+        this.parseSourceUpfront = sourceFetchers > 1 || (sourceFetchers > 0 && unmappedFieldFetcher.isEmpty() == false);
     }
 
     public StoredFieldsSpec storedFieldsSpec() {
@@ -171,6 +178,9 @@ public class FieldFetcher {
 
     public Map<String, DocumentField> fetch(Source source, int doc) throws IOException {
         Map<String, DocumentField> documentFields = new HashMap<>();
+        if (parseSourceUpfront) {
+            source.source();
+        }
         for (FieldContext context : fieldContexts.values()) {
             String field = context.fieldName;
             ValueFetcher valueFetcher = context.valueFetcher;
@@ -91,13 +91,20 @@ public class UnmappedFieldFetcher {
         return new CharacterRunAutomaton(a);
     }
 
+    /**
+     * Whether this fetcher never collects any field.
+     */
+    boolean isEmpty() {
+        return this.unmappedFieldsFetchAutomaton == null && this.unmappedConcreteFields.isEmpty();
+    }
+
     /**
      * Collect unmapped fields from a Source
      * @param documentFields    a map to receive unmapped field values as DocumentFields
      * @param source            the Source
      */
     public void collectUnmapped(Map<String, DocumentField> documentFields, Source source) {
-        if (this.unmappedFieldsFetchAutomaton == null && this.unmappedConcreteFields.isEmpty()) {
+        if (isEmpty()) {
             return;
         }
         collectUnmapped(documentFields, source.source(), "", 0);
@@ -58,6 +58,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static java.util.Collections.emptyMap;
 import static org.elasticsearch.search.internal.SearchContext.TRACK_TOTAL_HITS_DISABLED;
@@ -84,6 +85,8 @@ public class ShardSearchRequest extends AbstractTransportRequest implements Indi
 
     private boolean canReturnNullResponseIfMatchNoDocs;
     private SearchSortValuesAndFormats bottomSortValues;
+    // not serialized, only set when the shard runs on the node that tracks the bottom sort values of the request
+    private Supplier<SearchSortValuesAndFormats> bottomSortValuesSupplier;
 
     // these are the only mutable fields, as they are subject to rewriting
     private AliasFilter aliasFilter;
@@ -266,6 +269,7 @@ public class ShardSearchRequest extends AbstractTransportRequest implements Indi
         this.allowPartialSearchResults = clone.allowPartialSearchResults;
         this.canReturnNullResponseIfMatchNoDocs = clone.canReturnNullResponseIfMatchNoDocs;
         this.bottomSortValues = clone.bottomSortValues;
+        this.bottomSortValuesSupplier = clone.bottomSortValuesSupplier;
         this.originalIndices = clone.originalIndices;
         this.readerId = clone.readerId;
         this.keepAlive = clone.keepAlive;
@@ -498,6 +502,31 @@ public class ShardSearchRequest extends AbstractTransportRequest implements Indi
         return bottomSortValues;
     }
 
+    /**
+     * Sets a node-local supplier of the best bottom sort values known while this request executes. Unlike
+     * {@link #setBottomSortValues}, which is a snapshot taken when the request is sent, the supplier is polled
+     * during the query phase so that collectors can skip documents that became non-competitive after the
+     * shard started. It is not serialized and is only set for shard requests executed on the node that
+     * tracks the bottom sort values.
+     */
+    public void setBottomSortValuesSupplier(Supplier<SearchSortValuesAndFormats> supplier) {
+        this.bottomSortValuesSupplier = supplier;
+    }
+
+    /**
+     * Returns the most recent bottom sort values available for this request, or <code>null</code> if none are known.
+     */
+    @Nullable
+    public SearchSortValuesAndFormats getLatestBottomSortValues() {
+        if (bottomSortValuesSupplier != null) {
+            SearchSortValuesAndFormats latest = bottomSortValuesSupplier.get();
+            if (latest != null) {
+                return latest;
+            }
+        }
+        return bottomSortValues;
+    }
+
     /**
      * Returns true if the caller can handle null response {@link QuerySearchResult#nullInstance()}.
      * Defaults to false since the coordinator node needs at least one shard response to build the global
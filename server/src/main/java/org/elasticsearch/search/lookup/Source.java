@@ -16,11 +16,14 @@ import org.elasticsearch.common.xcontent.support.XContentMapValues;
 import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Tuple;
 import org.elasticsearch.xcontent.XContentBuilder;
+import org.elasticsearch.xcontent.XContentParser;
+import org.elasticsearch.xcontent.XContentParserConfiguration;
 import org.elasticsearch.xcontent.XContentType;
 
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.Map;
+import java.util.Set;
 import java.util.function.Supplier;
 
 /**
@@ -99,6 +102,7 @@ public interface Source {
 
             Map<String, Object> asMap = null;
             XContentType xContentType = type;
+            boolean extractedLazily = false;
 
             private void parseBytes() {
                 Tuple<XContentType, Map<String, Object>> t = XContentHelper.convertToMap(bytes, true);
@@ -106,6 +110,25 @@ public interface Source {
                 this.asMap = t.v2();
             }
 
+            @Override
+            public Object extractValue(String path, @Nullable Object nullValue) {
+                if (asMap == null && extractedLazily == false && path.indexOf('*') == -1) {
+                    // The first value read from bytes that weren't parsed yet is often the only one, so only decode its path.
+                    // Paths that only run through arrays whose contents were all filtered out come back as missing rather than
+                    // as an empty list, which value fetchers treat the same.
+                    extractedLazily = true;
+                    XContentParserConfiguration config = XContentParserConfiguration.EMPTY.withFiltering(null, Set.of(path), null, true);
+                    Map<String, Object> filtered = XContentHelper.parseToType(
+                        XContentParser::mapOrdered,
+                        bytes,
+                        sourceContentType(),
+                        config
+                    ).v2();
+                    return XContentMapValues.extractValue(path, filtered, nullValue);
+                }
+                return Source.super.extractValue(path, nullValue);
+            }
+
             @Override
             public XContentType sourceContentType() {
                 if (xContentType == null) {
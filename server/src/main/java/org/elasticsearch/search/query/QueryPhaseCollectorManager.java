@@ -51,6 +51,7 @@ import org.elasticsearch.index.search.ESToParentBlockJoinQuery;
 import org.elasticsearch.lucene.grouping.SinglePassGroupingCollector;
 import org.elasticsearch.lucene.grouping.TopFieldGroups;
 import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.search.SearchSortValuesAndFormats;
 import org.elasticsearch.search.aggregations.AggregatorCollector;
 import org.elasticsearch.search.collapse.CollapseContext;
 import org.elasticsearch.search.internal.ScrollContext;
@@ -66,6 +67,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Supplier;
 
 import static org.elasticsearch.search.profile.query.CollectorResult.REASON_AGGREGATION;
 import static org.elasticsearch.search.profile.query.CollectorResult.REASON_SEARCH_QUERY_PHASE;
@@ -258,7 +260,8 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
                     numDocs,
                     searchContext.trackScores(),
                     searchContext.trackTotalHitsUpTo(),
-                    hasFilterCollector
+                    hasFilterCollector,
+                    searchContext.request() == null ? null : searchContext.request()::getLatestBottomSortValues
                 );
             } else {
                 boolean trackScores = searchContext.sort() == null || searchContext.trackScores();
@@ -373,6 +376,8 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
         private final boolean trackMaxScore;
         private final TotalHits shortcutTotalHits;
         private final CollectorManager<? extends TopDocsCollector<?>, ? extends TopDocs> topDocsManager;
+        private final SkipNonCompetitiveSegmentsCollector.SharedBottom sharedBottom;
+        private final int numHits;
 
         WithHits(
             Weight postFilterWeight,
@@ -387,7 +392,8 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
             int numHits,
             boolean trackMaxScore,
             int trackTotalHitsUpTo,
-            boolean hasFilterCollector
+            boolean hasFilterCollector,
+            @Nullable Supplier<SearchSortValuesAndFormats> globalBottomSortValues
         ) throws IOException {
             super(postFilterWeight, terminateAfterChecker, aggsCollectorManager, minScore, profile);
             this.sortAndFormats = sortAndFormats;
@@ -420,6 +426,17 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
             } else {
                 this.topDocsManager = new TopFieldCollectorManager(sortAndFormats.sort, numHits, (FieldDoc) searchAfter, hitCountThreshold);
             }
+            this.numHits = numHits;
+            // segments can only be skipped when the collector neither counts hits nor needs to see docs that precede search_after
+            if (sortAndFormats != null && searchAfter == null && trackMaxScore == false && shortcutTotalHits != null) {
+                this.sharedBottom = SkipNonCompetitiveSegmentsCollector.maybeCreate(reader, sortAndFormats.sort.getSort());
+                if (sharedBottom != null && globalBottomSortValues != null) {
+                    // also skip segments that cannot beat the bottom of the shards that already returned for this request
+                    sharedBottom.setGlobalBottom(sortAndFormats.formats[0], globalBottomSortValues);
+                }
+            } else {
+                this.sharedBottom = null;
+            }
         }
 
         @Override
@@ -427,6 +444,9 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
             if (trackMaxScore) {
                 return MultiCollector.wrap(topDocsManager.newCollector(), new MaxScoreCollector());
             }
+            if (sharedBottom != null) {
+                return new SkipNonCompetitiveSegmentsCollector(topDocsManager.newCollector(), sharedBottom, numHits);
+            }
             return topDocsManager.newCollector();
         }
 
@@ -444,6 +464,9 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
             } else {
                 maxScoreCollectors = null;
                 for (Collector collector : collectors) {
+                    if (collector instanceof SkipNonCompetitiveSegmentsCollector skipNonCompetitiveSegmentsCollector) {
+                        collector = skipNonCompetitiveSegmentsCollector.getWrappedCollector();
+                    }
                     topDocsCollectors.add((TopDocsCollector<?>) collector);
                 }
             }
@@ -503,7 +526,8 @@ abstract class QueryPhaseCollectorManager implements CollectorManager<Collector,
             numHits,
             trackMaxScore,
             trackTotalHitsUpTo,
-            hasFilterCollector
+            hasFilterCollector,
+            null
         ) {
             @Override
             public TopDocsAndMaxScore reduceTopDocsCollectors(Collection<Collector> collectors) throws IOException {
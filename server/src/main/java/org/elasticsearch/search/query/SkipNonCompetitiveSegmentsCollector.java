@@ -0,0 +1,220 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.search.query;
+
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesSkipIndexType;
+import org.apache.lucene.index.DocValuesSkipper;
+import org.apache.lucene.index.FieldInfo;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NumericDocValues;
+import org.apache.lucene.search.CollectionTerminatedException;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.DocIdSetIterator;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.FilterLeafCollector;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSelector;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.util.LongHeap;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.search.SearchSortValuesAndFormats;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Wraps the top docs collector of a search sorted by a numeric field to skip whole segments that cannot produce a competitive
+ * hit. Every slice tracks the sort values of the top {@code numHits} documents it has collected, and the resulting bottom value
+ * is shared across slices through a {@link SharedBottom}. A segment is skipped when the range of values recorded in the
+ * {@link DocValuesSkipper} of the sort field is strictly worse than the shared bottom. The shared bottom can also be fed with
+ * the bottom sort values that other shards of the same search request have already returned, see
+ * {@link SharedBottom#setGlobalBottom}.
+ * <p>
+ * This is useful for fields that are only indexed with a doc values skipper: without points, the sort comparator cannot prune
+ * segments by itself, so every segment would otherwise collect at least one batch of documents. Skipping segments makes hit
+ * counts partial, so this must only be used when total hits are not counted by the collector.
+ */
+final class SkipNonCompetitiveSegmentsCollector extends FilterCollector {
+
+    private final SharedBottom sharedBottom;
+    private final LongHeap localTop;
+    private final int numHits;
+
+    SkipNonCompetitiveSegmentsCollector(Collector in, SharedBottom sharedBottom, int numHits) {
+        super(in);
+        assert numHits > 0;
+        this.sharedBottom = sharedBottom;
+        this.numHits = numHits;
+        this.localTop = new LongHeap(numHits);
+    }
+
+    Collector getWrappedCollector() {
+        return in;
+    }
+
+    @Override
+    public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+        final FieldInfo fieldInfo = context.reader().getFieldInfos().fieldInfo(sharedBottom.field);
+        if (fieldInfo != null && fieldInfo.docValuesSkipIndexType() == DocValuesSkipIndexType.NONE) {
+            // nothing tells whether this segment can compete, so collect it as if this collector wasn't there
+            return super.getLeafCollector(context);
+        }
+        final long bottom = sharedBottom.get();
+        if (bottom != Long.MIN_VALUE && sharedBottom.bestValue(context) < bottom) {
+            throw new CollectionTerminatedException();
+        }
+        final LeafCollector leafCollector = super.getLeafCollector(context);
+        final NumericDocValues values = SortedNumericSelector.wrap(
+            DocValues.getSortedNumeric(context.reader(), sharedBottom.field),
+            sharedBottom.selector,
+            sharedBottom.type
+        );
+        return new FilterLeafCollector(leafCollector) {
+            @Override
+            public void collect(int doc) throws IOException {
+                in.collect(doc);
+                final long value = sharedBottom.encode(values.advanceExact(doc) ? values.longValue() : sharedBottom.missingValue);
+                if (localTop.size() < numHits) {
+                    localTop.push(value);
+                    if (localTop.size() == numHits) {
+                        sharedBottom.accumulate(localTop.top());
+                    }
+                } else if (value > localTop.top()) {
+                    localTop.updateTop(value);
+                    sharedBottom.accumulate(localTop.top());
+                }
+            }
+
+            @Override
+            public DocIdSetIterator competitiveIterator() throws IOException {
+                return in.competitiveIterator();
+            }
+        };
+    }
+
+    /**
+     * Returns the state shared by the collectors of all slices if segments can be skipped for the provided sort, {@code null}
+     * otherwise. Only the primary sort matters: a document whose primary sort value is strictly worse than the bottom cannot
+     * compete whatever its tie-breakers. Segments can only be skipped when the sort field is indexed with a doc values skipper,
+     * so this also returns {@code null} when no segment of the reader has one.
+     */
+    @Nullable
+    static SharedBottom maybeCreate(IndexReader reader, SortField[] sortFields) {
+        if (sortFields.length == 0 || sortFields[0] instanceof SortedNumericSortField == false) {
+            return null;
+        }
+        final SortedNumericSortField sortField = (SortedNumericSortField) sortFields[0];
+        final SortField.Type type = sortField.getNumericType();
+        if (type != SortField.Type.LONG && type != SortField.Type.INT) {
+            // the skipper records floating point values in their sortable long representation
+            return null;
+        }
+        if (hasDocValuesSkipper(reader, sortField.getField()) == false) {
+            return null;
+        }
+        final long missingValue = sortField.getMissingValue() == null ? 0L : ((Number) sortField.getMissingValue()).longValue();
+        return new SharedBottom(sortField.getField(), type, sortField.getSelector(), sortField.getReverse(), missingValue);
+    }
+
+    private static boolean hasDocValuesSkipper(IndexReader reader, String field) {
+        for (LeafReaderContext context : reader.leaves()) {
+            final FieldInfo fieldInfo = context.reader().getFieldInfos().fieldInfo(field);
+            if (fieldInfo != null && fieldInfo.docValuesSkipIndexType() != DocValuesSkipIndexType.NONE) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The best bottom sort value collected so far by any slice. Values are encoded so that greater is always more competitive.
+     */
+    static final class SharedBottom {
+        private final String field;
+        private final SortField.Type type;
+        private final SortedNumericSelector.Type selector;
+        private final boolean reverse;
+        private final long missingValue;
+        private final AtomicLong bottom = new AtomicLong(Long.MIN_VALUE);
+
+        private DocValueFormat globalBottomFormat;
+        private Supplier<SearchSortValuesAndFormats> globalBottom;
+        private volatile SearchSortValuesAndFormats lastGlobalBottom;
+
+        private SharedBottom(String field, SortField.Type type, SortedNumericSelector.Type selector, boolean reverse, long missingValue) {
+            this.field = field;
+            this.type = type;
+            this.selector = selector;
+            this.reverse = reverse;
+            this.missingValue = missingValue;
+        }
+
+        /**
+         * Sets the source of the bottom sort values that other shards returned for the same request. These values are polled
+         * every time a segment is about to be collected: a document whose primary sort value is strictly worse than the bottom
+         * of another shard cannot make it into the global top hits. Values are only used when they were produced with the same
+         * {@link DocValueFormat} as the local sort, which guards against indices that map the sort field differently.
+         * Must be called before collection starts.
+         */
+        void setGlobalBottom(DocValueFormat format, Supplier<SearchSortValuesAndFormats> globalBottom) {
+            this.globalBottomFormat = format;
+            this.globalBottom = globalBottom;
+        }
+
+        long get() {
+            if (globalBottom != null) {
+                final SearchSortValuesAndFormats values = globalBottom.get();
+                if (values != null && values != lastGlobalBottom) {
+                    lastGlobalBottom = values;
+                    if (values.getRawSortValues().length > 0
+                        && globalBottomFormat.equals(values.getSortValueFormats()[0])
+                        && (values.getRawSortValues()[0] instanceof Long || values.getRawSortValues()[0] instanceof Integer)) {
+                        accumulate(encode(((Number) values.getRawSortValues()[0]).longValue()));
+                    }
+                }
+            }
+            return bottom.getAcquire();
+        }
+
+        private void accumulate(long value) {
+            if (value > bottom.getAcquire()) {
+                bottom.accumulateAndGet(value, Math::max);
+            }
+        }
+
+        /**
+         * Returns the bitwise negation for ascending sorts, which reverses the order of values without overflowing.
+         */
+        private long encode(long value) {
+            return reverse ? value : ~value;
+        }
+
+        /**
+         * Returns the encoded value of the most competitive document that the segment may hold.
+         */
+        private long bestValue(LeafReaderContext context) throws IOException {
+            if (context.reader().getFieldInfos().fieldInfo(field) == null) {
+                return encode(missingValue);
+            }
+            final DocValuesSkipper skipper = context.reader().getDocValuesSkipper(field);
+            assert skipper != null : "no doc values skipper for [" + field + "]";
+            long best = Math.max(encode(skipper.minValue()), encode(skipper.maxValue()));
+            if (skipper.docCount() < context.reader().maxDoc()) {
+                best = Math.max(best, encode(missingValue));
+            }
+            return best;
+        }
+    }
+}
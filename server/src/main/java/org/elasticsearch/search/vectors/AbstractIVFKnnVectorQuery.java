@@ -158,6 +158,11 @@ abstract class AbstractIVFKnnVectorQuery extends Query implements QueryProfilerP
 
         BitSet acceptDocs = createBitSet(scorer.iterator(), liveDocs, reader.maxDoc());
         final int cost = acceptDocs.cardinality();
+        if (cost <= numCands) {
+            // The filter matches no more documents than we gather candidates for, so scoring each of them exactly is
+            // cheaper than probing centroids whose posting lists hardly contain any of them.
+            return exactSearch(ctx, new BitSetIterator(acceptDocs, cost), knnCollectorManager);
+        }
         return approximateSearch(ctx, acceptDocs, cost + 1, knnCollectorManager);
     }
 
@@ -168,6 +173,13 @@ abstract class AbstractIVFKnnVectorQuery extends Query implements QueryProfilerP
         KnnCollectorManager knnCollectorManager
     ) throws IOException;
 
+    /**
+     * Scores every document of the given iterator that has a vector against the query and collects them with a collector
+     * of the given manager.
+     */
+    abstract TopDocs exactSearch(LeafReaderContext context, DocIdSetIterator acceptIterator, KnnCollectorManager knnCollectorManager)
+        throws IOException;
+
     protected KnnCollectorManager getKnnCollectorManager(int k, IndexSearcher searcher) {
         return new IVFCollectorManager(k);
     }
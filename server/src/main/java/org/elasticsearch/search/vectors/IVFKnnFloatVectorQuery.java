@@ -11,14 +11,18 @@ package org.elasticsearch.search.vectors;
 import org.apache.lucene.index.FloatVectorValues;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.search.ConjunctionUtils;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.KnnCollector;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.VectorScorer;
 import org.apache.lucene.search.knn.KnnCollectorManager;
 import org.apache.lucene.util.Bits;
 
 import java.io.IOException;
 import java.util.Arrays;
+import java.util.List;
 
 /** A {@link IVFKnnFloatVectorQuery} that uses the IVF search strategy. */
 public class IVFKnnFloatVectorQuery extends AbstractIVFKnnVectorQuery {
@@ -96,4 +100,32 @@ public class IVFKnnFloatVectorQuery extends AbstractIVFKnnVectorQuery {
         TopDocs results = knnCollector.topDocs();
         return results != null ? results : NO_RESULTS;
     }
+
+    @Override
+    protected TopDocs exactSearch(LeafReaderContext context, DocIdSetIterator acceptIterator, KnnCollectorManager knnCollectorManager)
+        throws IOException {
+        KnnCollector knnCollector = knnCollectorManager.newCollector(Integer.MAX_VALUE, searchStrategy, context);
+        if (knnCollector == null) {
+            return NO_RESULTS;
+        }
+        LeafReader reader = context.reader();
+        FloatVectorValues floatVectorValues = reader.getFloatVectorValues(field);
+        if (floatVectorValues == null) {
+            FloatVectorValues.checkField(reader, field);
+            return NO_RESULTS;
+        }
+        VectorScorer vectorScorer = floatVectorValues.scorer(query);
+        if (vectorScorer == null) {
+            return NO_RESULTS;
+        }
+        DocIdSetIterator iterator = ConjunctionUtils.intersectIterators(List.of(acceptIterator, vectorScorer.iterator()));
+        int scored = 0;
+        for (int doc = iterator.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = iterator.nextDoc()) {
+            knnCollector.collect(doc, vectorScorer.score());
+            scored++;
+        }
+        knnCollector.incVisitedCount(scored);
+        TopDocs results = knnCollector.topDocs();
+        return results != null ? results : NO_RESULTS;
+    }
 }
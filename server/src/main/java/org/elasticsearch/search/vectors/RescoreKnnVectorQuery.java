@@ -9,14 +9,24 @@
 
 package org.elasticsearch.search.vectors;
 
+import org.apache.lucene.codecs.lucene95.HasIndexSlice;
+import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.index.KnnVectorValues;
+import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.VectorSimilarityFunction;
 import org.apache.lucene.queries.function.FunctionScoreQuery;
 import org.apache.lucene.search.BooleanClause;
+import org.apache.lucene.search.DocIdSetIterator;
 import org.apache.lucene.search.DoubleValuesSource;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.QueryVisitor;
+import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.Scorer;
 import org.apache.lucene.search.TopDocs;
+import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.IndexInput;
+import org.apache.lucene.util.ArrayUtil;
 import org.elasticsearch.index.mapper.vectors.VectorSimilarityFloatValueSource;
 import org.elasticsearch.search.profile.query.QueryProfiler;
 
@@ -28,6 +38,17 @@ import java.util.Objects;
  * Wraps an internal query to rescore the results using a similarity function over the original, non-quantized vectors of a vector field
  */
 public class RescoreKnnVectorQuery extends Query implements QueryProfilerProvider {
+    /**
+     * Segments with more candidates than this are rescored without prefetching their vectors first, e.g. when the inner
+     * query is not a kNN query and prefetching would amount to reading the whole vector file.
+     */
+    static final int MAX_PREFETCH_CANDIDATES = 10_000;
+    /**
+     * Candidate vectors that are at most this many bytes apart are prefetched with a single request, as reading the gap is
+     * cheaper than issuing another request.
+     */
+    static final long MAX_PREFETCH_GAP_BYTES = 4096;
+
     private final String fieldName;
     private final float[] floatTarget;
     private final VectorSimilarityFunction vectorSimilarityFunction;
@@ -51,8 +72,12 @@ public class RescoreKnnVectorQuery extends Query implements QueryProfilerProvide
 
     @Override
     public Query rewrite(IndexSearcher searcher) throws IOException {
+        // rewrite the inner query first, so that the candidates are known before rescoring them
+        Query rewrittenInnerQuery = searcher.rewrite(innerQuery);
+        prefetchCandidateVectors(searcher, rewrittenInnerQuery);
+
         DoubleValuesSource valueSource = new VectorSimilarityFloatValueSource(fieldName, floatTarget, vectorSimilarityFunction);
-        FunctionScoreQuery functionScoreQuery = new FunctionScoreQuery(innerQuery, valueSource);
+        FunctionScoreQuery functionScoreQuery = new FunctionScoreQuery(rewrittenInnerQuery, valueSource);
         Query query = searcher.rewrite(functionScoreQuery);
 
         // Retrieve top k documents from the rescored query
@@ -61,6 +86,71 @@ public class RescoreKnnVectorQuery extends Query implements QueryProfilerProvide
         return new KnnScoreDocQuery(topDocs.scoreDocs, searcher.getIndexReader());
     }
 
+    /**
+     * Rescoring reads the original vector of every candidate, which for indices larger than the page cache means a random read
+     * per candidate. Announcing all of them upfront, in ord order and with adjacent vectors merged into one range, lets the
+     * directory fetch them concurrently instead of one blocking read after the other while scoring.
+     */
+    private void prefetchCandidateVectors(IndexSearcher searcher, Query rewrittenInnerQuery) throws IOException {
+        // not going through the searcher, which could cache the candidates of this one-off query
+        Weight weight = rewrittenInnerQuery.createWeight(searcher, ScoreMode.COMPLETE_NO_SCORES, 1f);
+        int[] ords = new int[0];
+        for (LeafReaderContext ctx : searcher.getIndexReader().leaves()) {
+            Scorer scorer = weight.scorer(ctx);
+            if (scorer == null) {
+                continue;
+            }
+            DocIdSetIterator candidates = scorer.iterator();
+            if (candidates.cost() > MAX_PREFETCH_CANDIDATES) {
+                continue;
+            }
+            FloatVectorValues vectorValues = ctx.reader().getFloatVectorValues(fieldName);
+            if (vectorValues instanceof HasIndexSlice == false) {
+                continue;
+            }
+            IndexInput slice = ((HasIndexSlice) vectorValues).getSlice();
+            if (slice == null) {
+                continue;
+            }
+            KnnVectorValues.DocIndexIterator vectorsIterator = vectorValues.iterator();
+            int count = 0;
+            for (int doc = candidates.nextDoc(); doc != DocIdSetIterator.NO_MORE_DOCS; doc = candidates.nextDoc()) {
+                int vectorDoc = vectorsIterator.docID();
+                if (vectorDoc < doc) {
+                    vectorDoc = vectorsIterator.advance(doc);
+                }
+                if (vectorDoc == doc) {
+                    ords = ArrayUtil.grow(ords, count + 1);
+                    ords[count++] = vectorsIterator.index();
+                }
+            }
+            prefetch(slice, ords, count, vectorValues.getVectorByteLength());
+        }
+    }
+
+    /**
+     * Prefetches the vectors of the given ords, which must be sorted, merging vectors that are close to each other into a single range.
+     */
+    static void prefetch(IndexInput slice, int[] ords, int count, long vectorByteLength) throws IOException {
+        long start = -1;
+        long end = -1;
+        for (int i = 0; i < count; i++) {
+            long offset = ords[i] * vectorByteLength;
+            if (start >= 0 && offset - end <= MAX_PREFETCH_GAP_BYTES) {
+                end = offset + vectorByteLength;
+                continue;
+            }
+            if (start >= 0) {
+                slice.prefetch(start, end - start);
+            }
+            start = offset;
+            end = offset + vectorByteLength;
+        }
+        if (start >= 0) {
+            slice.prefetch(start, end - start);
+        }
+    }
+
     public Query innerQuery() {
         return innerQuery;
     }
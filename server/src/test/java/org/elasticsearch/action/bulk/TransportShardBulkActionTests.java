@@ -30,6 +30,7 @@ import org.elasticsearch.cluster.metadata.IndexMetadata;
 import org.elasticsearch.common.compress.CompressedXContent;
 import org.elasticsearch.common.lucene.uid.Versions;
 import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.EsExecutors;
 import org.elasticsearch.common.util.concurrent.EsRejectedExecutionException;
 import org.elasticsearch.index.IndexSettings;
 import org.elasticsearch.index.IndexVersion;
@@ -269,6 +270,121 @@ public class TransportShardBulkActionTests extends IndexShardTestCase {
         latch.await();
     }
 
+    public void testParseDocumentsAhead() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[randomIntBetween(1, 4) * BulkShardDocumentPreParser.MIN_ITEMS_PER_TASK];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> writeRequest = randomBoolean()
+                ? new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE).opType(DocWriteRequest.OpType.INDEX)
+                : new DeleteRequest("index", "id_" + randomIntBetween(0, i));
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        final CountDownLatch latch = new CountDownLatch(1);
+        TransportShardBulkAction.performOnPrimary(
+            bulkShardRequest,
+            shard,
+            null,
+            threadPool::absoluteTimeInMillis,
+            new NoopMappingUpdatePerformer(),
+            (listener, mappingVersion) -> {},
+            ActionListener.runAfter(ActionTestUtils.assertNoFailureListener(result -> {
+                assertThat(result.replicationResponse.getResponses(), arrayWithSize(items.length));
+                for (int i = 0; i < items.length; i++) {
+                    BulkItemResponse response = result.replicationResponse.getResponses()[i];
+                    assertThat(response.getItemId(), equalTo(i));
+                    assertThat(response.getOpType(), equalTo(items[i].request().opType()));
+                    assertFalse(response.isFailed());
+                }
+            }), latch::countDown),
+            threadPool.executor(Names.WRITE),
+            null,
+            null,
+            DocumentParsingProvider.EMPTY_INSTANCE,
+            randomIntBetween(1, 4)
+        );
+
+        latch.await();
+        closeShards(shard);
+    }
+
+    public void testPreParsedDocumentsAreTakenOnce() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        // the first item is a delete, so one more item is needed for enough index requests to parse ahead
+        BulkItemRequest[] items = new BulkItemRequest[BulkShardDocumentPreParser.MIN_ITEMS_PER_TASK + 1 + randomIntBetween(0, 10)];
+        for (int i = 0; i < items.length; i++) {
+            DocWriteRequest<?> writeRequest = i == 0
+                ? new DeleteRequest("index", "id_" + i)
+                : new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE);
+            items[i] = new BulkItemRequest(i, writeRequest);
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        // parsing ahead is disabled
+        assertNull(
+            BulkShardDocumentPreParser.start(
+                bulkShardRequest,
+                shard,
+                DocumentParsingProvider.EMPTY_INSTANCE,
+                EsExecutors.DIRECT_EXECUTOR_SERVICE,
+                0
+            )
+        );
+
+        BulkShardDocumentPreParser preParser = BulkShardDocumentPreParser.start(
+            bulkShardRequest,
+            shard,
+            DocumentParsingProvider.EMPTY_INSTANCE,
+            EsExecutors.DIRECT_EXECUTOR_SERVICE,
+            randomIntBetween(1, 4)
+        );
+        assertNotNull(preParser);
+        assertNull(preParser.take(0));
+        for (int i = 1; i < items.length; i++) {
+            IndexShard.PreParsedDocument preParsedDocument = preParser.take(i);
+            assertNotNull(preParsedDocument);
+            assertThat(preParsedDocument.parsedDocument().id(), equalTo("id_" + i));
+            assertSame(shard.mapperService().documentMapper(), preParsedDocument.documentMapper());
+            assertNull(preParser.take(i));
+        }
+        closeShards(shard);
+    }
+
+    public void testPreParsingStaysWithinWindow() throws Exception {
+        IndexShard shard = newStartedShard(true);
+
+        BulkItemRequest[] items = new BulkItemRequest[BulkShardDocumentPreParser.MAX_ITEMS_AHEAD + randomIntBetween(1, 100)];
+        for (int i = 0; i < items.length; i++) {
+            items[i] = new BulkItemRequest(i, new IndexRequest("index").id("id_" + i).source(Requests.INDEX_CONTENT_TYPE));
+        }
+        BulkShardRequest bulkShardRequest = new BulkShardRequest(shardId, RefreshPolicy.NONE, items);
+
+        BulkShardDocumentPreParser preParser = BulkShardDocumentPreParser.start(
+            bulkShardRequest,
+            shard,
+            DocumentParsingProvider.EMPTY_INSTANCE,
+            EsExecutors.DIRECT_EXECUTOR_SERVICE,
+            1
+        );
+        assertNotNull(preParser);
+        // the helper stopped at the end of the window
+        int firstOutsideWindow = BulkShardDocumentPreParser.MAX_ITEMS_AHEAD;
+        assertNull(preParser.take(firstOutsideWindow));
+        // taking an item moves the window, so the helper parses the remaining items
+        for (int i = 0; i < items.length; i++) {
+            if (i == firstOutsideWindow) {
+                continue;
+            }
+            IndexShard.PreParsedDocument preParsedDocument = preParser.take(i);
+            assertNotNull(preParsedDocument);
+            assertThat(preParsedDocument.parsedDocument().id(), equalTo("id_" + i));
+        }
+        closeShards(shard);
+    }
+
     public void testExecuteBulkIndexRequestWithMappingUpdates() throws Exception {
 
         BulkItemRequest[] items = new BulkItemRequest[1];
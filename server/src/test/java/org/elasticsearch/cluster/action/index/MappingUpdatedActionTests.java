@@ -16,12 +16,15 @@ import org.elasticsearch.client.internal.Client;
 import org.elasticsearch.client.internal.IndicesAdminClient;
 import org.elasticsearch.cluster.ClusterName;
 import org.elasticsearch.cluster.ClusterState;
+import org.elasticsearch.cluster.metadata.ProcessClusterEventTimeoutException;
 import org.elasticsearch.cluster.node.DiscoveryNodeUtils;
 import org.elasticsearch.cluster.node.DiscoveryNodes;
 import org.elasticsearch.cluster.service.ClusterService;
 import org.elasticsearch.common.settings.ClusterSettings;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.common.util.concurrent.AdjustableSemaphore;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.core.Tuple;
 import org.elasticsearch.index.Index;
 import org.elasticsearch.index.mapper.MapperBuilderContext;
 import org.elasticsearch.index.mapper.Mapping;
@@ -30,10 +33,13 @@ import org.elasticsearch.index.mapper.ObjectMapper;
 import org.elasticsearch.index.mapper.RootObjectMapper;
 import org.elasticsearch.test.ESTestCase;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
 
+import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
@@ -127,6 +133,170 @@ public class MappingUpdatedActionTests extends ESTestCase {
         assertTrue(fut2.isDone());
     }
 
+    public void testMappingUpdatesAreBatchedPerIndex() {
+        List<Tuple<Mapping, ActionListener<Void>>> inFlightUpdates = new CopyOnWriteArrayList<>();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        ) {
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                inFlightUpdates.add(Tuple.tuple(mappingUpdate, listener));
+            }
+        };
+        Index index = new Index("index", "uuid");
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut1);
+        assertEquals(1, inFlightUpdates.size());
+
+        // updates for the same index wait for the in-flight one, updates for other indices are sent right away
+        List<PlainActionFuture<Void>> batched = new ArrayList<>();
+        for (int i = between(2, 5); i > 0; i--) {
+            PlainActionFuture<Void> fut = new PlainActionFuture<>();
+            mua.updateMappingOnMaster(index, emptyMapping(), fut);
+            batched.add(fut);
+        }
+        PlainActionFuture<Void> otherIndexFut = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(new Index("other", "uuid"), emptyMapping(), otherIndexFut);
+        assertEquals(2, inFlightUpdates.size());
+        inFlightUpdates.remove(1).v2().onResponse(null);
+        assertTrue(otherIndexFut.isDone());
+
+        // completing the in-flight update sends all pending updates as one merged update
+        inFlightUpdates.remove(0).v2().onResponse(null);
+        assertTrue(fut1.isDone());
+        assertEquals(1, inFlightUpdates.size());
+        assertTrue(batched.stream().noneMatch(PlainActionFuture::isDone));
+
+        inFlightUpdates.remove(0).v2().onResponse(null);
+        assertTrue(batched.stream().allMatch(PlainActionFuture::isDone));
+        assertEquals(0, inFlightUpdates.size());
+        assertEquals(0, mua.blockedThreads());
+    }
+
+    public void testFailedBatchIsRetriedOneByOne() {
+        List<ActionListener<Void>> inFlightListeners = new CopyOnWriteArrayList<>();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        ) {
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                inFlightListeners.add(listener);
+            }
+        };
+        Index index = new Index("index", "uuid");
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut1);
+        PlainActionFuture<Void> fut2 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut2);
+        PlainActionFuture<Void> fut3 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut3);
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut1.isDone());
+
+        // the merged update fails, so each update is sent on its own
+        inFlightListeners.remove(0).onFailure(new IllegalArgumentException("conflict"));
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onFailure(new IllegalArgumentException("conflict"));
+        expectThrows(IllegalArgumentException.class, fut2::actionGet);
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onResponse(null);
+        assertNull(fut3.actionGet());
+        assertEquals(0, inFlightListeners.size());
+    }
+
+    public void testBatchFailsAsAWholeIfMasterDoesNotProcessIt() {
+        List<ActionListener<Void>> inFlightListeners = new CopyOnWriteArrayList<>();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.EMPTY,
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        ) {
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                inFlightListeners.add(listener);
+            }
+        };
+        Index index = new Index("index", "uuid");
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut1);
+        List<PlainActionFuture<Void>> batched = new ArrayList<>();
+        for (int i = between(2, 5); i > 0; i--) {
+            PlainActionFuture<Void> fut = new PlainActionFuture<>();
+            mua.updateMappingOnMaster(index, emptyMapping(), fut);
+            batched.add(fut);
+        }
+        inFlightListeners.remove(0).onResponse(null);
+        assertTrue(fut1.isDone());
+
+        // the merged update times out on the master, so the updates aren't sent again one by one
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onFailure(new ProcessClusterEventTimeoutException(TimeValue.timeValueSeconds(30), "test"));
+        assertEquals(0, inFlightListeners.size());
+        for (PlainActionFuture<Void> fut : batched) {
+            expectThrows(ProcessClusterEventTimeoutException.class, fut::actionGet);
+        }
+
+        // the index has no update in flight anymore, so the next one is sent right away
+        PlainActionFuture<Void> fut2 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut2);
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onResponse(null);
+        assertNull(fut2.actionGet());
+        assertEquals(0, mua.blockedThreads());
+    }
+
+    public void testInterruptedBatchFailsQueuedUpdates() throws Exception {
+        List<ActionListener<Void>> inFlightListeners = new CopyOnWriteArrayList<>();
+        final MappingUpdatedAction mua = new MappingUpdatedAction(
+            Settings.builder().put(MappingUpdatedAction.INDICES_MAX_IN_FLIGHT_UPDATES_SETTING.getKey(), 1).build(),
+            new ClusterSettings(Settings.EMPTY, ClusterSettings.BUILT_IN_CLUSTER_SETTINGS)
+        ) {
+            @Override
+            protected void sendUpdateMapping(Index index, Mapping mappingUpdate, ActionListener<Void> listener) {
+                inFlightListeners.add(listener);
+            }
+        };
+        Index index = new Index("index", "uuid");
+
+        // the only permit is taken by an update for another index
+        PlainActionFuture<Void> otherIndexFut = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(new Index("other", "uuid"), emptyMapping(), otherIndexFut);
+        assertEquals(1, inFlightListeners.size());
+
+        PlainActionFuture<Void> fut1 = new PlainActionFuture<>();
+        Thread thread = new Thread(() -> mua.updateMappingOnMaster(index, emptyMapping(), fut1));
+        thread.start();
+        assertBusy(() -> assertEquals(1, mua.blockedThreads()));
+        PlainActionFuture<Void> fut2 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut2);
+
+        // the interrupted update and the one queued behind it fail without being sent
+        thread.interrupt();
+        thread.join();
+        assertThat(expectThrows(ExecutionException.class, fut1::get).getCause(), instanceOf(InterruptedException.class));
+        assertThat(expectThrows(ExecutionException.class, fut2::get).getCause(), instanceOf(InterruptedException.class));
+        assertEquals(1, inFlightListeners.size());
+
+        inFlightListeners.remove(0).onResponse(null);
+        assertNull(otherIndexFut.actionGet());
+        PlainActionFuture<Void> fut3 = new PlainActionFuture<>();
+        mua.updateMappingOnMaster(index, emptyMapping(), fut3);
+        assertEquals(1, inFlightListeners.size());
+        inFlightListeners.remove(0).onResponse(null);
+        assertNull(fut3.actionGet());
+    }
+
+    private static Mapping emptyMapping() {
+        RootObjectMapper rootObjectMapper = new RootObjectMapper.Builder("_doc", ObjectMapper.Defaults.SUBOBJECTS).build(
+            MapperBuilderContext.root(false, false)
+        );
+        return new Mapping(rootObjectMapper, new MetadataFieldMapper[0], Map.of());
+    }
+
     public void testSendUpdateMappingUsingAutoPutMappingAction() {
         DiscoveryNodes nodes = DiscoveryNodes.builder().add(DiscoveryNodeUtils.builder("first").build()).build();
         ClusterState clusterState = ClusterState.builder(new ClusterName("_name")).nodes(nodes).build();
@@ -9,11 +9,14 @@
 package org.elasticsearch.index.codec.vectors.cluster;
 
 import org.apache.lucene.index.FloatVectorValues;
+import org.apache.lucene.search.TaskExecutor;
 import org.elasticsearch.test.ESTestCase;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class HierarchicalKMeansTests extends ESTestCase {
 
@@ -47,6 +50,28 @@ public class HierarchicalKMeansTests extends ESTestCase {
         }
     }
 
+    public void testConcurrentAssignmentsMatchSequential() throws Exception {
+        int nClusters = random().nextInt(2, 10);
+        int nVectors = random().nextInt(3 * KMeansLocal.MIN_VECTORS_PER_TASK, 5 * KMeansLocal.MIN_VECTORS_PER_TASK);
+        int dims = random().nextInt(2, 8);
+        FloatVectorValues vectors = generateData(nVectors, dims, nClusters);
+        int targetSize = random().nextInt(500, 2000);
+
+        KMeansResult expected = new HierarchicalKMeans(dims).cluster(vectors, targetSize);
+        ExecutorService executorService = Executors.newFixedThreadPool(randomIntBetween(2, 4));
+        try {
+            KMeansResult actual = new HierarchicalKMeans(dims, new TaskExecutor(executorService)).cluster(vectors, targetSize);
+            assertArrayEquals(expected.assignments(), actual.assignments());
+            assertArrayEquals(expected.soarAssignments(), actual.soarAssignments());
+            assertEquals(expected.centroids().length, actual.centroids().length);
+            for (int i = 0; i < expected.centroids().length; i++) {
+                assertArrayEquals(expected.centroids()[i], actual.centroids()[i], 0f);
+            }
+        } finally {
+            terminate(executorService);
+        }
+    }
+
     private static FloatVectorValues generateData(int nSamples, int nDims, int nClusters) {
         List<float[]> vectors = new ArrayList<>(nSamples);
         float[][] centroids = new float[nClusters][nDims];
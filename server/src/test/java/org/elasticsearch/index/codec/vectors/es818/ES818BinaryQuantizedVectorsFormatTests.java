@@ -23,6 +23,7 @@ import org.apache.lucene.codecs.Codec;
 import org.apache.lucene.codecs.FilterCodec;
 import org.apache.lucene.codecs.KnnVectorsFormat;
 import org.apache.lucene.codecs.KnnVectorsReader;
+import org.apache.lucene.codecs.lucene95.HasIndexSlice;
 import org.apache.lucene.codecs.perfield.PerFieldKnnVectorsFormat;
 import org.apache.lucene.document.Document;
 import org.apache.lucene.document.KnnFloatVectorField;
@@ -39,6 +40,7 @@ import org.apache.lucene.misc.store.DirectIODirectory;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.KnnFloatVectorQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TaskExecutor;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.TotalHits;
 import org.apache.lucene.store.Directory;
@@ -49,6 +51,7 @@ import org.apache.lucene.store.MMapDirectory;
 import org.apache.lucene.tests.index.BaseKnnVectorsFormatTestCase;
 import org.apache.lucene.tests.store.MockDirectoryWrapper;
 import org.apache.lucene.tests.util.TestUtil;
+import org.apache.lucene.util.VectorUtil;
 import org.elasticsearch.common.logging.LogConfigurator;
 import org.elasticsearch.common.settings.Settings;
 import org.elasticsearch.index.IndexModule;
@@ -66,6 +69,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Locale;
 import java.util.OptionalLong;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static java.lang.String.format;
 import static org.apache.lucene.index.VectorSimilarityFunction.DOT_PRODUCT;
@@ -173,6 +178,8 @@ public class ES818BinaryQuantizedVectorsFormatTests extends BaseKnnVectorsFormat
                         .getQuantizedVectorValues();
                     float[] centroid = qvectorValues.getCentroid();
                     assertEquals(centroid.length, dims);
+                    // rescoring prefetches the raw vectors through the slice
+                    assertNotNull(((HasIndexSlice) vectorValues).getSlice());
 
                     OptimizedScalarQuantizer quantizer = new OptimizedScalarQuantizer(similarityFunction);
                     byte[] quantizedVector = new byte[dims];
@@ -198,6 +205,54 @@ public class ES818BinaryQuantizedVectorsFormatTests extends BaseKnnVectorsFormat
         }
     }
 
+    public void testConcurrentBlockQuantizationMatchesSequential() throws IOException {
+        int dims = random().nextInt(4, 96);
+        int numVectors = random().nextInt(1, 1000);
+        VectorSimilarityFunction similarityFunction = randomFrom(DOT_PRODUCT, VectorSimilarityFunction.EUCLIDEAN);
+        float[][] vectors = new float[numVectors][];
+        for (int i = 0; i < numVectors; i++) {
+            vectors[i] = randomVector(dims);
+            if (similarityFunction == DOT_PRODUCT) {
+                VectorUtil.l2normalize(vectors[i]);
+            }
+        }
+        float[] centroid = new float[dims];
+        ES818BinaryQuantizedVectorsWriter.QuantizationBlock sequential = new ES818BinaryQuantizedVectorsWriter.QuantizationBlock(
+            dims,
+            centroid,
+            new OptimizedScalarQuantizer(similarityFunction),
+            null
+        );
+        ExecutorService executorService = Executors.newFixedThreadPool(4);
+        try {
+            ES818BinaryQuantizedVectorsWriter.QuantizationBlock concurrent = new ES818BinaryQuantizedVectorsWriter.QuantizationBlock(
+                dims,
+                centroid,
+                new OptimizedScalarQuantizer(similarityFunction),
+                new TaskExecutor(executorService)
+            );
+            int start = 0;
+            for (int i = 0; i < numVectors; i++) {
+                if (concurrent.add(vectors[i]) || i == numVectors - 1) {
+                    concurrent.quantize();
+                    for (int j = 0; j < concurrent.size(); j++) {
+                        assertTrue(sequential.add(vectors[start + j]));
+                        sequential.quantize();
+                        assertArrayEquals(sequential.results[0], concurrent.results[j]);
+                        assertArrayEquals(sequential.quantized[0][0], concurrent.quantized[j][0]);
+                        assertArrayEquals(sequential.quantized[0][1], concurrent.quantized[j][1]);
+                        sequential.clear();
+                    }
+                    start += concurrent.size();
+                    concurrent.clear();
+                }
+            }
+            assertEquals(numVectors, start);
+        } finally {
+            executorService.shutdown();
+        }
+    }
+
     public void testSimpleOffHeapSize() throws IOException {
         try (Directory dir = newDirectory()) {
             testSimpleOffHeapSizeImpl(dir, newIndexWriterConfig(), true);
@@ -47,6 +47,7 @@ import static org.elasticsearch.index.engine.ThreadPoolMergeExecutorService.MIN_
 import static org.elasticsearch.index.engine.ThreadPoolMergeScheduler.Schedule.ABORT;
 import static org.elasticsearch.index.engine.ThreadPoolMergeScheduler.Schedule.BACKLOG;
 import static org.elasticsearch.index.engine.ThreadPoolMergeScheduler.Schedule.RUN;
+import static org.hamcrest.Matchers.containsString;
 import static org.hamcrest.Matchers.either;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -879,6 +880,52 @@ public class ThreadPoolMergeExecutorServiceTests extends ESTestCase {
         }
     }
 
+    public void testIntraMergeTasksRunOnIdleMergeThreads() throws Exception {
+        Settings settings = Settings.builder()
+            .put(ThreadPoolMergeScheduler.USE_THREAD_POOL_MERGE_SCHEDULER_SETTING.getKey(), true)
+            .put(EsExecutors.NODE_PROCESSORS_SETTING.getKey(), randomIntBetween(2, 5))
+            // disable fs available disk space feature for this test
+            .put(ThreadPoolMergeExecutorService.INDICES_MERGE_DISK_CHECK_INTERVAL_SETTING.getKey(), "0s")
+            .build();
+        nodeEnvironment = newNodeEnvironment(settings);
+        try (TestThreadPool testThreadPool = new TestThreadPool("test", settings)) {
+            ThreadPoolMergeExecutorService threadPoolMergeExecutorService = getThreadPoolMergeExecutorService(
+                testThreadPool,
+                settings,
+                nodeEnvironment
+            );
+            AtomicReference<Thread> executingThread = new AtomicReference<>();
+            CountDownLatch executed = new CountDownLatch(1);
+            threadPoolMergeExecutorService.getIntraMergeExecutor().execute(() -> {
+                executingThread.set(Thread.currentThread());
+                executed.countDown();
+            });
+            safeAwait(executed);
+            assertNotSame(Thread.currentThread(), executingThread.get());
+            assertThat(executingThread.get().getName(), containsString("[" + ThreadPool.Names.MERGE + "]"));
+        }
+    }
+
+    public void testIntraMergeTasksRunOnCallingThreadWhenDisabled() throws Exception {
+        Settings settings = Settings.builder()
+            .put(ThreadPoolMergeScheduler.USE_THREAD_POOL_MERGE_SCHEDULER_SETTING.getKey(), true)
+            .put(ThreadPoolMergeExecutorService.INDICES_MERGE_MAX_INTRA_MERGE_THREADS_SETTING.getKey(), 0)
+            // disable fs available disk space feature for this test
+            .put(ThreadPoolMergeExecutorService.INDICES_MERGE_DISK_CHECK_INTERVAL_SETTING.getKey(), "0s")
+            .build();
+        nodeEnvironment = newNodeEnvironment(settings);
+        try (TestThreadPool testThreadPool = new TestThreadPool("test", settings)) {
+            ThreadPoolMergeExecutorService threadPoolMergeExecutorService = getThreadPoolMergeExecutorService(
+                testThreadPool,
+                settings,
+                nodeEnvironment
+            );
+            AtomicReference<Thread> executingThread = new AtomicReference<>();
+            threadPoolMergeExecutorService.getIntraMergeExecutor().execute(() -> executingThread.set(Thread.currentThread()));
+            assertSame(Thread.currentThread(), executingThread.get());
+        }
+    }
+
     private static class CountingMergeEventListener implements MergeEventListener {
         AtomicInteger queued = new AtomicInteger();
         AtomicInteger aborted = new AtomicInteger();
@@ -0,0 +1,71 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.search.lookup;
+
+import org.elasticsearch.common.bytes.BytesArray;
+import org.elasticsearch.common.bytes.BytesReference;
+import org.elasticsearch.common.xcontent.XContentHelper;
+import org.elasticsearch.common.xcontent.support.XContentMapValues;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.List;
+import java.util.Map;
+
+public class SourceTests extends ESTestCase {
+
+    private static final BytesReference SOURCE = new BytesArray("""
+        {
+          "field1": "value1",
+          "field2": null,
+          "object": { "inner": 1, "other": "foo", "deep": { "leaf": true } },
+          "dotted.name": "dotted",
+          "object.inner": 2,
+          "array": [ { "inner": 1 }, { "other": 2 }, [ { "inner": 3 } ], 4 ],
+          "empty": [ { "other": 1 } ],
+          "values": [ 1, 2, 3 ]
+        }""");
+
+    public void testExtractValueFromBytesMatchesParsedMap() {
+        Map<String, Object> map = XContentHelper.convertToMap(SOURCE, true).v2();
+        for (String path : List.of(
+            "field1",
+            "field2",
+            "object",
+            "object.inner",
+            "object.deep",
+            "object.deep.leaf",
+            "dotted.name",
+            "array",
+            "array.inner",
+            "array.other",
+            "values",
+            "missing",
+            "object.missing"
+        )) {
+            Object nullValue = randomBoolean() ? null : "null_value";
+            Object expected = XContentMapValues.extractValue(path, map, nullValue);
+            assertEquals(path, expected, Source.fromBytes(SOURCE).extractValue(path, nullValue));
+        }
+    }
+
+    public void testExtractValueFromBytesThroughFilteredOutArray() {
+        // the fully parsed map keeps the array whose objects don't have the path, but there are no values either way
+        assertEquals(List.of(), XContentMapValues.extractValue("empty.inner", XContentHelper.convertToMap(SOURCE, true).v2()));
+        assertNull(Source.fromBytes(SOURCE).extractValue("empty.inner", null));
+    }
+
+    public void testExtractValueFromBytesMoreThanOnce() {
+        Source source = Source.fromBytes(SOURCE);
+        assertEquals("value1", source.extractValue("field1", null));
+        assertEquals(List.of(1, 3), source.extractValue("array.inner", null));
+        assertEquals(List.of(1, 2), source.extractValue("object.inner", null));
+        assertEquals("value1", source.source().get("field1"));
+    }
+}
@@ -19,11 +19,15 @@ import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.Term;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
+import org.apache.lucene.search.CollectorManager;
 import org.apache.lucene.search.Explanation;
 import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.Query;
 import org.apache.lucene.search.ScoreMode;
+import org.apache.lucene.search.SimpleCollector;
+import org.apache.lucene.search.Sort;
 import org.apache.lucene.search.TermQuery;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
 import org.apache.lucene.store.Directory;
 import org.elasticsearch.common.lucene.search.Queries;
@@ -41,11 +45,14 @@ import org.junit.Before;
 import org.mockito.ArgumentCaptor;
 
 import java.io.IOException;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.collection.IsArrayWithSize.arrayWithSize;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -139,6 +146,159 @@ public class ScriptScoreQueryTests extends ESTestCase {
         assertTrue(e.getMessage().contains("Must be a non-negative score!"));
     }
 
+    public void testBlockScoring() throws IOException {
+        int numDocs = between(1, 1000);
+        try (Directory blockDir = newDirectory(); IndexWriter blockWriter = new IndexWriter(blockDir, newIndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                Document d = new Document();
+                d.add(new TextField("field", "text", Field.Store.NO));
+                blockWriter.addDocument(d);
+            }
+            blockWriter.forceMerge(1);
+            try (DirectoryReader blockReader = DirectoryReader.open(blockWriter)) {
+                IndexSearcher blockSearcher = newSearcher(blockReader);
+                Script script = new Script("script scored a block at a time");
+                AtomicInteger blockDocs = new AtomicInteger();
+                ScoreScript.LeafFactory factory = newFactory(
+                    false,
+                    false,
+                    (lookup, docReader) -> new ScoreScript(script.getParams(), lookup, docReader) {
+                        @Override
+                        public double execute(ExplanationHolder explanation) {
+                            return _getDocId() + 1;
+                        }
+
+                        @Override
+                        public boolean supportsBlockExecution() {
+                            return true;
+                        }
+
+                        @Override
+                        public void executeBlock(int[] docs, int count, double[] scores) {
+                            assertThat(count, lessThanOrEqualTo(docs.length));
+                            blockDocs.addAndGet(count);
+                            super.executeBlock(docs, count, scores);
+                        }
+                    }
+                );
+                ScriptScoreQuery query = createScriptScoreQuery(Queries.newMatchAllQuery(), script, factory);
+                TopDocs topDocs = blockSearcher.search(query, 1);
+                assertThat(topDocs.scoreDocs[0].doc, equalTo(numDocs - 1));
+                assertThat(topDocs.scoreDocs[0].score, equalTo((float) numDocs));
+                assertThat(blockDocs.get(), equalTo(numDocs));
+            }
+        }
+    }
+
+    public void testNoBlockScoringWithoutSupport() throws IOException {
+        int numDocs = between(1, 1000);
+        try (Directory blockDir = newDirectory(); IndexWriter blockWriter = new IndexWriter(blockDir, newIndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                Document d = new Document();
+                d.add(new TextField("field", "text", Field.Store.NO));
+                blockWriter.addDocument(d);
+            }
+            try (DirectoryReader blockReader = DirectoryReader.open(blockWriter)) {
+                IndexSearcher blockSearcher = newSearcher(blockReader);
+                Script script = new Script("script scored a document at a time");
+                AtomicInteger blockDocs = new AtomicInteger();
+                ScoreScript.LeafFactory factory = newFactory(
+                    false,
+                    false,
+                    (lookup, docReader) -> new ScoreScript(script.getParams(), lookup, docReader) {
+                        @Override
+                        public double execute(ExplanationHolder explanation) {
+                            return 1;
+                        }
+
+                        @Override
+                        public void executeBlock(int[] docs, int count, double[] scores) {
+                            blockDocs.addAndGet(count);
+                            super.executeBlock(docs, count, scores);
+                        }
+                    }
+                );
+                ScriptScoreQuery query = createScriptScoreQuery(Queries.newMatchAllQuery(), script, factory);
+                TopDocs topDocs = blockSearcher.search(query, numDocs);
+                assertThat(topDocs.scoreDocs.length, equalTo(numDocs));
+                assertThat(blockDocs.get(), equalTo(0));
+            }
+        }
+    }
+
+    public void testBlockScoringSkipsUnreadScores() throws IOException {
+        int numDocs = between(1, 1000);
+        try (Directory blockDir = newDirectory(); IndexWriter blockWriter = new IndexWriter(blockDir, newIndexWriterConfig())) {
+            for (int i = 0; i < numDocs; i++) {
+                Document d = new Document();
+                d.add(new TextField("field", "text", Field.Store.NO));
+                blockWriter.addDocument(d);
+            }
+            blockWriter.forceMerge(1);
+            try (DirectoryReader blockReader = DirectoryReader.open(blockWriter)) {
+                IndexSearcher blockSearcher = newSearcher(blockReader);
+                Script script = new Script("script scored a block at a time");
+                AtomicInteger blockDocs = new AtomicInteger();
+                ScoreScript.LeafFactory factory = newFactory(
+                    false,
+                    false,
+                    (lookup, docReader) -> new ScoreScript(script.getParams(), lookup, docReader) {
+                        @Override
+                        public double execute(ExplanationHolder explanation) {
+                            return _getDocId() + 1;
+                        }
+
+                        @Override
+                        public boolean supportsBlockExecution() {
+                            return true;
+                        }
+
+                        @Override
+                        public void executeBlock(int[] docs, int count, double[] scores) {
+                            blockDocs.addAndGet(count);
+                            super.executeBlock(docs, count, scores);
+                        }
+                    }
+                );
+                ScriptScoreQuery query = createScriptScoreQuery(Queries.newMatchAllQuery(), script, factory);
+
+                // sorting on a field doesn't need scores
+                TopDocs topDocs = blockSearcher.search(query, 1, Sort.INDEXORDER);
+                assertThat(topDocs.scoreDocs[0].doc, equalTo(0));
+                assertThat(blockDocs.get(), equalTo(0));
+
+                // a collector that needs scores but never reads them
+                int collected = blockSearcher.search(query, new CollectorManager<CountingCollector, Integer>() {
+                    @Override
+                    public CountingCollector newCollector() {
+                        return new CountingCollector();
+                    }
+
+                    @Override
+                    public Integer reduce(Collection<CountingCollector> collectors) {
+                        return collectors.stream().mapToInt(c -> c.count).sum();
+                    }
+                });
+                assertThat(collected, equalTo(numDocs));
+                assertThat(blockDocs.get(), equalTo(0));
+            }
+        }
+    }
+
+    private static class CountingCollector extends SimpleCollector {
+        private int count;
+
+        @Override
+        public void collect(int doc) {
+            count++;
+        }
+
+        @Override
+        public ScoreMode scoreMode() {
+            return ScoreMode.COMPLETE;
+        }
+    }
+
     public void testScriptTermStatsAvailable() throws IOException {
         Script script = new Script("termStats script without setting explanation");
         ScoreScript scoreScriptMock = mock(ScoreScript.class);
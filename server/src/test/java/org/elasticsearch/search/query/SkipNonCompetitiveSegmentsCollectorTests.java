@@ -0,0 +1,239 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the "Elastic License
+ * 2.0", the "GNU Affero General Public License v3.0 only", and the "Server Side
+ * Public License v 1"; you may not use this file except in compliance with, at
+ * your election, the "Elastic License 2.0", the "GNU Affero General Public
+ * License v3.0 only", or the "Server Side Public License, v 1".
+ */
+
+package org.elasticsearch.search.query;
+
+import org.apache.lucene.document.Document;
+import org.apache.lucene.document.SortedNumericDocValuesField;
+import org.apache.lucene.index.DirectoryReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.IndexWriter;
+import org.apache.lucene.index.IndexWriterConfig;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.search.Collector;
+import org.apache.lucene.search.CollectorManager;
+import org.apache.lucene.search.FieldDoc;
+import org.apache.lucene.search.FilterCollector;
+import org.apache.lucene.search.IndexSearcher;
+import org.apache.lucene.search.LeafCollector;
+import org.apache.lucene.search.MatchAllDocsQuery;
+import org.apache.lucene.search.Sort;
+import org.apache.lucene.search.SortField;
+import org.apache.lucene.search.SortedNumericSortField;
+import org.apache.lucene.search.TopFieldCollector;
+import org.apache.lucene.search.TopFieldCollectorManager;
+import org.apache.lucene.search.TopFieldDocs;
+import org.apache.lucene.store.Directory;
+import org.elasticsearch.search.DocValueFormat;
+import org.elasticsearch.search.SearchSortValuesAndFormats;
+import org.elasticsearch.test.ESTestCase;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThan;
+
+public class SkipNonCompetitiveSegmentsCollectorTests extends ESTestCase {
+
+    public void testSkipsSegmentsThatCannotCompete() throws IOException {
+        final boolean reverse = randomBoolean();
+        final int numSegments = randomIntBetween(3, 10);
+        final int numHits = randomIntBetween(1, 20);
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < numSegments; segment++) {
+                    // the first segments hold the most competitive values
+                    final long base = reverse ? (numSegments - segment) * 1000L : segment * 1000L;
+                    final int numDocs = randomIntBetween(numHits, 200);
+                    for (int i = 0; i < numDocs; i++) {
+                        Document doc = new Document();
+                        if (randomBoolean()) {
+                            doc.add(SortedNumericDocValuesField.indexedField("ts", base + randomIntBetween(0, 999)));
+                        }
+                        writer.addDocument(doc);
+                    }
+                    // at least numHits docs with a value in every segment
+                    for (int i = 0; i < numHits; i++) {
+                        Document doc = new Document();
+                        doc.add(SortedNumericDocValuesField.indexedField("ts", base + randomIntBetween(0, 999)));
+                        writer.addDocument(doc);
+                    }
+                    writer.flush();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(numSegments));
+                SortField sortField = new SortedNumericSortField("ts", SortField.Type.LONG, reverse);
+                sortField.setMissingValue(reverse ? Long.MIN_VALUE : Long.MAX_VALUE);
+                Sort sort = new Sort(sortField);
+                IndexSearcher searcher = new IndexSearcher(reader);
+
+                TopFieldDocs expected = searcher.search(new MatchAllDocsQuery(), new TopFieldCollectorManager(sort, numHits, null, 1));
+                AtomicInteger visitedLeaves = new AtomicInteger();
+                TopFieldDocs actual = searcher.search(
+                    new MatchAllDocsQuery(),
+                    new SkippingCollectorManager(reader, sort, numHits, visitedLeaves)
+                );
+
+                assertThat(visitedLeaves.get(), lessThan(numSegments));
+                assertThat(actual.scoreDocs.length, equalTo(expected.scoreDocs.length));
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertThat(((FieldDoc) actual.scoreDocs[i]).fields[0], equalTo(((FieldDoc) expected.scoreDocs[i]).fields[0]));
+                }
+            }
+        }
+    }
+
+    public void testSkipsSegmentsBelowGlobalBottom() throws IOException {
+        final boolean reverse = randomBoolean();
+        final int numSegments = randomIntBetween(3, 10);
+        final int numHits = randomIntBetween(1, 20);
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig().setMergePolicy(NoMergePolicy.INSTANCE))) {
+                for (int segment = 0; segment < numSegments; segment++) {
+                    // the last segment holds the most competitive values so the local bottom alone cannot skip anything
+                    final long base = reverse ? segment * 1000L : (numSegments - segment) * 1000L;
+                    for (int i = 0; i < numHits; i++) {
+                        Document doc = new Document();
+                        doc.add(SortedNumericDocValuesField.indexedField("ts", base + randomIntBetween(0, 999)));
+                        writer.addDocument(doc);
+                    }
+                    writer.flush();
+                }
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertThat(reader.leaves().size(), equalTo(numSegments));
+                SortField sortField = new SortedNumericSortField("ts", SortField.Type.LONG, reverse);
+                Sort sort = new Sort(sortField);
+                IndexSearcher searcher = new IndexSearcher(reader);
+
+                TopFieldDocs expected = searcher.search(new MatchAllDocsQuery(), new TopFieldCollectorManager(sort, numHits, null, 1));
+                // the bottom that another shard of the same request would have returned
+                Object bottomValue = ((FieldDoc) expected.scoreDocs[numHits - 1]).fields[0];
+                SearchSortValuesAndFormats globalBottom = new SearchSortValuesAndFormats(
+                    new Object[] { bottomValue },
+                    new DocValueFormat[] { DocValueFormat.RAW }
+                );
+
+                AtomicInteger visitedLeaves = new AtomicInteger();
+                TopFieldDocs actual = searcher.search(
+                    new MatchAllDocsQuery(),
+                    new SkippingCollectorManager(reader, sort, numHits, visitedLeaves, DocValueFormat.RAW, () -> globalBottom)
+                );
+                assertThat(visitedLeaves.get(), equalTo(1));
+                assertThat(actual.scoreDocs.length, equalTo(expected.scoreDocs.length));
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertThat(((FieldDoc) actual.scoreDocs[i]).fields[0], equalTo(((FieldDoc) expected.scoreDocs[i]).fields[0]));
+                }
+
+                // bottom values produced with another format are ignored
+                visitedLeaves.set(0);
+                searcher.search(
+                    new MatchAllDocsQuery(),
+                    new SkippingCollectorManager(reader, sort, numHits, visitedLeaves, DocValueFormat.BOOLEAN, () -> globalBottom)
+                );
+                assertThat(visitedLeaves.get(), equalTo(numSegments));
+            }
+        }
+    }
+
+    public void testUnsupportedSorts() throws IOException {
+        try (Directory dir = newDirectory()) {
+            try (IndexWriter writer = new IndexWriter(dir, new IndexWriterConfig())) {
+                Document doc = new Document();
+                doc.add(SortedNumericDocValuesField.indexedField("field", randomLong()));
+                doc.add(new SortedNumericDocValuesField("no_skipper", randomLong()));
+                writer.addDocument(doc);
+            }
+            try (DirectoryReader reader = DirectoryReader.open(dir)) {
+                assertNull(SkipNonCompetitiveSegmentsCollector.maybeCreate(reader, new SortField[] { SortField.FIELD_SCORE }));
+                assertNull(
+                    SkipNonCompetitiveSegmentsCollector.maybeCreate(reader, new SortField[] { new SortField("field", SortField.Type.LONG) })
+                );
+                assertNull(
+                    SkipNonCompetitiveSegmentsCollector.maybeCreate(
+                        reader,
+                        new SortField[] { new SortedNumericSortField("field", SortField.Type.DOUBLE) }
+                    )
+                );
+                // segments can't be skipped without a doc values skipper
+                assertNull(
+                    SkipNonCompetitiveSegmentsCollector.maybeCreate(
+                        reader,
+                        new SortField[] { new SortedNumericSortField("no_skipper", SortField.Type.LONG) }
+                    )
+                );
+                assertNull(
+                    SkipNonCompetitiveSegmentsCollector.maybeCreate(
+                        reader,
+                        new SortField[] { new SortedNumericSortField("unmapped", SortField.Type.LONG) }
+                    )
+                );
+                assertNotNull(
+                    SkipNonCompetitiveSegmentsCollector.maybeCreate(
+                        reader,
+                        new SortField[] { new SortedNumericSortField("field", SortField.Type.LONG), SortField.FIELD_DOC }
+                    )
+                );
+            }
+        }
+    }
+
+    private static class SkippingCollectorManager implements CollectorManager<Collector, TopFieldDocs> {
+        private final TopFieldCollectorManager topFieldCollectorManager;
+        private final SkipNonCompetitiveSegmentsCollector.SharedBottom sharedBottom;
+        private final int numHits;
+        private final AtomicInteger visitedLeaves;
+        private final List<TopFieldCollector> topFieldCollectors = new ArrayList<>();
+
+        SkippingCollectorManager(IndexReader reader, Sort sort, int numHits, AtomicInteger visitedLeaves) {
+            this.topFieldCollectorManager = new TopFieldCollectorManager(sort, numHits, null, 1);
+            this.sharedBottom = SkipNonCompetitiveSegmentsCollector.maybeCreate(reader, sort.getSort());
+            this.numHits = numHits;
+            this.visitedLeaves = visitedLeaves;
+        }
+
+        SkippingCollectorManager(
+            IndexReader reader,
+            Sort sort,
+            int numHits,
+            AtomicInteger visitedLeaves,
+            DocValueFormat format,
+            Supplier<SearchSortValuesAndFormats> globalBottom
+        ) {
+            this(reader, sort, numHits, visitedLeaves);
+            sharedBottom.setGlobalBottom(format, globalBottom);
+        }
+
+        @Override
+        public Collector newCollector() throws IOException {
+            TopFieldCollector topFieldCollector = topFieldCollectorManager.newCollector();
+            topFieldCollectors.add(topFieldCollector);
+            Collector countingCollector = new FilterCollector(topFieldCollector) {
+                @Override
+                public LeafCollector getLeafCollector(LeafReaderContext context) throws IOException {
+                    visitedLeaves.incrementAndGet();
+                    return super.getLeafCollector(context);
+                }
+            };
+            return new SkipNonCompetitiveSegmentsCollector(countingCollector, sharedBottom, numHits);
+        }
+
+        @Override
+        public TopFieldDocs reduce(Collection<Collector> collectors) throws IOException {
+            return topFieldCollectorManager.reduce(topFieldCollectors);
+        }
+    }
+}
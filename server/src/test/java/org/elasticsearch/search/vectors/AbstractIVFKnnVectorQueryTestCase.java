@@ -36,6 +36,7 @@ import org.apache.lucene.index.KnnVectorValues;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.LeafReaderContext;
 import org.apache.lucene.index.NoMergePolicy;
+import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.SerialMergeScheduler;
 import org.apache.lucene.index.StoredFields;
 import org.apache.lucene.index.Term;
@@ -688,6 +689,49 @@ abstract class AbstractIVFKnnVectorQueryTestCase extends LuceneTestCase {
         }
     }
 
+    /** Tests that a filter matching fewer documents than candidates scores each of them exactly instead of probing centroids. */
+    public void testSelectiveFilterUsesExactSearch() throws IOException {
+        int numDocs = 500;
+        int dimension = atLeast(5);
+        float[][] vectors = new float[numDocs][];
+        try (Directory d = newDirectoryForTest()) {
+            IndexWriterConfig iwc = configStandardCodec();
+            iwc.setCodec(TestUtil.alwaysKnnVectorsFormat(format));
+            IndexWriter w = new IndexWriter(d, iwc);
+            for (int i = 0; i < numDocs; i++) {
+                vectors[i] = randomVector(dimension);
+                Document doc = new Document();
+                doc.add(getKnnVectorField("field", vectors[i], VectorSimilarityFunction.EUCLIDEAN));
+                doc.add(new NumericDocValuesField("tag", i));
+                doc.add(new IntPoint("tag", i));
+                w.addDocument(doc);
+            }
+            w.forceMerge(1);
+            w.close();
+
+            try (DirectoryReader reader = DirectoryReader.open(d)) {
+                IndexSearcher searcher = newSearcher(reader);
+                int k = 10;
+                int lower = random().nextInt(numDocs - k);
+                int upper = lower + random().nextInt(k);
+                float[] queryVector = randomVector(dimension);
+                Query filter = IntPoint.newRangeQuery("tag", lower, upper);
+                // nProbe of 1 would hardly ever reach all of the filtered documents with an approximate search
+                TopDocs results = searcher.search(getKnnVectorQuery("field", queryVector, k, filter, 1), numDocs);
+                assertEquals(upper - lower + 1, results.totalHits.value());
+                assertEquals(results.totalHits.value(), results.scoreDocs.length);
+
+                NumericDocValues tags = getOnlyLeafReader(reader).getNumericDocValues("tag");
+                for (ScoreDoc scoreDoc : results.scoreDocs) {
+                    assertTrue(tags.advanceExact(scoreDoc.doc));
+                    int tag = (int) tags.longValue();
+                    assertTrue(lower <= tag && tag <= upper);
+                    assertEquals(VectorSimilarityFunction.EUCLIDEAN.compare(queryVector, vectors[tag]), scoreDoc.score, EPSILON);
+                }
+            }
+        }
+    }
+
     public void testDeletes() throws IOException {
         try (Directory dir = newDirectoryForTest(); IndexWriter w = new IndexWriter(dir, newIndexWriterConfig())) {
             final int numDocs = atLeast(100);
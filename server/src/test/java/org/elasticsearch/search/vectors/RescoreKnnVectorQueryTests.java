@@ -28,7 +28,11 @@ import org.apache.lucene.search.ScoreDoc;
 import org.apache.lucene.search.ScoreMode;
 import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.search.Weight;
+import org.apache.lucene.store.ByteBuffersDataInput;
+import org.apache.lucene.store.ByteBuffersIndexInput;
 import org.apache.lucene.store.Directory;
+import org.apache.lucene.store.FilterIndexInput;
+import org.apache.lucene.store.IndexInput;
 import org.elasticsearch.index.codec.Elasticsearch900Lucene101Codec;
 import org.elasticsearch.index.codec.vectors.ES813Int8FlatVectorFormat;
 import org.elasticsearch.index.codec.vectors.ES814HnswScalarQuantizedVectorsFormat;
@@ -41,6 +45,9 @@ import org.elasticsearch.test.ESTestCase;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.greaterThan;
@@ -123,6 +130,31 @@ public class RescoreKnnVectorQueryTests extends ESTestCase {
         }
     }
 
+    public void testPrefetchMergesCloseVectors() throws IOException {
+        long vectorByteLength = 512;
+        List<long[]> prefetched = new ArrayList<>();
+        IndexInput slice = new FilterIndexInput(
+            "prefetch",
+            new ByteBuffersIndexInput(new ByteBuffersDataInput(List.of(ByteBuffer.allocate(1 << 20))), "vectors")
+        ) {
+            @Override
+            public void prefetch(long offset, long length) {
+                prefetched.add(new long[] { offset, length });
+            }
+        };
+
+        // ords 0, 1 and 9 are at most a page apart, 100 and 101 are far from them
+        int[] ords = new int[] { 0, 1, 9, 100, 101, 2000 };
+        RescoreKnnVectorQuery.prefetch(slice, ords, 5, vectorByteLength);
+        assertThat(prefetched.size(), equalTo(2));
+        assertArrayEquals(new long[] { 0, 10 * vectorByteLength }, prefetched.get(0));
+        assertArrayEquals(new long[] { 100 * vectorByteLength, 2 * vectorByteLength }, prefetched.get(1));
+
+        prefetched.clear();
+        RescoreKnnVectorQuery.prefetch(slice, ords, 0, vectorByteLength);
+        assertThat(prefetched.size(), equalTo(0));
+    }
+
     private void checkProfiling(int k, int numDocs, float[] queryVector, IndexReader reader, Query innerQuery) throws IOException {
         RescoreKnnVectorQuery rescoreKnnVectorQuery = new RescoreKnnVectorQuery(
             FIELD_NAME,
@@ -325,6 +325,25 @@ public class SparseVectorQueryBuilderTests extends AbstractQueryTestCase<SparseV
             }""", query);
     }
 
+    public void testToXContentWithThresholdsAndScorePrunedTokens() throws IOException {
+        QueryBuilder query = new SparseVectorQueryBuilder("foo", null, "bar", "baz", true, new TokenPruningConfig(4, 0.3f, false, true));
+
+        checkGeneratedJson("""
+            {
+              "sparse_vector": {
+                "field": "foo",
+                "inference_id": "bar",
+                "query": "baz",
+                "prune": true,
+                "pruning_config": {
+                  "tokens_freq_ratio_threshold": 4.0,
+                  "tokens_weight_threshold": 0.3,
+                  "score_pruned_tokens": true
+                }
+              }
+            }""", query);
+    }
+
     @Override
     protected String[] shuffleProtectedFields() {
         return new String[] { QUERY_VECTOR_FIELD.getPreferredName() };
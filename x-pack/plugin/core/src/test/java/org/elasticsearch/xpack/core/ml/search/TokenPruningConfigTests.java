@@ -17,7 +17,13 @@ import java.io.IOException;
 public class TokenPruningConfigTests extends AbstractXContentSerializingTestCase<TokenPruningConfig> {
 
     public static TokenPruningConfig testInstance() {
-        return new TokenPruningConfig(randomIntBetween(1, 100), randomFloat(), randomBoolean());
+        boolean onlyScorePrunedTokens = randomBoolean();
+        return new TokenPruningConfig(
+            randomIntBetween(1, 100),
+            randomFloat(),
+            onlyScorePrunedTokens,
+            onlyScorePrunedTokens == false && randomBoolean()
+        );
     }
 
     @Override
@@ -14,8 +14,10 @@ import org.apache.lucene.index.IndexReader;
 import org.apache.lucene.search.BooleanClause;
 import org.apache.lucene.search.BooleanQuery;
 import org.apache.lucene.search.BoostQuery;
+import org.apache.lucene.search.IndexSearcher;
 import org.apache.lucene.search.MatchNoDocsQuery;
 import org.apache.lucene.search.Query;
+import org.apache.lucene.search.TopDocs;
 import org.apache.lucene.store.Directory;
 import org.apache.lucene.tests.index.RandomIndexWriter;
 import org.elasticsearch.action.ActionListener;
@@ -269,6 +271,38 @@ public class WeightedTokensQueryBuilderTests extends AbstractQueryTestCase<Weigh
                 );
                 query = onlyScorePrunedTokensQuery.doToQuery(context);
                 assertCorrectLuceneQuery("onlyScorePrunedTokensQuery", query, List.of("the", "black"));
+
+                WeightedTokensQueryBuilder scorePrunedTokensQuery = new WeightedTokensQueryBuilder(
+                    RANK_FEATURES_FIELD,
+                    inputTokens,
+                    new TokenPruningConfig(2, 0.5f, false, true)
+                );
+                query = scorePrunedTokensQuery.doToQuery(context);
+                assertThat(query, instanceOf(SparseVectorQueryWrapper.class));
+                BooleanQuery booleanQuery = (BooleanQuery) ((SparseVectorQueryWrapper) query).getTermsQuery();
+                assertThat(booleanQuery.clauses(), hasSize(2));
+                assertEquals(BooleanClause.Occur.MUST, booleanQuery.clauses().get(0).occur());
+                assertEquals(BooleanClause.Occur.SHOULD, booleanQuery.clauses().get(1).occur());
+                assertCorrectLuceneQuery(
+                    "scorePrunedTokensQuery",
+                    new SparseVectorQueryWrapper(RANK_FEATURES_FIELD, booleanQuery.clauses().get(0).query()),
+                    List.of("dog", "jumped", "on", "me")
+                );
+                assertCorrectLuceneQuery(
+                    "scorePrunedTokensQuery",
+                    new SparseVectorQueryWrapper(RANK_FEATURES_FIELD, booleanQuery.clauses().get(1).query()),
+                    List.of("the", "black")
+                );
+
+                // every document holds a retained token, so the pruned query must score them exactly like the full query
+                IndexSearcher searcher = newSearcher(reader);
+                TopDocs expected = searcher.search(noPruningQuery.doToQuery(context), documents.size());
+                TopDocs actual = searcher.search(query, documents.size());
+                assertEquals(expected.scoreDocs.length, actual.scoreDocs.length);
+                for (int i = 0; i < expected.scoreDocs.length; i++) {
+                    assertEquals(expected.scoreDocs[i].doc, actual.scoreDocs[i].doc);
+                    assertEquals(expected.scoreDocs[i].score, actual.scoreDocs[i].score, 1e-5f);
+                }
             }
         }
     }
@@ -410,6 +444,13 @@ public class WeightedTokensQueryBuilderTests extends AbstractQueryTestCase<Weigh
             );
             assertEquals("[tokens_weight_threshold] must be between 0 and 1", e.getMessage());
         }
+        {
+            IllegalArgumentException e = expectThrows(
+                IllegalArgumentException.class,
+                () -> new WeightedTokensQueryBuilder("field name", weightedTokens, new TokenPruningConfig(5, 0.5f, true, true))
+            );
+            assertEquals("[only_score_pruned_tokens] and [score_pruned_tokens] cannot both be true", e.getMessage());
+        }
     }
 
     public void testToXContent() throws Exception {
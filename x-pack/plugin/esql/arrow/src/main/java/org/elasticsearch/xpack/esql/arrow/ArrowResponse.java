@@ -57,11 +57,24 @@ public class ArrowResponse implements ChunkedRestResponseBodyPart, Releasable {
     }
 
     private final List<Column> columns;
+    private final List<Page> pages;
+    private final boolean ownsPages;
     private Iterator<ResponseSegment> segments;
     private ResponseSegment currentSegment;
 
     public ArrowResponse(List<Column> columns, List<Page> pages) {
+        this(columns, pages, false);
+    }
+
+    /**
+     * @param ownsPages whether this response takes the ownership of the pages: it releases the blocks of each page as soon
+     *                  as its record batch is encoded, so that the memory of the response shrinks as the channel consumes
+     *                  it, and the blocks of the pages it didn't encode once it is closed.
+     */
+    public ArrowResponse(List<Column> columns, List<Page> pages, boolean ownsPages) {
         this.columns = columns;
+        this.pages = pages;
+        this.ownsPages = ownsPages;
 
         // Find multivalued columns
         int colSize = columns.size();
@@ -121,6 +134,12 @@ public class ArrowResponse implements ChunkedRestResponseBodyPart, Releasable {
     public void close() {
         currentSegment = null;
         segments = null;
+        if (ownsPages) {
+            for (Page page : pages) {
+                // a noop for the pages that were released once written
+                page.releaseBlocks();
+            }
+        }
     }
 
     /**
@@ -340,6 +359,10 @@ public class ArrowResponse implements ChunkedRestResponseBodyPart, Releasable {
             MessageSerializer.serialize(arrowOut, batch);
 
             done = true; // one day we should respect sizeHint here. kindness.
+            if (response.ownsPages) {
+                // the block values have been copied to the output
+                page.releaseBlocks();
+            }
         }
     }
 
@@ -276,6 +276,37 @@ public class ArrowResponseTests extends ESTestCase {
         compareEsqlAndArrow(testCase);
     }
 
+    public void testOwnsPages() throws IOException {
+        boolean ownsPages = randomBoolean();
+        IntBlock first = BLOCK_FACTORY.newConstantIntBlockWith(1, 10);
+        IntBlock second = BLOCK_FACTORY.newConstantIntBlockWith(2, 10);
+        IntBlock third = BLOCK_FACTORY.newConstantIntBlockWith(3, 10);
+        List<Page> pages = List.of(new Page(first), new Page(second), new Page(third));
+        ArrowResponse response = new ArrowResponse(List.of(new ArrowResponse.Column("integer", "foo")), pages, ownsPages);
+
+        // schema
+        response.encodeChunk(1500, BytesRefRecycler.NON_RECYCLING_INSTANCE).close();
+        assertFalse(first.isReleased());
+        // first page
+        response.encodeChunk(1500, BytesRefRecycler.NON_RECYCLING_INSTANCE).close();
+        assertEquals(ownsPages, first.isReleased());
+        assertFalse(second.isReleased());
+        // second page
+        response.encodeChunk(1500, BytesRefRecycler.NON_RECYCLING_INSTANCE).close();
+        assertEquals(ownsPages, second.isReleased());
+        assertFalse(third.isReleased());
+
+        // the channel is closed before the third page is written
+        response.close();
+        assertEquals(ownsPages, third.isReleased());
+        if (ownsPages == false) {
+            pages.forEach(Page::releaseBlocks);
+        }
+        assertTrue(first.isReleased());
+        assertTrue(second.isReleased());
+        assertTrue(third.isReleased());
+    }
+
     /**
      * Test a multivalued field with fixed size values.
      */
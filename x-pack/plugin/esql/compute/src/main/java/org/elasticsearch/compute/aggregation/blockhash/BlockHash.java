@@ -7,6 +7,7 @@
 
 package org.elasticsearch.compute.aggregation.blockhash;
 
+import org.apache.lucene.util.BytesRef;
 import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.BitArray;
@@ -19,17 +20,22 @@ import org.elasticsearch.compute.aggregation.GroupingAggregatorFunction;
 import org.elasticsearch.compute.aggregation.SeenGroupIds;
 import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.BytesRefVector;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.IntBlock;
 import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.OrdinalBytesRefBlock;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.ReleasableIterator;
+import org.elasticsearch.core.Releasables;
 import org.elasticsearch.index.analysis.AnalysisRegistry;
 
 import java.util.Iterator;
 import java.util.List;
+import java.util.function.IntUnaryOperator;
 
 /**
  * Specialized hash table implementations that map rows to a <strong>set</strong>
@@ -251,4 +257,59 @@ public abstract class BlockHash implements Releasable, SeenGroupIds {
     public static long hashOrdToGroupNullReserved(long ord) {
         return hashOrdToGroup(ord) + 1;
     }
+
+    /**
+     * Builds the keys of a {@code BYTES_REF} column of a hash over many columns.
+     * {@code key} returns the id in {@code hash} of the value of each group,
+     * reserving {@code 0} for {@code null}.
+     * <p>
+     *     When the groups share few values we return an {@link OrdinalBytesRefBlock}
+     *     over the values in {@code hash}. That copies each value once rather than
+     *     once per group, and lets the hashes that receive the keys, like the one of
+     *     the final aggregation, group by the ordinals instead of the bytes.
+     * </p>
+     */
+    static BytesRefBlock bytesRefKeys(BlockFactory blockFactory, BytesRefHash hash, int positions, IntUnaryOperator key) {
+        BytesRef scratch = new BytesRef();
+        if (OrdinalBytesRefBlock.isDense(positions, hash.size()) == false) {
+            try (BytesRefBlock.Builder builder = blockFactory.newBytesRefBlockBuilder(positions)) {
+                for (int i = 0; i < positions; i++) {
+                    int k = key.applyAsInt(i);
+                    if (k == 0) {
+                        builder.appendNull();
+                    } else {
+                        builder.appendBytesRef(hash.get(k - 1, scratch));
+                    }
+                }
+                return builder.build();
+            }
+        }
+        BytesRefVector dictionary = null;
+        IntBlock ordinals = null;
+        try {
+            try (BytesRefVector.Builder builder = blockFactory.newBytesRefVectorBuilder(Math.toIntExact(hash.size()))) {
+                for (long i = 0; i < hash.size(); i++) {
+                    builder.appendBytesRef(hash.get(i, scratch));
+                }
+                dictionary = builder.build();
+            }
+            try (IntBlock.Builder builder = blockFactory.newIntBlockBuilder(positions)) {
+                for (int i = 0; i < positions; i++) {
+                    int k = key.applyAsInt(i);
+                    if (k == 0) {
+                        builder.appendNull();
+                    } else {
+                        builder.appendInt(k - 1);
+                    }
+                }
+                ordinals = builder.build();
+            }
+            OrdinalBytesRefBlock result = new OrdinalBytesRefBlock(ordinals, dictionary);
+            dictionary = null;
+            ordinals = null;
+            return result;
+        } finally {
+            Releasables.close(ordinals, dictionary);
+        }
+    }
 }
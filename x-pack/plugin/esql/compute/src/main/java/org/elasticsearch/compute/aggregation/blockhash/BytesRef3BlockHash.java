@@ -7,7 +7,6 @@
 
 package org.elasticsearch.compute.aggregation.blockhash;
 
-import org.apache.lucene.util.BytesRef;
 import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.common.util.BigArrays;
 import org.elasticsearch.common.util.BitArray;
@@ -147,44 +146,12 @@ final class BytesRef3BlockHash extends BlockHash {
 
     @Override
     public Block[] getKeys() {
-        // TODO Build Ordinals blocks #114010
         final int positions = (int) finalHash.size();
-        final BytesRef scratch = new BytesRef();
         final BytesRefBlock[] outputBlocks = new BytesRefBlock[3];
         try {
-            try (BytesRefBlock.Builder b1 = blockFactory.newBytesRefBlockBuilder(positions)) {
-                for (int i = 0; i < positions; i++) {
-                    int k1 = finalHash.getKey1(i);
-                    if (k1 == 0) {
-                        b1.appendNull();
-                    } else {
-                        b1.appendBytesRef(hash1.hash.get(k1 - 1, scratch));
-                    }
-                }
-                outputBlocks[0] = b1.build();
-            }
-            try (BytesRefBlock.Builder b2 = blockFactory.newBytesRefBlockBuilder(positions)) {
-                for (int i = 0; i < positions; i++) {
-                    int k2 = finalHash.getKey2(i);
-                    if (k2 == 0) {
-                        b2.appendNull();
-                    } else {
-                        b2.appendBytesRef(hash2.hash.get(k2 - 1, scratch));
-                    }
-                }
-                outputBlocks[1] = b2.build();
-            }
-            try (BytesRefBlock.Builder b3 = blockFactory.newBytesRefBlockBuilder(positions)) {
-                for (int i = 0; i < positions; i++) {
-                    int k3 = finalHash.getKey3(i);
-                    if (k3 == 0) {
-                        b3.appendNull();
-                    } else {
-                        b3.appendBytesRef(hash3.hash.get(k3 - 1, scratch));
-                    }
-                }
-                outputBlocks[2] = b3.build();
-            }
+            outputBlocks[0] = bytesRefKeys(blockFactory, hash1.hash, positions, finalHash::getKey1);
+            outputBlocks[1] = bytesRefKeys(blockFactory, hash2.hash, positions, finalHash::getKey2);
+            outputBlocks[2] = bytesRefKeys(blockFactory, hash3.hash, positions, finalHash::getKey3);
             return outputBlocks;
         } finally {
             if (outputBlocks[outputBlocks.length - 1] == null) {
@@ -7,6 +7,7 @@
 
 package org.elasticsearch.compute.lucene;
 
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.PointValues;
 import org.apache.lucene.index.SortedNumericDocValues;
@@ -101,6 +102,10 @@ public final class LuceneMinFactory extends LuceneOperator.Factory {
             return bytesToLong(pointValues.getMinPackedValue());
         }
 
+        public final long fromDocValuesSkipper(DocValuesSkipper skipper) {
+            return skipper.minValue();
+        }
+
         public final long evaluate(long value1, long value2) {
             return Math.min(value1, value2);
         }
@@ -7,6 +7,8 @@
 
 package org.elasticsearch.compute.lucene;
 
+import org.apache.lucene.index.DocValues;
+import org.apache.lucene.index.DocValuesSkipper;
 import org.apache.lucene.index.LeafReader;
 import org.apache.lucene.index.NumericDocValues;
 import org.apache.lucene.index.PointValues;
@@ -32,7 +34,9 @@ import java.io.IOException;
  * 2. a bool flag (seen) that is true if at least one document has been matched, otherwise false
  * <p>
  * It works for fields that index data using lucene {@link PointValues} and/or {@link SortedNumericDocValues}.
- * It assumes that {@link SortedNumericDocValues} are always present.
+ * When all documents of a segment match it reads the min/max from the {@link PointValues} or, for fields that
+ * aren't indexed, from the {@link DocValuesSkipper} without visiting the documents. Segments without
+ * {@link SortedNumericDocValues} for the field don't contain any value.
  */
 final class LuceneMinMaxOperator extends LuceneOperator {
 
@@ -41,6 +45,9 @@ final class LuceneMinMaxOperator extends LuceneOperator {
         /** Extract the competitive value from the {@link PointValues}  */
         long fromPointValues(PointValues pointValues) throws IOException;
 
+        /** Extract the competitive value from the {@link DocValuesSkipper}  */
+        long fromDocValuesSkipper(DocValuesSkipper skipper);
+
         /** Wraps the provided {@link SortedNumericDocValues} with a {@link MultiValueMode} */
         NumericDocValues multiValueMode(SortedNumericDocValues sortedNumericDocValues);
 
@@ -107,18 +114,17 @@ final class LuceneMinMaxOperator extends LuceneOperator {
                 }
                 final LeafReader reader = scorer.leafReaderContext().reader();
                 final Query query = scorer.weight().getQuery();
-                if (query == null || query instanceof MatchAllDocsQuery) {
-                    final PointValues pointValues = reader.getPointValues(fieldName);
+                if ((query == null || query instanceof MatchAllDocsQuery) && reader.getLiveDocs() == null) {
                     // only apply shortcut if we are visiting all documents, otherwise we need to trigger the search
                     // on doc values as that's the order they are visited without push down.
-                    if (pointValues != null && pointValues.getDocCount() >= remainingDocs) {
-                        final Bits liveDocs = reader.getLiveDocs();
-                        if (liveDocs == null) {
-                            // In data partitioning, we might have got the same segment previous
-                            // to this but with a different document range. And we're totally ignoring that range.
-                            // We're just reading the min/max from the segment. That's sneaky, but it makes sense.
-                            // And if we get another slice in the same segment we may as well skip it -
-                            // we've already looked.
+                    // In data partitioning, we might have got the same segment previous
+                    // to this but with a different document range. And we're totally ignoring that range.
+                    // We're just reading the min/max from the segment. That's sneaky, but it makes sense.
+                    // And if we get another slice in the same segment we may as well skip it -
+                    // we've already looked.
+                    final PointValues pointValues = reader.getPointValues(fieldName);
+                    if (pointValues != null) {
+                        if (canSkipDocs(pointValues.getDocCount())) {
                             if (scorer.position() == 0) {
                                 seen = true;
                                 result = numberType.evaluate(result, numberType.fromPointValues(pointValues));
@@ -128,11 +134,30 @@ final class LuceneMinMaxOperator extends LuceneOperator {
                             }
                             scorer.markAsDone();
                         }
+                    } else {
+                        final DocValuesSkipper skipper = reader.getDocValuesSkipper(fieldName);
+                        if (skipper != null && skipper.docCount() > 0 && canSkipDocs(skipper.docCount())) {
+                            if (scorer.position() == 0) {
+                                seen = true;
+                                result = numberType.evaluate(result, numberType.fromDocValuesSkipper(skipper));
+                                if (remainingDocs != NO_LIMIT) {
+                                    remainingDocs -= skipper.docCount();
+                                }
+                            }
+                            scorer.markAsDone();
+                        }
                     }
                 }
+                final SortedNumericDocValues docValues = reader.getSortedNumericDocValues(fieldName);
+                if (scorer.isDone() == false && docValues == null && remainingDocs == NO_LIMIT) {
+                    // the segment doesn't have any value for the field
+                    scorer.markAsDone();
+                }
                 if (scorer.isDone() == false) {
                     // could not apply shortcut, trigger the search
-                    final NumericDocValues values = numberType.multiValueMode(reader.getSortedNumericDocValues(fieldName));
+                    final NumericDocValues values = numberType.multiValueMode(
+                        docValues == null ? DocValues.emptySortedNumeric() : docValues
+                    );
                     final LeafCollector leafCollector = new LeafCollector() {
                         @Override
                         public void setScorer(Scorable scorer) {}
@@ -174,6 +199,15 @@ final class LuceneMinMaxOperator extends LuceneOperator {
         }
     }
 
+    /**
+     * Can we read the min/max of a segment with {@code docCount} documents with a value instead of visiting them?
+     * Without a limit we always can. With one we can if the limit isn't reached before the end of the segment,
+     * or if the segment has more documents than the limit allows, as it doesn't matter which documents we pick.
+     */
+    private boolean canSkipDocs(int docCount) {
+        return remainingDocs == NO_LIMIT || docCount >= remainingDocs;
+    }
+
     @Override
     protected void describe(StringBuilder sb) {
         sb.append(", remainingDocs=").append(remainingDocs);
@@ -0,0 +1,187 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.common.util.concurrent.AbstractRunnable;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.function.LongSupplier;
+
+/**
+ * Shares the threads of an executor between the queries that run {@link Driver}s on it. Without it the executor runs
+ * the slices of all drivers in the order they are submitted, so a query with many drivers gets as many shares of the
+ * threads, and a small query started after a large one waits behind all of its drivers.
+ * <p>
+ *     Each query submits its driver slices to its own {@link #newQueue queue}. At most {@code maxRunning} slices run on
+ *     the executor at a time, and whenever one finishes the next slice is taken from the query that has used the least
+ *     time on the threads so far. That gives new and short queries priority over long-running ones, while long-running
+ *     queries still get their share once the short ones are done. A query that starts, or that wakes up after having
+ *     waited for data, is charged at least as much time as the query that ran last, so it can't claim the threads for
+ *     the time it wasn't running.
+ * </p>
+ */
+public final class FairDriverExecutor {
+    private final Executor delegate;
+    private final ThreadContext threadContext;
+    private final int maxRunning;
+    private final LongSupplier nanoTime;
+
+    private final Object mutex = new Object();
+    private final PriorityQueue<QueryQueue> ready = new PriorityQueue<>(Comparator.comparingLong(q -> q.usedNanos));
+    private int running;
+    /**
+     * The time used by the query whose slice was dispatched last.
+     */
+    private long minUsedNanos;
+
+    /**
+     * @param delegate      the executor that runs the driver slices
+     * @param threadContext the thread context, preserved from the submission of each slice to its execution
+     * @param maxRunning    the maximum number of slices to run at a time, usually the number of threads of the executor
+     */
+    public FairDriverExecutor(Executor delegate, ThreadContext threadContext, int maxRunning) {
+        this(delegate, threadContext, maxRunning, System::nanoTime);
+    }
+
+    FairDriverExecutor(Executor delegate, ThreadContext threadContext, int maxRunning, LongSupplier nanoTime) {
+        if (maxRunning < 1) {
+            throw new IllegalArgumentException("max_running must be at least one; got=" + maxRunning);
+        }
+        this.delegate = delegate;
+        this.threadContext = threadContext;
+        this.maxRunning = maxRunning;
+        this.nanoTime = nanoTime;
+    }
+
+    /**
+     * Creates the queue of the drivers of a query. The returned executor should be used to run all drivers of the query.
+     */
+    public Executor newQueue() {
+        return new QueryQueue();
+    }
+
+    private void dispatch() {
+        List<Runnable> toRun = null;
+        synchronized (mutex) {
+            while (running < maxRunning && ready.isEmpty() == false) {
+                QueryQueue query = ready.poll();
+                Runnable task = query.tasks.poll();
+                minUsedNanos = Math.max(minUsedNanos, query.usedNanos);
+                if (query.tasks.isEmpty() == false) {
+                    ready.add(query);
+                }
+                running++;
+                if (toRun == null) {
+                    toRun = new ArrayList<>();
+                }
+                toRun.add(new Slice(query, task));
+            }
+        }
+        if (toRun != null) {
+            // outside the mutex as the delegate may run the slices on the calling thread
+            for (Runnable slice : toRun) {
+                delegate.execute(slice);
+            }
+        }
+    }
+
+    private void onSliceDone(QueryQueue query, long usedNanos) {
+        synchronized (mutex) {
+            running--;
+            // the time used is part of the priority, so the query must be re-added to the ready queue
+            boolean wasReady = ready.remove(query);
+            query.usedNanos += usedNanos;
+            if (wasReady) {
+                ready.add(query);
+            }
+        }
+        dispatch();
+    }
+
+    int running() {
+        synchronized (mutex) {
+            return running;
+        }
+    }
+
+    private final class QueryQueue implements Executor {
+        // guarded by the mutex
+        private final Queue<Runnable> tasks = new ArrayDeque<>();
+        private long usedNanos;
+
+        @Override
+        public void execute(Runnable command) {
+            Runnable task = threadContext.preserveContext(command);
+            synchronized (mutex) {
+                if (tasks.isEmpty()) {
+                    usedNanos = Math.max(usedNanos, minUsedNanos);
+                    tasks.add(task);
+                    ready.add(this);
+                } else {
+                    tasks.add(task);
+                }
+            }
+            dispatch();
+        }
+    }
+
+    private final class Slice extends AbstractRunnable {
+        private final QueryQueue query;
+        private final Runnable task;
+
+        Slice(QueryQueue query, Runnable task) {
+            this.query = query;
+            this.task = task;
+        }
+
+        @Override
+        protected void doRun() {
+            final long startNanos = nanoTime.getAsLong();
+            try {
+                task.run();
+            } finally {
+                onSliceDone(query, nanoTime.getAsLong() - startNanos);
+            }
+        }
+
+        @Override
+        public void onRejection(Exception e) {
+            try {
+                if (task instanceof AbstractRunnable r) {
+                    r.onRejection(e);
+                } else {
+                    throw e instanceof RuntimeException re ? re : new RuntimeException(e);
+                }
+            } finally {
+                onSliceDone(query, 0);
+            }
+        }
+
+        @Override
+        public void onFailure(Exception e) {
+            // the slice has already been accounted for by doRun
+            if (task instanceof AbstractRunnable r) {
+                r.onFailure(e);
+            } else {
+                throw e instanceof RuntimeException re ? re : new RuntimeException(e);
+            }
+        }
+
+        @Override
+        public boolean isForceExecution() {
+            return task instanceof AbstractRunnable r && r.isForceExecution();
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package org.elasticsearch.compute.operator;
 
 import org.elasticsearch.compute.data.BooleanBlock;
+import org.elasticsearch.compute.data.BooleanVector;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.compute.operator.EvalOperator.ExpressionEvaluator;
 import org.elasticsearch.core.Releasables;
@@ -37,41 +38,62 @@ public class FilterOperator extends AbstractPageMappingOperator {
 
     @Override
     protected Page process(Page page) {
-        int rowCount = 0;
-        int[] positions = new int[page.getPositionCount()];
-
         try (BooleanBlock test = (BooleanBlock) evaluator.eval(page)) {
             if (test.areAllValuesNull()) {
                 // All results are null which is like false. No values selected.
                 page.releaseBlocks();
                 return null;
             }
-            // TODO we can detect constant true or false from the type
-            // TODO or we could make a new method in bool-valued evaluators that returns a list of numbers
-            for (int p = 0; p < page.getPositionCount(); p++) {
-                if (test.isNull(p) || test.getValueCount(p) != 1) {
-                    // Null is like false
-                    // And, for now, multivalued results are like false too
-                    continue;
-                }
-                if (test.getBoolean(test.getFirstValueIndex(p))) {
-                    positions[rowCount++] = p;
+            BooleanVector testVector = test.asVector();
+            if (testVector != null && testVector.isConstant()) {
+                if (testVector.getBoolean(0)) {
+                    return page;
                 }
+                page.releaseBlocks();
+                return null;
             }
-
-            if (rowCount == 0) {
+            int[] positions = testVector == null ? positions(test) : positions(testVector);
+            if (positions.length == 0) {
                 page.releaseBlocks();
                 return null;
             }
-            if (rowCount == page.getPositionCount()) {
+            if (positions.length == page.getPositionCount()) {
                 return page;
             }
-            positions = Arrays.copyOf(positions, rowCount);
-
             return page.filter(positions);
         }
     }
 
+    /**
+     * Selects the positions of a dense result. This is the common case for comparisons of single-valued
+     * fields, so it skips the null and multivalued checks and doesn't branch on the result.
+     */
+    private static int[] positions(BooleanVector test) {
+        int rowCount = 0;
+        int[] positions = new int[test.getPositionCount()];
+        for (int p = 0; p < positions.length; p++) {
+            positions[rowCount] = p;
+            rowCount += test.getBoolean(p) ? 1 : 0;
+        }
+        return rowCount == positions.length ? positions : Arrays.copyOf(positions, rowCount);
+    }
+
+    private static int[] positions(BooleanBlock test) {
+        int rowCount = 0;
+        int[] positions = new int[test.getPositionCount()];
+        for (int p = 0; p < positions.length; p++) {
+            if (test.isNull(p) || test.getValueCount(p) != 1) {
+                // Null is like false
+                // And, for now, multivalued results are like false too
+                continue;
+            }
+            if (test.getBoolean(test.getFirstValueIndex(p))) {
+                positions[rowCount++] = p;
+            }
+        }
+        return rowCount == positions.length ? positions : Arrays.copyOf(positions, rowCount);
+    }
+
     @Override
     public String toString() {
         return "FilterOperator[" + "evaluator=" + evaluator + ']';
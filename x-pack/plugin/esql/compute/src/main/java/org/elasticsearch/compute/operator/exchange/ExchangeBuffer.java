@@ -9,6 +9,7 @@ package org.elasticsearch.compute.operator.exchange;
 
 import org.elasticsearch.action.ActionListener;
 import org.elasticsearch.action.support.SubscribableListener;
+import org.elasticsearch.common.unit.ByteSizeValue;
 import org.elasticsearch.compute.data.Page;
 import org.elasticsearch.compute.operator.IsBlockedResult;
 import org.elasticsearch.compute.operator.Operator;
@@ -16,13 +17,35 @@ import org.elasticsearch.compute.operator.Operator;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.atomic.AtomicInteger;
-
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A buffer of pages between the producers and the consumers of an exchange. Producers are blocked once the buffer
+ * holds its configured number of pages. When the consumers drain a full buffer and then have to wait for pages,
+ * the producers can't keep up with them in bursts, for example because every page is fetched from a remote node.
+ * The buffer then doubles the number of pages it accepts, up to {@link #MAX_GROWTH} times its configured size, as
+ * long as the buffered pages use less than {@link #MAX_GROWN_BYTES}. Small pages are buffered more deeply, while
+ * large pages are held to the configured size.
+ */
 final class ExchangeBuffer {
+    /**
+     * The maximum number of pages the buffer can grow to, relative to its configured size.
+     */
+    static final int MAX_GROWTH = 4;
+    /**
+     * Pages beyond the configured size are only accepted while the buffered pages use less than this many bytes.
+     */
+    static final long MAX_GROWN_BYTES = ByteSizeValue.ofMb(4).getBytes();
 
     private final Queue<Page> queue = new ConcurrentLinkedQueue<>();
     // uses a separate counter for size for CAS; and ConcurrentLinkedQueue#size is not a constant time operation.
     private final AtomicInteger queueSize = new AtomicInteger();
+    private final AtomicLong queueBytes = new AtomicLong();
     private final int maxSize;
+    private final int maxGrownSize;
+    // the growth is a heuristic, so these are updated without synchronization
+    private volatile int grownSize;
+    private volatile boolean filledSinceGrowth = false;
 
     private final Object notEmptyLock = new Object();
     private SubscribableListener<Void> notEmptyFuture = null;
@@ -39,9 +62,12 @@ final class ExchangeBuffer {
             throw new IllegalArgumentException("max_buffer_size must be at least one; got=" + maxSize);
         }
         this.maxSize = maxSize;
+        this.maxGrownSize = (int) Math.min((long) maxSize * MAX_GROWTH, Integer.MAX_VALUE);
+        this.grownSize = maxSize;
     }
 
     void addPage(Page page) {
+        queueBytes.addAndGet(page.ramBytesUsedByBlocks());
         queue.add(page);
         if (queueSize.incrementAndGet() == 1) {
             notifyNotEmpty();
@@ -49,9 +75,10 @@ final class ExchangeBuffer {
         if (noMoreInputs) {
             // O(N) but acceptable because it only occurs with the stop API, and the queue size should be very small.
             if (queue.removeIf(p -> p == page)) {
+                queueBytes.addAndGet(-page.ramBytesUsedByBlocks());
                 page.releaseBlocks();
                 final int size = queueSize.decrementAndGet();
-                if (size == maxSize - 1) {
+                if (hasCapacity()) {
                     notifyNotFull();
                 }
                 if (size == 0) {
@@ -63,8 +90,12 @@ final class ExchangeBuffer {
 
     Page pollPage() {
         final var page = queue.poll();
-        if (page != null && queueSize.decrementAndGet() == maxSize - 1) {
-            notifyNotFull();
+        if (page != null) {
+            queueBytes.addAndGet(-page.ramBytesUsedByBlocks());
+            queueSize.decrementAndGet();
+            if (hasCapacity()) {
+                notifyNotFull();
+            }
         }
         if (page == null && noMoreInputs && queueSize.get() == 0) {
             completionFuture.onResponse(null);
@@ -94,15 +125,21 @@ final class ExchangeBuffer {
         }
     }
 
+    private boolean hasCapacity() {
+        final int size = queueSize.get();
+        return size < maxSize || (size < grownSize && queueBytes.get() < MAX_GROWN_BYTES);
+    }
+
     IsBlockedResult waitForWriting() {
         // maxBufferSize check is not water-tight as more than one sink can pass this check at the same time.
-        if (queueSize.get() < maxSize || noMoreInputs) {
+        if (hasCapacity() || noMoreInputs) {
             return Operator.NOT_BLOCKED;
         }
         synchronized (notFullLock) {
-            if (queueSize.get() < maxSize || noMoreInputs) {
+            if (hasCapacity() || noMoreInputs) {
                 return Operator.NOT_BLOCKED;
             }
+            filledSinceGrowth = true;
             if (notFullFuture == null) {
                 notFullFuture = new SubscribableListener<>();
             }
@@ -114,6 +151,7 @@ final class ExchangeBuffer {
         if (size() > 0 || noMoreInputs) {
             return Operator.NOT_BLOCKED;
         }
+        final IsBlockedResult blocked;
         synchronized (notEmptyLock) {
             if (size() > 0 || noMoreInputs) {
                 return Operator.NOT_BLOCKED;
@@ -121,7 +159,21 @@ final class ExchangeBuffer {
             if (notEmptyFuture == null) {
                 notEmptyFuture = new SubscribableListener<>();
             }
-            return new IsBlockedResult(notEmptyFuture, "exchange empty");
+            blocked = new IsBlockedResult(notEmptyFuture, "exchange empty");
+        }
+        readerStarved();
+        return blocked;
+    }
+
+    /**
+     * Called when a consumer has to wait for pages. Grows the buffer if it was full since it last grew, as the
+     * producers then had to wait for the consumers and can't refill the buffer as fast as the consumers drain it.
+     */
+    void readerStarved() {
+        if (filledSinceGrowth && grownSize < maxGrownSize) {
+            filledSinceGrowth = false;
+            grownSize = (int) Math.min((long) grownSize * 2, maxGrownSize);
+            notifyNotFull();
         }
     }
 
@@ -155,6 +207,13 @@ final class ExchangeBuffer {
         return queueSize.get();
     }
 
+    /**
+     * The number of pages this buffer currently accepts while its pages are small.
+     */
+    int grownSize() {
+        return grownSize;
+    }
+
     /**
      * Adds a listener that will be notified when this exchange buffer is finished.
      */
@@ -111,6 +111,10 @@ public final class ExchangeSinkHandler {
             buffer.finish(true);
         }
         listeners.add(listener);
+        if (buffer.size() == 0) {
+            // the remote source is waiting for pages, let the local sinks buffer more pages if they can't keep up
+            buffer.readerStarved();
+        }
         onChanged();
         notifyListeners();
     }
@@ -19,6 +19,7 @@ import org.elasticsearch.compute.operator.DriverContext;
 import org.elasticsearch.compute.operator.IsBlockedResult;
 import org.elasticsearch.compute.operator.Operator;
 import org.elasticsearch.compute.operator.SinkOperator;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.xcontent.XContentBuilder;
 
 import java.io.IOException;
@@ -33,6 +34,9 @@ public class ExchangeSinkOperator extends SinkOperator {
     private final ExchangeSink sink;
     private int pagesReceived;
     private long rowsReceived;
+    private long bytesReceived;
+    private long waitStartNanos = -1;
+    private long waitNanos;
 
     public record ExchangeSinkOperatorFactory(Supplier<ExchangeSink> exchangeSinks) implements SinkOperatorFactory {
 
@@ -67,7 +71,16 @@ public class ExchangeSinkOperator extends SinkOperator {
 
     @Override
     public IsBlockedResult isBlocked() {
-        return sink.waitForWriting();
+        IsBlockedResult blocked = sink.waitForWriting();
+        if (blocked.listener().isDone()) {
+            if (waitStartNanos >= 0) {
+                waitNanos += System.nanoTime() - waitStartNanos;
+                waitStartNanos = -1;
+            }
+        } else if (waitStartNanos < 0) {
+            waitStartNanos = System.nanoTime();
+        }
+        return blocked;
     }
 
     @Override
@@ -79,6 +92,7 @@ public class ExchangeSinkOperator extends SinkOperator {
     protected void doAddInput(Page page) {
         pagesReceived++;
         rowsReceived += page.getPositionCount();
+        bytesReceived += page.ramBytesUsedByBlocks();
         sink.addPage(page);
     }
 
@@ -94,7 +108,7 @@ public class ExchangeSinkOperator extends SinkOperator {
 
     @Override
     public Status status() {
-        return new Status(pagesReceived, rowsReceived);
+        return new Status(pagesReceived, rowsReceived, bytesReceived, waitNanos);
     }
 
     public static class Status implements Operator.Status {
@@ -106,10 +120,20 @@ public class ExchangeSinkOperator extends SinkOperator {
 
         private final int pagesReceived;
         private final long rowsReceived;
-
-        Status(int pagesReceived, long rowsReceived) {
+        /**
+         * Bytes used by the received pages.
+         */
+        private final long bytesReceived;
+        /**
+         * Nanoseconds spent waiting for room in the exchange.
+         */
+        private final long waitNanos;
+
+        Status(int pagesReceived, long rowsReceived, long bytesReceived, long waitNanos) {
             this.pagesReceived = pagesReceived;
             this.rowsReceived = rowsReceived;
+            this.bytesReceived = bytesReceived;
+            this.waitNanos = waitNanos;
         }
 
         Status(StreamInput in) throws IOException {
@@ -120,6 +144,13 @@ public class ExchangeSinkOperator extends SinkOperator {
             } else {
                 rowsReceived = 0;
             }
+            if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_EXCHANGE_WAIT_STATS)) {
+                bytesReceived = in.readVLong();
+                waitNanos = in.readVLong();
+            } else {
+                bytesReceived = 0;
+                waitNanos = 0;
+            }
         }
 
         @Override
@@ -129,6 +160,10 @@ public class ExchangeSinkOperator extends SinkOperator {
             if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_PROFILE_ROWS_PROCESSED)) {
                 out.writeVLong(rowsReceived);
             }
+            if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_EXCHANGE_WAIT_STATS)) {
+                out.writeVLong(bytesReceived);
+                out.writeVLong(waitNanos);
+            }
         }
 
         @Override
@@ -144,11 +179,24 @@ public class ExchangeSinkOperator extends SinkOperator {
             return rowsReceived;
         }
 
+        public long bytesReceived() {
+            return bytesReceived;
+        }
+
+        public long waitNanos() {
+            return waitNanos;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject();
             builder.field("pages_received", pagesReceived);
             builder.field("rows_received", rowsReceived);
+            builder.field("bytes_received", bytesReceived);
+            builder.field("wait_nanos", waitNanos);
+            if (builder.humanReadable()) {
+                builder.field("wait_time", TimeValue.timeValueNanos(waitNanos));
+            }
             return builder.endObject();
         }
 
@@ -157,12 +205,15 @@ public class ExchangeSinkOperator extends SinkOperator {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Status status = (Status) o;
-            return pagesReceived == status.pagesReceived && rowsReceived == status.rowsReceived;
+            return pagesReceived == status.pagesReceived
+                && rowsReceived == status.rowsReceived
+                && bytesReceived == status.bytesReceived
+                && waitNanos == status.waitNanos;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(pagesReceived, rowsReceived);
+            return Objects.hash(pagesReceived, rowsReceived, bytesReceived, waitNanos);
         }
 
         @Override
@@ -18,6 +18,7 @@ import org.elasticsearch.compute.operator.DriverContext;
 import org.elasticsearch.compute.operator.IsBlockedResult;
 import org.elasticsearch.compute.operator.Operator;
 import org.elasticsearch.compute.operator.SourceOperator;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.xcontent.XContentBuilder;
 
 import java.io.IOException;
@@ -33,6 +34,9 @@ public class ExchangeSourceOperator extends SourceOperator {
     private IsBlockedResult isBlocked = NOT_BLOCKED;
     private int pagesEmitted;
     private long rowsEmitted;
+    private long bytesEmitted;
+    private long waitStartNanos = -1;
+    private long waitNanos;
 
     public record ExchangeSourceOperatorFactory(Supplier<ExchangeSource> exchangeSources) implements SourceOperatorFactory {
 
@@ -57,6 +61,7 @@ public class ExchangeSourceOperator extends SourceOperator {
         if (page != null) {
             pagesEmitted++;
             rowsEmitted += page.getPositionCount();
+            bytesEmitted += page.ramBytesUsedByBlocks();
         }
         return page;
     }
@@ -74,9 +79,15 @@ public class ExchangeSourceOperator extends SourceOperator {
     @Override
     public IsBlockedResult isBlocked() {
         if (isBlocked.listener().isDone()) {
+            if (waitStartNanos >= 0) {
+                waitNanos += System.nanoTime() - waitStartNanos;
+                waitStartNanos = -1;
+            }
             isBlocked = source.waitForReading();
             if (isBlocked.listener().isDone()) {
                 isBlocked = NOT_BLOCKED;
+            } else {
+                waitStartNanos = System.nanoTime();
             }
         }
         return isBlocked;
@@ -94,7 +105,7 @@ public class ExchangeSourceOperator extends SourceOperator {
 
     @Override
     public Status status() {
-        return new Status(source.bufferSize(), pagesEmitted, rowsEmitted);
+        return new Status(source.bufferSize(), pagesEmitted, rowsEmitted, bytesEmitted, waitNanos);
     }
 
     public static class Status implements Operator.Status {
@@ -107,11 +118,21 @@ public class ExchangeSourceOperator extends SourceOperator {
         private final int pagesWaiting;
         private final int pagesEmitted;
         private final long rowsEmitted;
-
-        Status(int pagesWaiting, int pagesEmitted, long rowsEmitted) {
+        /**
+         * Bytes used by the emitted pages.
+         */
+        private final long bytesEmitted;
+        /**
+         * Nanoseconds spent waiting for pages to arrive in the exchange.
+         */
+        private final long waitNanos;
+
+        Status(int pagesWaiting, int pagesEmitted, long rowsEmitted, long bytesEmitted, long waitNanos) {
             this.pagesWaiting = pagesWaiting;
             this.pagesEmitted = pagesEmitted;
             this.rowsEmitted = rowsEmitted;
+            this.bytesEmitted = bytesEmitted;
+            this.waitNanos = waitNanos;
         }
 
         Status(StreamInput in) throws IOException {
@@ -123,6 +144,13 @@ public class ExchangeSourceOperator extends SourceOperator {
             } else {
                 rowsEmitted = 0;
             }
+            if (in.getTransportVersion().onOrAfter(TransportVersions.ESQL_EXCHANGE_WAIT_STATS)) {
+                bytesEmitted = in.readVLong();
+                waitNanos = in.readVLong();
+            } else {
+                bytesEmitted = 0;
+                waitNanos = 0;
+            }
         }
 
         @Override
@@ -133,6 +161,10 @@ public class ExchangeSourceOperator extends SourceOperator {
             if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_PROFILE_ROWS_PROCESSED)) {
                 out.writeVLong(rowsEmitted);
             }
+            if (out.getTransportVersion().onOrAfter(TransportVersions.ESQL_EXCHANGE_WAIT_STATS)) {
+                out.writeVLong(bytesEmitted);
+                out.writeVLong(waitNanos);
+            }
         }
 
         @Override
@@ -152,12 +184,25 @@ public class ExchangeSourceOperator extends SourceOperator {
             return rowsEmitted;
         }
 
+        public long bytesEmitted() {
+            return bytesEmitted;
+        }
+
+        public long waitNanos() {
+            return waitNanos;
+        }
+
         @Override
         public XContentBuilder toXContent(XContentBuilder builder, Params params) throws IOException {
             builder.startObject();
             builder.field("pages_waiting", pagesWaiting);
             builder.field("pages_emitted", pagesEmitted);
             builder.field("rows_emitted", rowsEmitted);
+            builder.field("bytes_emitted", bytesEmitted);
+            builder.field("wait_nanos", waitNanos);
+            if (builder.humanReadable()) {
+                builder.field("wait_time", TimeValue.timeValueNanos(waitNanos));
+            }
             return builder.endObject();
         }
 
@@ -166,12 +211,16 @@ public class ExchangeSourceOperator extends SourceOperator {
             if (this == o) return true;
             if (o == null || getClass() != o.getClass()) return false;
             Status status = (Status) o;
-            return pagesWaiting == status.pagesWaiting && pagesEmitted == status.pagesEmitted && rowsEmitted == status.rowsEmitted;
+            return pagesWaiting == status.pagesWaiting
+                && pagesEmitted == status.pagesEmitted
+                && rowsEmitted == status.rowsEmitted
+                && bytesEmitted == status.bytesEmitted
+                && waitNanos == status.waitNanos;
         }
 
         @Override
         public int hashCode() {
-            return Objects.hash(pagesWaiting, pagesEmitted, rowsEmitted);
+            return Objects.hash(pagesWaiting, pagesEmitted, rowsEmitted, bytesEmitted, waitNanos);
         }
 
         @Override
@@ -0,0 +1,122 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.exchange;
+
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.support.RefCountingListener;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockUtils;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.IsBlockedResult;
+import org.elasticsearch.compute.operator.Operator;
+import org.elasticsearch.core.Releasables;
+
+import java.util.List;
+
+/**
+ * An {@link ExchangeSink} that sends each page to several sinks, so that the output of a single computation can be
+ * consumed by independent pipelines. One of the sinks receives the page itself and the others receive deep copies of it,
+ * as blocks can't be shared between drivers.
+ * <p>
+ *     Sinks that finish early, for example because their consumer has enough rows, no longer receive pages. This sink is
+ *     finished once all of them are, and it is blocked while any unfinished sink is blocked, so the slowest consumer sets
+ *     the pace.
+ * </p>
+ */
+public final class FanOutExchangeSink implements ExchangeSink {
+    private final List<ExchangeSink> sinks;
+
+    public FanOutExchangeSink(List<ExchangeSink> sinks) {
+        if (sinks.isEmpty()) {
+            throw new IllegalArgumentException("requires at least one sink");
+        }
+        this.sinks = List.copyOf(sinks);
+    }
+
+    @Override
+    public void addPage(Page page) {
+        ExchangeSink last = null;
+        try {
+            for (ExchangeSink sink : sinks) {
+                if (sink.isFinished()) {
+                    continue;
+                }
+                if (last != null) {
+                    // copy before handing the page over, as its consumer may release it at any time
+                    last.addPage(deepCopy(page));
+                }
+                last = sink;
+            }
+        } catch (Exception e) {
+            page.releaseBlocks();
+            throw e;
+        }
+        if (last != null) {
+            last.addPage(page);
+        } else {
+            page.releaseBlocks();
+        }
+    }
+
+    private static Page deepCopy(Page page) {
+        Block[] blocks = new Block[page.getBlockCount()];
+        try {
+            for (int b = 0; b < blocks.length; b++) {
+                Block block = page.getBlock(b);
+                blocks[b] = BlockUtils.deepCopyOf(block, block.blockFactory());
+            }
+            Page copy = new Page(page.getPositionCount(), blocks);
+            blocks = null;
+            return copy;
+        } finally {
+            if (blocks != null) {
+                Releasables.closeExpectNoException(blocks);
+            }
+        }
+    }
+
+    @Override
+    public void finish() {
+        for (ExchangeSink sink : sinks) {
+            sink.finish();
+        }
+    }
+
+    @Override
+    public boolean isFinished() {
+        for (ExchangeSink sink : sinks) {
+            if (sink.isFinished() == false) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void addCompletionListener(ActionListener<Void> listener) {
+        try (RefCountingListener refs = new RefCountingListener(listener)) {
+            for (ExchangeSink sink : sinks) {
+                sink.addCompletionListener(refs.acquire());
+            }
+        }
+    }
+
+    @Override
+    public IsBlockedResult waitForWriting() {
+        for (ExchangeSink sink : sinks) {
+            if (sink.isFinished()) {
+                continue;
+            }
+            IsBlockedResult blocked = sink.waitForWriting();
+            if (blocked.listener().isDone() == false) {
+                return blocked;
+            }
+        }
+        return Operator.NOT_BLOCKED;
+    }
+}
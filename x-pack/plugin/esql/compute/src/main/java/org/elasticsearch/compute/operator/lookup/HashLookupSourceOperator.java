@@ -0,0 +1,155 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.lookup;
+
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.DocVector;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.SourceOperator;
+import org.elasticsearch.compute.operator.Warnings;
+import org.elasticsearch.core.Releasables;
+
+/**
+ * Lookup document IDs for the input values by probing a {@link LookupHashTable}. This emits the same Pages as
+ * {@link EnrichQuerySourceOperator}, a {@link DocVector} and an {@link IntBlock} of the positions of the input
+ * values, but resolves all the input values with a single vectorized hash lookup rather than a query per position.
+ * <p>
+ *     Like {@link QueryList#onlySingleValues}, positions with more than one value don't match and register a warning.
+ * </p>
+ */
+public final class HashLookupSourceOperator extends SourceOperator {
+    private final BlockFactory blockFactory;
+    private final int maxPageSize;
+    private final LookupHashTable table;
+    private final Block inputBlock;
+    private final Warnings warnings;
+    private final String multiValueWarningMessage;
+    private IntBlock groups;
+    private int position;
+    /**
+     * The next document to emit in the group of {@link #position}, used to split groups with more than
+     * {@link #maxPageSize} documents across pages.
+     */
+    private int docInGroup;
+
+    /**
+     * @param table the table to probe, this operator takes over a reference to it
+     */
+    public HashLookupSourceOperator(
+        BlockFactory blockFactory,
+        int maxPageSize,
+        LookupHashTable table,
+        Block inputBlock,
+        Warnings warnings,
+        String multiValueWarningMessage
+    ) {
+        this.blockFactory = blockFactory;
+        this.maxPageSize = maxPageSize;
+        this.table = table;
+        this.inputBlock = inputBlock;
+        this.warnings = warnings;
+        this.multiValueWarningMessage = multiValueWarningMessage;
+    }
+
+    @Override
+    public void finish() {}
+
+    @Override
+    public boolean isFinished() {
+        return position >= inputBlock.getPositionCount();
+    }
+
+    @Override
+    public Page getOutput() {
+        if (isFinished()) {
+            return null;
+        }
+        if (groups == null) {
+            groups = table.lookup(inputBlock, blockFactory);
+        }
+        int estimatedSize = Math.min(maxPageSize, inputBlock.getPositionCount() - position);
+        IntVector.Builder positionsBuilder = null;
+        IntVector.Builder segmentsBuilder = null;
+        IntVector.Builder docsBuilder = null;
+        try {
+            positionsBuilder = blockFactory.newIntVectorBuilder(estimatedSize);
+            segmentsBuilder = blockFactory.newIntVectorBuilder(estimatedSize);
+            docsBuilder = blockFactory.newIntVectorBuilder(estimatedSize);
+            int totalMatches = 0;
+            while (totalMatches < maxPageSize && isFinished() == false) {
+                int valueCount = inputBlock.getValueCount(position);
+                if (valueCount != 1) {
+                    if (valueCount > 1) {
+                        warnings.registerException(new IllegalArgumentException(multiValueWarningMessage));
+                    }
+                    nextPosition();
+                    continue;
+                }
+                if (groups.isNull(position)) {
+                    nextPosition();
+                    continue;
+                }
+                int group = groups.getInt(groups.getFirstValueIndex(position));
+                int docCount = table.docCount(group);
+                int first = table.firstDocIndex(group);
+                while (docInGroup < docCount && totalMatches < maxPageSize) {
+                    int docIndex = first + docInGroup;
+                    positionsBuilder.appendInt(position);
+                    segmentsBuilder.appendInt(table.segment(docIndex));
+                    docsBuilder.appendInt(table.doc(docIndex));
+                    docInGroup++;
+                    totalMatches++;
+                }
+                if (docInGroup >= docCount) {
+                    nextPosition();
+                }
+            }
+            return buildPage(totalMatches, positionsBuilder, segmentsBuilder, docsBuilder);
+        } finally {
+            Releasables.close(positionsBuilder, segmentsBuilder, docsBuilder);
+        }
+    }
+
+    private void nextPosition() {
+        position++;
+        docInGroup = 0;
+    }
+
+    private Page buildPage(
+        int positions,
+        IntVector.Builder positionsBuilder,
+        IntVector.Builder segmentsBuilder,
+        IntVector.Builder docsBuilder
+    ) {
+        IntVector positionsVector = null;
+        IntVector shardsVector = null;
+        IntVector segmentsVector = null;
+        IntVector docsVector = null;
+        Page page = null;
+        try {
+            positionsVector = positionsBuilder.build();
+            shardsVector = blockFactory.newConstantIntVector(0, positions);
+            segmentsVector = segmentsBuilder.build();
+            docsVector = docsBuilder.build();
+            page = new Page(new DocVector(shardsVector, segmentsVector, docsVector, null).asBlock(), positionsVector.asBlock());
+        } finally {
+            if (page == null) {
+                Releasables.close(positionsVector, shardsVector, segmentsVector, docsVector);
+            }
+        }
+        return page;
+    }
+
+    @Override
+    public void close() {
+        Releasables.close(groups, table::decRef);
+    }
+}
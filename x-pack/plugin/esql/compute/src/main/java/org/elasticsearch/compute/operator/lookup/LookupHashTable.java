@@ -0,0 +1,385 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.lookup;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.BytesRefHash;
+import org.elasticsearch.common.util.IntArray;
+import org.elasticsearch.common.util.LongHash;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.core.AbstractRefCounted;
+import org.elasticsearch.core.RefCounted;
+import org.elasticsearch.core.Releasable;
+import org.elasticsearch.core.Releasables;
+
+/**
+ * Maps the values of the match field of a lookup index to the documents that contain them. It is an alternative
+ * to running a term query per input position with {@link EnrichQuerySourceOperator} that is only worth it for small
+ * lookup indices: the table is built once by reading the doc values of every live document and can then be shared
+ * by all the lookups against the same reader, see {@link HashLookupSourceOperator}.
+ * <p>
+ *     Values are mapped to group ids by a {@link LongHash} or a {@link BytesRefHash}, and group ids to documents by
+ *     arrays laid out so that the documents of a group are contiguous and sorted by segment and doc id. All memory is
+ *     tracked by the {@link BigArrays} of the {@link BlockFactory} used to build the table. The table is read only once
+ *     built, so any number of drivers can probe it concurrently.
+ * </p>
+ */
+public final class LookupHashTable implements RefCounted {
+    private final Keys keys;
+    /**
+     * The start of the documents of each group in {@link #segments} and {@link #docs}, the documents
+     * of group {@code g} are in {@code [offsets[g], offsets[g + 1])}.
+     */
+    private final IntArray offsets;
+    private final IntArray segments;
+    private final IntArray docs;
+    private final int groupCount;
+    private final RefCounted refs = AbstractRefCounted.of(this::closeInternal);
+
+    private LookupHashTable(Keys keys, IntArray offsets, IntArray segments, IntArray docs, int groupCount) {
+        this.keys = keys;
+        this.offsets = offsets;
+        this.segments = segments;
+        this.docs = docs;
+        this.groupCount = groupCount;
+    }
+
+    /**
+     * Lookup the group ids of the values at each position of the {@code input}. Positions without a value, with
+     * several values, or whose value is not in the table, are {@code null}, since they never match. The lookup only
+     * uses scratch state of its own, so concurrent lookups don't need to be synchronized.
+     * @param blockFactory the block factory of the driver running the lookup, which tracks the returned block
+     */
+    IntBlock lookup(Block input, BlockFactory blockFactory) {
+        final int positionCount = input.getPositionCount();
+        try (IntBlock.Builder builder = blockFactory.newIntBlockBuilder(positionCount)) {
+            final Keys.Finder finder = keys.newFinder();
+            for (int p = 0; p < positionCount; p++) {
+                if (input.getValueCount(p) != 1) {
+                    builder.appendNull();
+                    continue;
+                }
+                final long ord = finder.find(input, input.getFirstValueIndex(p));
+                if (ord < 0) {
+                    builder.appendNull();
+                } else {
+                    builder.appendInt(Math.toIntExact(ord + 1));
+                }
+            }
+            return builder.build();
+        }
+    }
+
+    /**
+     * The number of documents holding the value of the provided group.
+     */
+    int docCount(int group) {
+        if (group <= 0 || group >= groupCount) {
+            // group 0 is reserved for null which never matches
+            return 0;
+        }
+        return offsets.get(group + 1) - offsets.get(group);
+    }
+
+    int firstDocIndex(int group) {
+        return offsets.get(group);
+    }
+
+    int segment(int docIndex) {
+        return segments.get(docIndex);
+    }
+
+    int doc(int docIndex) {
+        return docs.get(docIndex);
+    }
+
+    /**
+     * An estimate of the memory used by this table.
+     */
+    public long ramBytesUsed() {
+        return keys.ramBytesUsed() + offsets.ramBytesUsed() + segments.ramBytesUsed() + docs.ramBytesUsed();
+    }
+
+    @Override
+    public void incRef() {
+        refs.incRef();
+    }
+
+    @Override
+    public boolean tryIncRef() {
+        return refs.tryIncRef();
+    }
+
+    @Override
+    public boolean decRef() {
+        return refs.decRef();
+    }
+
+    @Override
+    public boolean hasReferences() {
+        return refs.hasReferences();
+    }
+
+    private void closeInternal() {
+        Releasables.close(keys, offsets, segments, docs);
+    }
+
+    @Override
+    public String toString() {
+        return "LookupHashTable{keys=" + keys.size() + ", docs=" + docs.size() + "}";
+    }
+
+    /**
+     * The distinct values of the match field. The ord of a value is its group id minus one, group {@code 0}
+     * being reserved for {@code null}.
+     */
+    private abstract static class Keys implements Releasable {
+        /**
+         * Adds the value at {@code valueIndex} of the block, returning its ord, or {@code -1 - ord} if it was already added.
+         */
+        abstract long add(Block block, int valueIndex);
+
+        abstract long size();
+
+        abstract long ramBytesUsed();
+
+        /**
+         * Returns a finder with its own scratch state, that can run concurrently with the finders of other threads.
+         */
+        abstract Finder newFinder();
+
+        interface Finder {
+            /**
+             * Returns the ord of the value at {@code valueIndex} of the block, or {@code -1} if it isn't in the table.
+             */
+            long find(Block block, int valueIndex);
+        }
+
+        static Keys build(ElementType keyType, BigArrays bigArrays) {
+            return switch (keyType) {
+                case INT, LONG -> new LongKeys(keyType, new LongHash(1, bigArrays));
+                case BYTES_REF -> new BytesRefKeys(new BytesRefHash(1, bigArrays));
+                default -> throw new IllegalArgumentException("unsupported key type [" + keyType + "]");
+            };
+        }
+    }
+
+    private static final class LongKeys extends Keys {
+        private final ElementType keyType;
+        private final LongHash hash;
+
+        LongKeys(ElementType keyType, LongHash hash) {
+            this.keyType = keyType;
+            this.hash = hash;
+        }
+
+        private long value(Block block, int valueIndex) {
+            return keyType == ElementType.INT ? ((IntBlock) block).getInt(valueIndex) : ((LongBlock) block).getLong(valueIndex);
+        }
+
+        @Override
+        long add(Block block, int valueIndex) {
+            return hash.add(value(block, valueIndex));
+        }
+
+        @Override
+        long size() {
+            return hash.size();
+        }
+
+        @Override
+        long ramBytesUsed() {
+            return hash.ramBytesUsed();
+        }
+
+        @Override
+        Finder newFinder() {
+            // finding a long doesn't use any scratch state
+            return (block, valueIndex) -> hash.find(value(block, valueIndex));
+        }
+
+        @Override
+        public void close() {
+            hash.close();
+        }
+    }
+
+    private static final class BytesRefKeys extends Keys {
+        private final BytesRefHash hash;
+        private final BytesRef scratch = new BytesRef();
+
+        BytesRefKeys(BytesRefHash hash) {
+            this.hash = hash;
+        }
+
+        @Override
+        long add(Block block, int valueIndex) {
+            return hash.add(((BytesRefBlock) block).getBytesRef(valueIndex, scratch));
+        }
+
+        @Override
+        long size() {
+            return hash.size();
+        }
+
+        @Override
+        long ramBytesUsed() {
+            return hash.ramBytesUsed();
+        }
+
+        @Override
+        Finder newFinder() {
+            final BytesRefHash.Finder finder = hash.newFinder();
+            final BytesRef value = new BytesRef();
+            return (block, valueIndex) -> finder.find(((BytesRefBlock) block).getBytesRef(valueIndex, value));
+        }
+
+        @Override
+        public void close() {
+            hash.close();
+        }
+    }
+
+    /**
+     * Builds a {@link LookupHashTable} from the match field values of all documents of a lookup index.
+     */
+    public static final class Builder implements Releasable {
+        private final BlockFactory blockFactory;
+        private final Keys keys;
+        private IntArray pairGroups;
+        private IntArray pairSegments;
+        private IntArray pairDocs;
+        private long pairCount;
+        private int maxGroup;
+        private boolean built;
+
+        public Builder(BlockFactory blockFactory, ElementType keyType) {
+            this.blockFactory = blockFactory;
+            this.keys = Keys.build(keyType, blockFactory.bigArrays());
+            boolean success = false;
+            try {
+                BigArrays bigArrays = blockFactory.bigArrays();
+                this.pairGroups = bigArrays.newIntArray(1024, false);
+                this.pairSegments = bigArrays.newIntArray(1024, false);
+                this.pairDocs = bigArrays.newIntArray(1024, false);
+                success = true;
+            } finally {
+                if (success == false) {
+                    close();
+                }
+            }
+        }
+
+        /**
+         * Add the match field values of the provided documents of a segment.
+         * @param keys the values of each document, {@code null} for documents without a value
+         * @param segment the segment of the documents
+         * @param docs the documents, in the same order as the {@code keys}
+         */
+        public void add(Block keys, int segment, IntVector docs) {
+            assert keys.getPositionCount() == docs.getPositionCount();
+            for (int p = 0; p < keys.getPositionCount(); p++) {
+                final int first = keys.getFirstValueIndex(p);
+                final int end = first + keys.getValueCount(p);
+                final long firstPair = pairCount;
+                for (int i = first; i < end; i++) {
+                    long ord = this.keys.add(keys, i);
+                    if (ord < 0) {
+                        ord = -1 - ord;
+                    }
+                    final int group = Math.toIntExact(ord + 1);
+                    if (hasPair(firstPair, group) == false) {
+                        addPair(group, segment, docs.getInt(p));
+                    }
+                }
+            }
+        }
+
+        /**
+         * Whether the document already has a pair with the group, for documents that hold the same value several times.
+         */
+        private boolean hasPair(long firstPair, int group) {
+            for (long i = firstPair; i < pairCount; i++) {
+                if (pairGroups.get(i) == group) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void addPair(int group, int segment, int doc) {
+            pairGroups = blockFactory.bigArrays().grow(pairGroups, pairCount + 1);
+            pairSegments = blockFactory.bigArrays().grow(pairSegments, pairCount + 1);
+            pairDocs = blockFactory.bigArrays().grow(pairDocs, pairCount + 1);
+            pairGroups.set(pairCount, group);
+            pairSegments.set(pairCount, segment);
+            pairDocs.set(pairCount, doc);
+            pairCount++;
+            maxGroup = Math.max(maxGroup, group);
+        }
+
+        /**
+         * Build the table. Documents must have been added in segment and doc id order for the documents of
+         * each group to be sorted. The builder must still be closed, the returned table has a single reference.
+         */
+        public LookupHashTable build() {
+            assert built == false : "already built";
+            BigArrays bigArrays = blockFactory.bigArrays();
+            final int groupCount = maxGroup + 1;
+            IntArray offsets = null;
+            IntArray segments = null;
+            IntArray docs = null;
+            boolean success = false;
+            try {
+                // counting sort of the (group, segment, doc) tuples by group, stable so docs stay sorted within a group
+                offsets = bigArrays.newIntArray(groupCount + 1, true);
+                for (long i = 0; i < pairCount; i++) {
+                    offsets.increment(pairGroups.get(i) + 1, 1);
+                }
+                for (int g = 1; g <= groupCount; g++) {
+                    offsets.increment(g, offsets.get(g - 1));
+                }
+                segments = bigArrays.newIntArray(pairCount, false);
+                docs = bigArrays.newIntArray(pairCount, false);
+                try (IntArray next = bigArrays.newIntArray(groupCount, false)) {
+                    for (int g = 0; g < groupCount; g++) {
+                        next.set(g, offsets.get(g));
+                    }
+                    for (long i = 0; i < pairCount; i++) {
+                        int group = pairGroups.get(i);
+                        int index = next.get(group);
+                        next.set(group, index + 1);
+                        segments.set(index, pairSegments.get(i));
+                        docs.set(index, pairDocs.get(i));
+                    }
+                }
+                LookupHashTable table = new LookupHashTable(keys, offsets, segments, docs, groupCount);
+                built = true;
+                success = true;
+                return table;
+            } finally {
+                if (success == false) {
+                    Releasables.close(offsets, segments, docs);
+                }
+            }
+        }
+
+        @Override
+        public void close() {
+            // the keys are owned by the table once built
+            Releasables.close(pairGroups, pairSegments, pairDocs, built ? null : keys);
+        }
+    }
+}
@@ -177,6 +177,20 @@ public class TopNOperator implements Operator, Accountable {
             writeValues(position, destination.values);
         }
 
+        /**
+         * Fill the sort key of a {@link Row} for {@code position}, leaving its values empty.
+         */
+        void key(int position, Row destination) {
+            writeKey(position, destination);
+        }
+
+        /**
+         * Fill the values of a {@link Row} for {@code position} whose key was filled by {@link #key}.
+         */
+        void values(int position, Row destination) {
+            writeValues(position, destination.values);
+        }
+
         private void writeKey(int position, Row row) {
             int orderByCompositeKeyCurrentPosition = 0;
             for (int i = 0; i < keyFactories.length; i++) {
@@ -377,12 +391,21 @@ public class TopNOperator implements Operator, Accountable {
                     spare.keys.clear();
                     spare.values.clear();
                 }
-                rowFiller.row(i, spare);
+                rowFiller.key(i, spare);
+                spareKeysPreAllocSize = Math.max(spare.keys.length(), spareKeysPreAllocSize / 2);
+                /*
+                 * Only encode the values of rows that make it into the queue. Once the queue is full most
+                 * rows usually sort after its top, and encoding all the columns of wide rows that are
+                 * thrown away right after costs much more than comparing their keys.
+                 */
+                if (inputQueue.competitive(spare) == false) {
+                    continue;
+                }
+                rowFiller.values(i, spare);
 
                 // When rows are very long, appending the values one by one can lead to lots of allocations.
                 // To avoid this, pre-allocate at least as much size as in the last seen row.
                 // Let the pre-allocation size decay in case we only have 1 huge row and smaller rows otherwise.
-                spareKeysPreAllocSize = Math.max(spare.keys.length(), spareKeysPreAllocSize / 2);
                 spareValuesPreAllocSize = Math.max(spare.values.length(), spareValuesPreAllocSize / 2);
 
                 spare = inputQueue.insertWithOverflow(spare);
@@ -590,6 +613,16 @@ public class TopNOperator implements Operator, Accountable {
             return compareRows(r1, r2) < 0;
         }
 
+        /**
+         * Would {@link #insertWithOverflow} keep this row?
+         */
+        boolean competitive(Row row) {
+            if (size() < maxSize) {
+                return true;
+            }
+            return size() > 0 && lessThan(top(), row);
+        }
+
         @Override
         public String toString() {
             return size() + "/" + maxSize;
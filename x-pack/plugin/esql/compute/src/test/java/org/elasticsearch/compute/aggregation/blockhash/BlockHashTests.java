@@ -1232,6 +1232,39 @@ public class BlockHashTests extends BlockHashTestCase {
         }, blockFactory.newLongArrayVector(values, values.length).asBlock(), blockFactory.newConstantNullBlock(values.length));
     }
 
+    public void test2BytesRefsHighCardinality() {
+        int positions = 70_000;
+        try (
+            BytesRefVector.Builder builder1 = blockFactory.newBytesRefVectorBuilder(positions);
+            BytesRefVector.Builder builder2 = blockFactory.newBytesRefVectorBuilder(positions)
+        ) {
+            for (int p = 0; p < positions; p++) {
+                builder1.appendBytesRef(new BytesRef("v" + p));
+                builder2.appendBytesRef(new BytesRef("k" + (p % 3)));
+            }
+            Block[] blocks = new Block[] { builder1.build().asBlock(), builder2.build().asBlock() };
+            try (BlockHash hash = new BytesRef2BlockHash(blockFactory, 0, 1, positions)) {
+                hash(true, hash, ordsAndKeys -> {
+                    assertThat(ordsAndKeys.description(), equalTo("BytesRef2BlockHash{keys=[channel1=0, channel2=1], entries=70000}"));
+                    assertThat(ordsAndKeys.ords().getPositionCount(), equalTo(positions));
+                    BytesRefBlock keys1 = (BytesRefBlock) ordsAndKeys.keys()[0];
+                    BytesRefBlock keys2 = (BytesRefBlock) ordsAndKeys.keys()[1];
+                    // the second column only has three values so it is returned as ordinals
+                    assertNull(keys1.asOrdinals());
+                    assertNotNull(keys2.asOrdinals());
+                    BytesRef scratch = new BytesRef();
+                    for (int p = 0; p < positions; p++) {
+                        assertThat(ordsAndKeys.ords().getInt(p), equalTo(p));
+                        assertThat(keys1.getBytesRef(p, scratch).utf8ToString(), equalTo("v" + p));
+                        assertThat(keys2.getBytesRef(p, scratch).utf8ToString(), equalTo("k" + (p % 3)));
+                    }
+                }, blocks);
+            } finally {
+                Releasables.close(blocks);
+            }
+        }
+    }
+
     public void test3BytesRefs() {
         final Page page;
         final int positions = randomIntBetween(1, 1000);
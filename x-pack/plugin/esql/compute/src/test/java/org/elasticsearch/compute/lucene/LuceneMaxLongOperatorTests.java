@@ -37,6 +37,7 @@ public class LuceneMaxLongOperatorTests extends LuceneMaxOperatorTestCase {
         return new NumberTypeTest() {
 
             long max = Long.MIN_VALUE;
+            final boolean skipper = randomBoolean();
 
             @Override
             public IndexableField newPointField() {
@@ -45,7 +46,9 @@ public class LuceneMaxLongOperatorTests extends LuceneMaxOperatorTestCase {
 
             @Override
             public IndexableField newDocValuesField() {
-                return new SortedNumericDocValuesField(FIELD_NAME, newValue());
+                return skipper
+                    ? SortedNumericDocValuesField.indexedField(FIELD_NAME, newValue())
+                    : new SortedNumericDocValuesField(FIELD_NAME, newValue());
             }
 
             private long newValue() {
@@ -80,6 +80,7 @@ public abstract class LuceneMaxOperatorTestCase extends AnyOperatorTestCase {
     private LuceneMaxFactory simple(NumberTypeTest numberTypeTest, DataPartitioning dataPartitioning, int numDocs, int limit) {
         final boolean enableShortcut = randomBoolean();
         final boolean enableMultiValue = randomBoolean();
+        final boolean enableMissingSegments = randomBoolean();
         final int commitEvery = Math.max(1, numDocs / 10);
         try (
             RandomIndexWriter writer = new RandomIndexWriter(
@@ -90,7 +91,9 @@ public abstract class LuceneMaxOperatorTestCase extends AnyOperatorTestCase {
         ) {
 
             for (int d = 0; d < numDocs; d++) {
-                final var numValues = enableMultiValue ? randomIntBetween(1, 5) : 1;
+                // leave many segments without the field at all
+                final var missing = enableMissingSegments && (d / commitEvery) % 2 == 0;
+                final var numValues = missing ? 0 : enableMultiValue ? randomIntBetween(1, 5) : 1;
                 final var doc = new Document();
                 for (int i = 0; i < numValues; i++) {
                     if (enableShortcut) {
@@ -111,7 +114,7 @@ public abstract class LuceneMaxOperatorTestCase extends AnyOperatorTestCase {
 
         final ShardContext ctx = new LuceneSourceOperatorTests.MockShardContext(reader, 0);
         final Query query;
-        if (enableShortcut && randomBoolean()) {
+        if (randomBoolean()) {
             query = new MatchAllDocsQuery();
         } else {
             query = SortedNumericDocValuesField.newSlowRangeQuery(FIELD_NAME, Long.MIN_VALUE, Long.MAX_VALUE);
@@ -0,0 +1,110 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator;
+
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class FairDriverExecutorTests extends ESTestCase {
+
+    public void testShortQueriesGoFirst() {
+        Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        AtomicLong nanos = new AtomicLong();
+        FairDriverExecutor executor = new FairDriverExecutor(pending::add, new ThreadContext(Settings.EMPTY), 1, nanos::get);
+        List<String> ran = new ArrayList<>();
+
+        Executor large = executor.newQueue();
+        for (int i = 0; i < 3; i++) {
+            String name = "large-" + i;
+            large.execute(() -> {
+                ran.add(name);
+                nanos.addAndGet(100);
+            });
+        }
+        Executor small = executor.newQueue();
+        for (int i = 0; i < 2; i++) {
+            String name = "small-" + i;
+            small.execute(() -> {
+                ran.add(name);
+                nanos.addAndGet(10);
+            });
+        }
+        Runnable next;
+        while ((next = pending.poll()) != null) {
+            assertThat(executor.running(), equalTo(1));
+            next.run();
+        }
+        assertThat(ran, equalTo(List.of("large-0", "small-0", "small-1", "large-1", "large-2")));
+        assertThat(executor.running(), equalTo(0));
+    }
+
+    public void testNewQueryDoesNotClaimPastTime() {
+        Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        AtomicLong nanos = new AtomicLong();
+        FairDriverExecutor executor = new FairDriverExecutor(pending::add, new ThreadContext(Settings.EMPTY), 1, nanos::get);
+        List<String> ran = new ArrayList<>();
+
+        Executor first = executor.newQueue();
+        for (int i = 0; i < 5; i++) {
+            String name = "first-" + i;
+            first.execute(() -> {
+                ran.add(name);
+                nanos.addAndGet(100);
+            });
+        }
+        pending.poll().run();
+        pending.poll().run();
+        // the second query starts with the time used by the first one, so they take turns from now on
+        Executor second = executor.newQueue();
+        for (int i = 0; i < 3; i++) {
+            String name = "second-" + i;
+            second.execute(() -> {
+                ran.add(name);
+                nanos.addAndGet(150);
+            });
+        }
+        Runnable next;
+        while ((next = pending.poll()) != null) {
+            next.run();
+        }
+        assertThat(ran, equalTo(List.of("first-0", "first-1", "first-2", "second-0", "first-3", "second-1", "first-4", "second-2")));
+    }
+
+    public void testMaxRunning() {
+        Queue<Runnable> pending = new ConcurrentLinkedQueue<>();
+        int maxRunning = between(1, 5);
+        FairDriverExecutor executor = new FairDriverExecutor(pending::add, new ThreadContext(Settings.EMPTY), maxRunning);
+        int queries = between(1, 5);
+        int tasks = between(1, 50);
+        AtomicLong done = new AtomicLong();
+        for (int q = 0; q < queries; q++) {
+            Executor queue = executor.newQueue();
+            for (int t = 0; t < tasks; t++) {
+                queue.execute(done::incrementAndGet);
+            }
+        }
+        while (pending.isEmpty() == false) {
+            assertThat(executor.running(), lessThanOrEqualTo(maxRunning));
+            assertThat(pending.size(), equalTo(executor.running()));
+            pending.poll().run();
+        }
+        assertThat(done.get(), equalTo((long) queries * tasks));
+        assertThat(executor.running(), equalTo(0));
+    }
+}
@@ -126,4 +126,24 @@ public class FilterOperatorTests extends OperatorTestCase {
         results.forEach(Page::releaseBlocks);
         assertThat(context.breaker().getUsed(), equalTo(0L));
     }
+
+    public void testConstant() {
+        DriverContext context = driverContext();
+        boolean value = randomBoolean();
+        List<Page> input = CannedSourceOperator.collectPages(simpleInput(context.blockFactory(), between(1, 10_000)));
+        int inputPositions = input.stream().mapToInt(Page::getPositionCount).sum();
+        List<Page> results = drive(new FilterOperator(new EvalOperator.ExpressionEvaluator() {
+            @Override
+            public Block eval(Page page) {
+                return context.blockFactory().newConstantBooleanBlockWith(value, page.getPositionCount());
+            }
+
+            @Override
+            public void close() {}
+        }), input.iterator(), context);
+        int resultPositions = results.stream().mapToInt(Page::getPositionCount).sum();
+        assertThat(resultPositions, equalTo(value ? inputPositions : 0));
+        results.forEach(Page::releaseBlocks);
+        assertThat(context.breaker().getUsed(), equalTo(0L));
+    }
 }
@@ -16,6 +16,7 @@ import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.IsBlockedResult;
 import org.elasticsearch.compute.test.MockBlockFactory;
 import org.elasticsearch.compute.test.RandomBlock;
 import org.elasticsearch.test.ESTestCase;
@@ -85,6 +86,32 @@ public class ExchangeBufferTests extends ESTestCase {
         blockFactory.ensureAllBlocksAreReleased();
     }
 
+    public void testGrowWhenReaderStarved() {
+        int maxSize = between(1, 10);
+        ExchangeBuffer buffer = new ExchangeBuffer(maxSize);
+        var blockFactory = blockFactory();
+        int expectedSize = maxSize;
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < expectedSize; i++) {
+                assertTrue(buffer.waitForWriting().listener().isDone());
+                buffer.addPage(randomPage(blockFactory));
+            }
+            IsBlockedResult full = buffer.waitForWriting();
+            assertFalse(full.listener().isDone());
+            Page p;
+            while ((p = buffer.pollPage()) != null) {
+                p.releaseBlocks();
+            }
+            assertTrue(full.listener().isDone());
+            // the reader drained a full buffer and has to wait for more pages
+            assertFalse(buffer.waitForReading().listener().isDone());
+            expectedSize = Math.min(expectedSize * 2, maxSize * ExchangeBuffer.MAX_GROWTH);
+            assertThat(buffer.grownSize(), equalTo(expectedSize));
+        }
+        buffer.finish(true);
+        blockFactory.ensureAllBlocksAreReleased();
+    }
+
     private static MockBlockFactory blockFactory() {
         BigArrays bigArrays = new MockBigArrays(PageCacheRecycler.NON_RECYCLING_INSTANCE, ByteSizeValue.ofGb(1)).withCircuitBreaking();
         CircuitBreaker breaker = bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST);
@@ -18,8 +18,8 @@ import static org.hamcrest.Matchers.equalTo;
 
 public class ExchangeSourceOperatorStatusTests extends AbstractWireSerializingTestCase<ExchangeSourceOperator.Status> {
     public void testToXContent() {
-        assertThat(Strings.toString(new ExchangeSourceOperator.Status(0, 10, 111)), equalTo("""
-            {"pages_waiting":0,"pages_emitted":10,"rows_emitted":111}"""));
+        assertThat(Strings.toString(new ExchangeSourceOperator.Status(0, 10, 111, 2048, 123)), equalTo("""
+            {"pages_waiting":0,"pages_emitted":10,"rows_emitted":111,"bytes_emitted":2048,"wait_nanos":123}"""));
     }
 
     @Override
@@ -29,7 +29,13 @@ public class ExchangeSourceOperatorStatusTests extends AbstractWireSerializingTe
 
     @Override
     protected ExchangeSourceOperator.Status createTestInstance() {
-        return new ExchangeSourceOperator.Status(randomNonNegativeInt(), randomNonNegativeInt(), randomNonNegativeLong());
+        return new ExchangeSourceOperator.Status(
+            randomNonNegativeInt(),
+            randomNonNegativeInt(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong(),
+            randomNonNegativeLong()
+        );
     }
 
     @Override
@@ -37,12 +43,16 @@ public class ExchangeSourceOperatorStatusTests extends AbstractWireSerializingTe
         int pagesWaiting = instance.pagesWaiting();
         int pagesEmitted = instance.pagesEmitted();
         long rowsEmitted = instance.rowsEmitted();
-        switch (between(0, 2)) {
+        long bytesEmitted = instance.bytesEmitted();
+        long waitNanos = instance.waitNanos();
+        switch (between(0, 4)) {
             case 0 -> pagesWaiting = randomValueOtherThan(pagesWaiting, ESTestCase::randomNonNegativeInt);
             case 1 -> pagesEmitted = randomValueOtherThan(pagesEmitted, ESTestCase::randomNonNegativeInt);
             case 2 -> rowsEmitted = randomValueOtherThan(rowsEmitted, ESTestCase::randomNonNegativeLong);
+            case 3 -> bytesEmitted = randomValueOtherThan(bytesEmitted, ESTestCase::randomNonNegativeLong);
+            case 4 -> waitNanos = randomValueOtherThan(waitNanos, ESTestCase::randomNonNegativeLong);
             default -> throw new UnsupportedOperationException();
         }
-        return new ExchangeSourceOperator.Status(pagesWaiting, pagesEmitted, rowsEmitted);
+        return new ExchangeSourceOperator.Status(pagesWaiting, pagesEmitted, rowsEmitted, bytesEmitted, waitNanos);
     }
 }
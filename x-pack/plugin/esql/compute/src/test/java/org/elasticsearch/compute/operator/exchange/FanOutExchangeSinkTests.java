@@ -0,0 +1,163 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.exchange;
+
+import org.elasticsearch.action.ActionListener;
+import org.elasticsearch.action.support.PlainActionFuture;
+import org.elasticsearch.action.support.SubscribableListener;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.MockBigArrays;
+import org.elasticsearch.common.util.PageCacheRecycler;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.IsBlockedResult;
+import org.elasticsearch.compute.test.MockBlockFactory;
+import org.elasticsearch.compute.test.RandomBlock;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+public class FanOutExchangeSinkTests extends ESTestCase {
+
+    public void testCopiesPages() {
+        MockBlockFactory blockFactory = blockFactory();
+        List<RecordingSink> sinks = randomSinks();
+        FanOutExchangeSink fanOut = new FanOutExchangeSink(List.copyOf(sinks));
+        int pages = between(1, 10);
+        for (int p = 0; p < pages; p++) {
+            Page page = randomPage(blockFactory);
+            fanOut.addPage(page);
+            assertThat(sinks.get(sinks.size() - 1).pages.get(p), sameInstance(page));
+            for (RecordingSink sink : sinks.subList(0, sinks.size() - 1)) {
+                assertThat(sink.pages.get(p), not(sameInstance(page)));
+                assertThat(sink.pages.get(p), equalTo(page));
+            }
+        }
+        for (RecordingSink sink : sinks) {
+            assertThat(sink.pages, hasSize(pages));
+            sink.releasePages();
+        }
+        blockFactory.ensureAllBlocksAreReleased();
+    }
+
+    public void testSkipFinishedSinks() {
+        MockBlockFactory blockFactory = blockFactory();
+        List<RecordingSink> sinks = randomSinks();
+        FanOutExchangeSink fanOut = new FanOutExchangeSink(List.copyOf(sinks));
+        PlainActionFuture<Void> completion = new PlainActionFuture<>();
+        fanOut.addCompletionListener(completion);
+        RecordingSink finished = randomFrom(sinks);
+        finished.finish();
+        fanOut.addPage(randomPage(blockFactory));
+        assertThat(finished.pages, hasSize(0));
+        for (RecordingSink sink : sinks) {
+            assertThat(sink.pages, hasSize(sink == finished ? 0 : 1));
+            sink.finish();
+            sink.releasePages();
+        }
+        assertTrue(fanOut.isFinished());
+        assertTrue(completion.isDone());
+        // pages added once all sinks are finished are dropped
+        fanOut.addPage(randomPage(blockFactory));
+        blockFactory.ensureAllBlocksAreReleased();
+    }
+
+    public void testBlockedWhileAnySinkIsBlocked() {
+        List<RecordingSink> sinks = randomSinks();
+        FanOutExchangeSink fanOut = new FanOutExchangeSink(List.copyOf(sinks));
+        assertTrue(fanOut.waitForWriting().listener().isDone());
+        RecordingSink blocked = randomFrom(sinks);
+        blocked.writable = new SubscribableListener<>();
+        IsBlockedResult result = fanOut.waitForWriting();
+        assertFalse(result.listener().isDone());
+        blocked.writable.onResponse(null);
+        assertTrue(result.listener().isDone());
+        assertTrue(fanOut.waitForWriting().listener().isDone());
+        // a finished sink doesn't block the others
+        blocked.writable = new SubscribableListener<>();
+        blocked.finish();
+        assertTrue(fanOut.waitForWriting().listener().isDone());
+    }
+
+    private static List<RecordingSink> randomSinks() {
+        List<RecordingSink> sinks = new ArrayList<>();
+        int count = between(1, 5);
+        for (int i = 0; i < count; i++) {
+            sinks.add(new RecordingSink());
+        }
+        return sinks;
+    }
+
+    private static class RecordingSink implements ExchangeSink {
+        private final List<Page> pages = new ArrayList<>();
+        private final SubscribableListener<Void> finished = new SubscribableListener<>();
+        private SubscribableListener<Void> writable = SubscribableListener.nullSuccess();
+
+        @Override
+        public void addPage(Page page) {
+            pages.add(page);
+        }
+
+        @Override
+        public void finish() {
+            finished.onResponse(null);
+        }
+
+        @Override
+        public boolean isFinished() {
+            return finished.isDone();
+        }
+
+        @Override
+        public void addCompletionListener(ActionListener<Void> listener) {
+            finished.addListener(listener);
+        }
+
+        @Override
+        public IsBlockedResult waitForWriting() {
+            return new IsBlockedResult(writable, "test");
+        }
+
+        void releasePages() {
+            for (Page page : pages) {
+                page.releaseBlocks();
+            }
+            pages.clear();
+        }
+    }
+
+    private static MockBlockFactory blockFactory() {
+        BigArrays bigArrays = new MockBigArrays(PageCacheRecycler.NON_RECYCLING_INSTANCE, ByteSizeValue.ofGb(1)).withCircuitBreaking();
+        CircuitBreaker breaker = bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST);
+        return new MockBlockFactory(breaker, bigArrays);
+    }
+
+    private static Page randomPage(BlockFactory blockFactory) {
+        Block block = RandomBlock.randomBlock(
+            blockFactory,
+            randomFrom(ElementType.LONG, ElementType.BYTES_REF, ElementType.BOOLEAN),
+            randomIntBetween(1, 100),
+            randomBoolean(),
+            0,
+            between(1, 2),
+            0,
+            between(1, 2)
+        ).block();
+        return new Page(block);
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.compute.operator.lookup;
+
+import org.apache.lucene.util.BytesRef;
+import org.elasticsearch.common.breaker.CircuitBreaker;
+import org.elasticsearch.common.unit.ByteSizeValue;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.common.util.MockBigArrays;
+import org.elasticsearch.common.util.PageCacheRecycler;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.BytesRefBlock;
+import org.elasticsearch.compute.data.DocVector;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.Warnings;
+import org.elasticsearch.test.ESTestCase;
+import org.junit.After;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+
+public class HashLookupSourceOperatorTests extends ESTestCase {
+
+    private BlockFactory blockFactory;
+
+    @Before
+    public void setupBlockFactory() {
+        BigArrays bigArrays = new MockBigArrays(PageCacheRecycler.NON_RECYCLING_INSTANCE, ByteSizeValue.ofGb(1)).withCircuitBreaking();
+        CircuitBreaker breaker = bigArrays.breakerService().getBreaker(CircuitBreaker.REQUEST);
+        this.blockFactory = new BlockFactory(breaker, bigArrays);
+    }
+
+    @After
+    public void allBreakersEmpty() {
+        assertThat(blockFactory.breaker().getUsed(), equalTo(0L));
+    }
+
+    public void testLookup() {
+        LookupHashTable table;
+        try (LookupHashTable.Builder builder = new LookupHashTable.Builder(blockFactory, ElementType.BYTES_REF)) {
+            // segment 0: doc 0 -> a, doc 1 -> b, doc 2 -> a
+            try (
+                BytesRefBlock keys = makeTermsBlock(List.of(List.of("a"), List.of("b"), List.of("a")));
+                IntVector docs = blockFactory.newIntArrayVector(new int[] { 0, 1, 2 }, 3)
+            ) {
+                builder.add(keys, 0, docs);
+            }
+            // segment 1: doc 0 -> null, doc 1 -> b
+            try (
+                BytesRefBlock keys = makeTermsBlock(List.of(List.of(), List.of("b")));
+                IntVector docs = blockFactory.newIntArrayVector(new int[] { 0, 1 }, 2)
+            ) {
+                builder.add(keys, 1, docs);
+            }
+            table = builder.build();
+        }
+        Warnings warnings = Warnings.createWarnings(DriverContext.WarningsMode.COLLECT, -1, -1, "test");
+        // pos -> terms -> (segment, doc)
+        // -----------------------------
+        // 0 -> [b] -> [(0, 1), (1, 1)]
+        // 1 -> [a, c] -> [] with a warning
+        // 2 -> [z] -> []
+        // 3 -> [] -> []
+        // 4 -> [a] -> [(0, 0), (0, 2)]
+        BytesRefBlock input = makeTermsBlock(List.of(List.of("b"), List.of("a", "c"), List.of("z"), List.of(), List.of("a")));
+        try (HashLookupSourceOperator operator = new HashLookupSourceOperator(blockFactory, 3, table, input, warnings, "multi")) {
+            List<int[]> matches = new ArrayList<>();
+            while (operator.isFinished() == false) {
+                Page page = operator.getOutput();
+                try {
+                    DocVector docs = (DocVector) page.getBlock(0).asVector();
+                    IntBlock positions = page.getBlock(1);
+                    for (int p = 0; p < page.getPositionCount(); p++) {
+                        assertThat(docs.shards().getInt(p), equalTo(0));
+                        matches.add(new int[] { positions.getInt(p), docs.segments().getInt(p), docs.docs().getInt(p) });
+                    }
+                } finally {
+                    page.releaseBlocks();
+                }
+            }
+            assertThat(matches.size(), equalTo(4));
+            assertArrayEquals(new int[] { 0, 0, 1 }, matches.get(0));
+            assertArrayEquals(new int[] { 0, 1, 1 }, matches.get(1));
+            assertArrayEquals(new int[] { 4, 0, 0 }, matches.get(2));
+            assertArrayEquals(new int[] { 4, 0, 2 }, matches.get(3));
+        } finally {
+            input.close();
+        }
+    }
+
+    public void testSplitsLargeGroupsAcrossPages() {
+        int numDocs = between(1, 100);
+        int maxPageSize = between(1, 10);
+        LookupHashTable table;
+        try (LookupHashTable.Builder builder = new LookupHashTable.Builder(blockFactory, ElementType.BYTES_REF)) {
+            List<List<String>> terms = new ArrayList<>();
+            int[] docs = new int[numDocs];
+            for (int i = 0; i < numDocs; i++) {
+                terms.add(List.of("a"));
+                docs[i] = i;
+            }
+            try (BytesRefBlock keys = makeTermsBlock(terms); IntVector docsVector = blockFactory.newIntArrayVector(docs, numDocs)) {
+                builder.add(keys, 0, docsVector);
+            }
+            table = builder.build();
+        }
+        Warnings warnings = Warnings.createWarnings(DriverContext.WarningsMode.COLLECT, -1, -1, "test");
+        BytesRefBlock input = makeTermsBlock(List.of(List.of("a")));
+        try (HashLookupSourceOperator operator = new HashLookupSourceOperator(blockFactory, maxPageSize, table, input, warnings, "multi")) {
+            int expectedDoc = 0;
+            while (operator.isFinished() == false) {
+                Page page = operator.getOutput();
+                try {
+                    assertThat(page.getPositionCount(), equalTo(Math.min(maxPageSize, numDocs - expectedDoc)));
+                    DocVector docs = (DocVector) page.getBlock(0).asVector();
+                    for (int p = 0; p < page.getPositionCount(); p++) {
+                        assertThat(docs.docs().getInt(p), equalTo(expectedDoc++));
+                    }
+                } finally {
+                    page.releaseBlocks();
+                }
+            }
+            assertThat(expectedDoc, equalTo(numDocs));
+        } finally {
+            input.close();
+        }
+    }
+
+    public void testConcurrentLookups() throws Exception {
+        int numKeys = between(1, 50);
+        int numDocs = between(numKeys, 500);
+        LookupHashTable table;
+        try (
+            LookupHashTable.Builder builder = new LookupHashTable.Builder(blockFactory, ElementType.LONG);
+            LongBlock.Builder keys = blockFactory.newLongBlockBuilder(numDocs);
+            IntVector.Builder docs = blockFactory.newIntVectorBuilder(numDocs)
+        ) {
+            for (int d = 0; d < numDocs; d++) {
+                if (randomBoolean()) {
+                    keys.appendLong(d % numKeys);
+                } else {
+                    // documents may hold the same value several times, they still match once
+                    keys.beginPositionEntry();
+                    keys.appendLong(d % numKeys);
+                    keys.appendLong(d % numKeys);
+                    keys.endPositionEntry();
+                }
+                docs.appendInt(d);
+            }
+            try (LongBlock keysBlock = keys.build(); IntVector docsVector = docs.build()) {
+                builder.add(keysBlock, 0, docsVector);
+            }
+            table = builder.build();
+        }
+        int numThreads = between(2, 8);
+        Thread[] threads = new Thread[numThreads];
+        int[][] matchesPerKey = new int[numThreads][numKeys];
+        try {
+            for (int t = 0; t < numThreads; t++) {
+                int thread = t;
+                table.incRef();
+                threads[t] = new Thread(() -> {
+                    Warnings warnings = Warnings.createWarnings(DriverContext.WarningsMode.COLLECT, -1, -1, "test");
+                    LongBlock input;
+                    try (LongBlock.Builder builder = blockFactory.newLongBlockBuilder(numKeys)) {
+                        for (int k = 0; k < numKeys; k++) {
+                            builder.appendLong(k);
+                        }
+                        input = builder.build();
+                    }
+                    try (HashLookupSourceOperator operator = new HashLookupSourceOperator(blockFactory, 100, table, input, warnings, "m")) {
+                        while (operator.isFinished() == false) {
+                            Page page = operator.getOutput();
+                            try {
+                                IntBlock positions = page.getBlock(1);
+                                for (int p = 0; p < page.getPositionCount(); p++) {
+                                    matchesPerKey[thread][positions.getInt(p)]++;
+                                }
+                            } finally {
+                                page.releaseBlocks();
+                            }
+                        }
+                    } finally {
+                        input.close();
+                    }
+                });
+                threads[t].start();
+            }
+            for (Thread thread : threads) {
+                thread.join();
+            }
+        } finally {
+            table.decRef();
+        }
+        for (int t = 0; t < numThreads; t++) {
+            for (int k = 0; k < numKeys; k++) {
+                assertThat(matchesPerKey[t][k], equalTo((numDocs - k + numKeys - 1) / numKeys));
+            }
+        }
+    }
+
+    private BytesRefBlock makeTermsBlock(List<List<String>> terms) {
+        try (BytesRefBlock.Builder builder = blockFactory.newBytesRefBlockBuilder(terms.size())) {
+            for (List<String> values : terms) {
+                if (values.isEmpty()) {
+                    builder.appendNull();
+                } else if (values.size() == 1) {
+                    builder.appendBytesRef(new BytesRef(values.get(0)));
+                } else {
+                    builder.beginPositionEntry();
+                    for (String value : values) {
+                        builder.appendBytesRef(new BytesRef(value));
+                    }
+                    builder.endPositionEntry();
+                }
+            }
+            return builder.build();
+        }
+    }
+}
@@ -499,6 +499,34 @@ public class TopNOperatorTests extends OperatorTestCase {
         );
     }
 
+    public void testTopNSkipsRowsOnceFull() {
+        // few distinct keys, so that once the queue is full most rows either sort after its top or tie with it
+        int keys = between(1, 5);
+        int rows = between(100, 1000);
+        List<Tuple<Long, Long>> values = new ArrayList<>();
+        for (long i = 0; i < rows; i++) {
+            values.add(tuple((long) between(0, keys - 1), i));
+        }
+        int limit = between(1, 20);
+        boolean asc = randomBoolean();
+        List<Tuple<Long, Long>> result = topNTwoColumns(
+            driverContext(),
+            values,
+            limit,
+            List.of(LONG, LONG),
+            List.of(TopNEncoder.DEFAULT_SORTABLE, TopNEncoder.DEFAULT_SORTABLE),
+            List.of(new TopNOperator.SortOrder(0, asc, false))
+        );
+        Comparator<Long> order = asc ? Comparator.naturalOrder() : Comparator.reverseOrder();
+        List<Long> expectedKeys = values.stream().map(Tuple::v1).sorted(order).limit(limit).toList();
+        assertThat(result.stream().map(Tuple::v1).toList(), equalTo(expectedKeys));
+        // whichever rows won the ties, their values were encoded along with their keys
+        for (Tuple<Long, Long> row : result) {
+            assertThat(values.get(Math.toIntExact(row.v2())), equalTo(row));
+        }
+        assertThat(result.stream().map(Tuple::v2).distinct().count(), equalTo((long) result.size()));
+    }
+
     public void testCollectAllValues() {
         DriverContext driverContext = driverContext();
         BlockFactory blockFactory = driverContext.blockFactory();
@@ -730,6 +730,29 @@ public class EsqlSecurityIT extends ESRestTestCase {
 
     }
 
+    /**
+     * Joins on a keyword field, which small lookup indices serve from a hash table cached per reader, with users
+     * that see different documents of the same reader.
+     */
+    public void testLookupJoinDocLevelSecurityOnKeyword() throws Exception {
+        assumeTrue(
+            "Requires LOOKUP JOIN capability",
+            EsqlSpecTestCase.hasCapabilities(adminClient(), List.of(EsqlCapabilities.Cap.JOIN_LOOKUP_V12.capabilityName()))
+        );
+        String query = "ROW org = \"sales\" | LOOKUP JOIN lookup-user2 ON org | KEEP org, value";
+        for (int i = 0; i < 2; i++) {
+            Map<String, Object> respMap = entityAsMap(runESQLCommand("metadata1_read2", query));
+            assertThat(respMap.get("values"), equalTo(List.of(List.of("sales", 40.0))));
+
+            respMap = entityAsMap(runESQLCommand("dls_user", query));
+            assertThat(respMap.get("values"), equalTo(List.of(Arrays.asList("sales", null))));
+        }
+        Map<String, Object> respMap = entityAsMap(
+            runESQLCommand("dls_user", "ROW org = \"marketing\" | LOOKUP JOIN lookup-user2 ON org | KEEP org, value")
+        );
+        assertThat(respMap.get("values"), equalTo(List.of(List.of("marketing", 32.0))));
+    }
+
     @SuppressWarnings("unchecked")
     public void testLookupJoinFieldLevelSecurity() throws Exception {
         assumeTrue(
@@ -0,0 +1,135 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.action;
+
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.action.ActionFuture;
+import org.elasticsearch.action.admin.cluster.node.tasks.cancel.CancelTasksRequest;
+import org.elasticsearch.action.admin.cluster.node.tasks.cancel.TransportCancelTasksAction;
+import org.elasticsearch.common.collect.Iterators;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.tasks.TaskCancelledException;
+import org.elasticsearch.tasks.TaskInfo;
+import org.elasticsearch.xpack.esql.plugin.EsqlPlugin;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.notNullValue;
+
+/**
+ * Runs identical queries concurrently with {@link EsqlPlugin#SHARED_SCAN_WINDOW} set, so that they share a scan of the data node.
+ */
+public class SharedScanIT extends AbstractPausableIntegTestCase {
+    private static final String QUERY = "from test | stats sum(pause_me)";
+
+    @Override
+    protected Settings nodeSettings(int nodeOrdinal, Settings otherSettings) {
+        return Settings.builder()
+            .put(super.nodeSettings(nodeOrdinal, otherSettings))
+            .put(EsqlPlugin.SHARED_SCAN_WINDOW.getKey(), TimeValue.timeValueSeconds(5))
+            .build();
+    }
+
+    public void testSharedScan() throws Exception {
+        runWarmUpQuery();
+        List<ActionFuture<EsqlQueryResponse>> responses = startQueries(2);
+        try {
+            assertBusy(() -> assertThat(sharedScanTasks(), hasSize(1)));
+        } finally {
+            scriptPermits.release(numberOfDocs());
+        }
+        for (ActionFuture<EsqlQueryResponse> response : responses) {
+            try (EsqlQueryResponse resp = response.actionGet(TimeValue.timeValueSeconds(60))) {
+                assertThat(Iterators.flatMap(resp.values(), i -> i).next(), equalTo((long) numberOfDocs()));
+            }
+        }
+        assertBusy(() -> assertThat(sharedScanTasks(), hasSize(0)));
+    }
+
+    public void testCancelQueryOfSharedScan() throws Exception {
+        runWarmUpQuery();
+        List<ActionFuture<EsqlQueryResponse>> responses = startQueries(2);
+        try {
+            assertBusy(() -> assertThat(sharedScanTasks(), hasSize(1)));
+            List<TaskInfo> tasks = client().admin()
+                .cluster()
+                .prepareListTasks()
+                .setActions(EsqlQueryAction.NAME)
+                .setDetailed(true)
+                .get()
+                .getTasks();
+            assertThat(tasks, hasSize(2));
+            CancelTasksRequest request = new CancelTasksRequest().setTargetTaskId(randomFrom(tasks).taskId()).setReason("test cancel");
+            request.setWaitForCompletion(false);
+            client().admin().cluster().execute(TransportCancelTasksAction.TYPE, request).actionGet();
+        } finally {
+            scriptPermits.release(numberOfDocs());
+        }
+        int completed = 0;
+        int cancelled = 0;
+        for (ActionFuture<EsqlQueryResponse> response : responses) {
+            try (EsqlQueryResponse resp = response.actionGet(TimeValue.timeValueSeconds(60))) {
+                // the other query of the scan isn't affected
+                assertThat(Iterators.flatMap(resp.values(), i -> i).next(), equalTo((long) numberOfDocs()));
+                completed++;
+            } catch (Exception e) {
+                assertThat(ExceptionsHelper.unwrap(e, TaskCancelledException.class), instanceOf(TaskCancelledException.class));
+                cancelled++;
+            }
+        }
+        assertThat(completed, equalTo(1));
+        assertThat(cancelled, equalTo(1));
+    }
+
+    /**
+     * Runs the query once, so that the data node waits for the queries that repeat it to share their scan.
+     */
+    private void runWarmUpQuery() {
+        scriptPermits.release(numberOfDocs());
+        try (
+            EsqlQueryResponse resp = EsqlQueryRequestBuilder.newSyncEsqlQueryRequestBuilder(client())
+                .query(QUERY)
+                .execute()
+                .actionGet(TimeValue.timeValueSeconds(60))
+        ) {
+            assertThat(Iterators.flatMap(resp.values(), i -> i).next(), equalTo((long) numberOfDocs()));
+        }
+        scriptPermits.drainPermits();
+    }
+
+    private List<ActionFuture<EsqlQueryResponse>> startQueries(int count) {
+        List<ActionFuture<EsqlQueryResponse>> responses = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            responses.add(EsqlQueryRequestBuilder.newSyncEsqlQueryRequestBuilder(client()).query(QUERY).execute());
+        }
+        return responses;
+    }
+
+    private List<TaskInfo> sharedScanTasks() {
+        List<TaskInfo> tasks = client().admin()
+            .cluster()
+            .prepareListTasks()
+            .setActions("esql_compute_group")
+            .setDetailed(true)
+            .get()
+            .getTasks();
+        List<TaskInfo> sharedScans = new ArrayList<>();
+        for (TaskInfo task : tasks) {
+            assertThat(task.description(), notNullValue());
+            if (task.description().contains("shared scan: 2 queries")) {
+                sharedScans.add(task);
+            }
+        }
+        return sharedScans;
+    }
+}
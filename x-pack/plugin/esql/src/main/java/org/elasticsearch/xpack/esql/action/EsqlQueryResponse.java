@@ -48,7 +48,7 @@ public class EsqlQueryResponse extends org.elasticsearch.xpack.core.esql.action.
     public static final String DROP_NULL_COLUMNS_OPTION = "drop_null_columns";
 
     private final List<ColumnInfoImpl> columns;
-    private final List<Page> pages;
+    private List<Page> pages;
     private final long documentsFound;
     private final long valuesLoaded;
     private final Profile profile;
@@ -173,6 +173,17 @@ public class EsqlQueryResponse extends org.elasticsearch.xpack.core.esql.action.
         return pages;
     }
 
+    /**
+     * Hands the pages of the response over to the caller, which becomes responsible for releasing them. The response
+     * holds no pages afterwards, so this is only for synchronous responses, which are read once to build the REST response.
+     */
+    List<Page> takePages() {
+        assert isAsync == false : "async responses may be stored and read again";
+        List<Page> taken = pages;
+        pages = List.of();
+        return taken;
+    }
+
     public Iterator<Iterator<Object>> values() {
         List<DataType> dataTypes = columns.stream().map(ColumnInfoImpl::type).toList();
         return ResponseValueUtils.pagesToValues(dataTypes, pages);
@@ -131,6 +131,7 @@ public final class EsqlResponseListener extends RestRefCountedChunkedToXContentL
     private RestResponse buildResponse(EsqlQueryResponse esqlResponse) throws IOException {
         boolean success = false;
         final Releasable releasable = releasableFromResponse(esqlResponse);
+        Releasable toRelease = releasable;
         try {
             RestResponse restResponse;
             if (mediaType instanceof TextFormat format) {
@@ -143,9 +144,16 @@ public final class EsqlResponseListener extends RestRefCountedChunkedToXContentL
                 ArrowResponse arrowResponse = new ArrowResponse(
                     // Map here to avoid cyclic dependencies between the arrow subproject and its parent
                     esqlResponse.columns().stream().map(c -> new ArrowResponse.Column(c.outputType(), c.name())).toList(),
-                    esqlResponse.pages()
+                    esqlResponse.pages(),
+                    // async responses may also be stored, otherwise this response takes the pages over to release them early
+                    esqlResponse.isAsync() == false
                 );
-                restResponse = RestResponse.chunked(RestStatus.OK, arrowResponse, Releasables.wrap(arrowResponse, releasable));
+                if (esqlResponse.isAsync() == false) {
+                    // only hand the pages over once the Arrow response exists, which releases them from now on, even on failure
+                    esqlResponse.takePages();
+                }
+                toRelease = Releasables.wrap(arrowResponse, releasable);
+                restResponse = RestResponse.chunked(RestStatus.OK, arrowResponse, toRelease);
             } else {
                 restResponse = RestResponse.chunked(
                     RestStatus.OK,
@@ -158,7 +166,7 @@ public final class EsqlResponseListener extends RestRefCountedChunkedToXContentL
             return restResponse;
         } finally {
             if (success == false) {
-                releasable.close();
+                toRelease.close();
             }
         }
     }
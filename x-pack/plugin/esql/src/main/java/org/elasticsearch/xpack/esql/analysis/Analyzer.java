@@ -197,6 +197,15 @@ public class Analyzer extends ParameterizedRuleExecutor<LogicalPlan, AnalyzerCon
         return verify(execute(plan), gatherPreAnalysisMetrics(plan, partialMetrics));
     }
 
+    /**
+     * Verifies a plan that an earlier query analyzed from the same {@code parsed} plan, collecting
+     * the same telemetry as {@link #analyze}.
+     */
+    public LogicalPlan verifyAnalyzed(LogicalPlan parsed, LogicalPlan analyzed) {
+        BitSet partialMetrics = new BitSet(FeatureMetric.values().length);
+        return verify(analyzed, gatherPreAnalysisMetrics(parsed, partialMetrics));
+    }
+
     public LogicalPlan verify(LogicalPlan plan, BitSet partialMetrics) {
         Collection<Failure> failures = verifier.verify(plan, partialMetrics);
         if (failures.isEmpty() == false) {
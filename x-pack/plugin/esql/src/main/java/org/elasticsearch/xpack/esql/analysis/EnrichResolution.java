@@ -13,6 +13,7 @@ import org.elasticsearch.xpack.esql.plan.logical.Enrich;
 
 import java.util.Collection;
 import java.util.Map;
+import java.util.Objects;
 
 /**
  * Holds the resolution results of the enrich polices.
@@ -51,6 +52,23 @@ public final class EnrichResolution {
         errors.putIfAbsent(new Key(policyName, mode), reason);
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        EnrichResolution that = (EnrichResolution) o;
+        return resolvedPolicies.equals(that.resolvedPolicies) && errors.equals(that.errors);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(resolvedPolicies, errors);
+    }
+
     private record Key(String policyName, Enrich.Mode mode) {
 
     }
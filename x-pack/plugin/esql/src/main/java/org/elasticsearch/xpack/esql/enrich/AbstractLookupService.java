@@ -41,6 +41,7 @@ import org.elasticsearch.compute.operator.DriverContext;
 import org.elasticsearch.compute.operator.Operator;
 import org.elasticsearch.compute.operator.OutputOperator;
 import org.elasticsearch.compute.operator.ProjectOperator;
+import org.elasticsearch.compute.operator.SourceOperator;
 import org.elasticsearch.compute.operator.Warnings;
 import org.elasticsearch.compute.operator.lookup.EnrichQuerySourceOperator;
 import org.elasticsearch.compute.operator.lookup.MergePositionsOperator;
@@ -196,6 +197,23 @@ public abstract class AbstractLookupService<R extends AbstractLookupService.Requ
         Warnings warnings
     );
 
+    /**
+     * Build an operator that finds the documents matching the input block without running a query per position,
+     * emitting the same pages as {@link EnrichQuerySourceOperator}. Returns {@code null} to run the queries built
+     * by {@link #queryList}.
+     */
+    @Nullable
+    protected SourceOperator hashLookupOperator(
+        T request,
+        LookupShardContext shardContext,
+        AliasFilter aliasFilter,
+        Block inputBlock,
+        DriverContext driverContext,
+        Warnings warnings
+    ) throws IOException {
+        return null;
+    }
+
     /**
      * Build the response.
      */
@@ -330,21 +348,26 @@ public abstract class AbstractLookupService<R extends AbstractLookupService.Requ
                 request.source.source().getColumnNumber(),
                 request.source.text()
             );
-            QueryList queryList = queryList(
-                request,
-                shardContext.executionContext,
-                aliasFilter,
-                inputBlock,
-                request.inputDataType,
-                warnings
-            );
-            var queryOperator = new EnrichQuerySourceOperator(
-                driverContext.blockFactory(),
-                EnrichQuerySourceOperator.DEFAULT_MAX_PAGE_SIZE,
-                queryList,
-                shardContext.context.searcher().getIndexReader(),
-                warnings
-            );
+            SourceOperator queryOperator = mergePages
+                ? null
+                : hashLookupOperator(request, shardContext, aliasFilter, inputBlock, driverContext, warnings);
+            if (queryOperator == null) {
+                QueryList queryList = queryList(
+                    request,
+                    shardContext.executionContext,
+                    aliasFilter,
+                    inputBlock,
+                    request.inputDataType,
+                    warnings
+                );
+                queryOperator = new EnrichQuerySourceOperator(
+                    driverContext.blockFactory(),
+                    EnrichQuerySourceOperator.DEFAULT_MAX_PAGE_SIZE,
+                    queryList,
+                    shardContext.context.searcher().getIndexReader(),
+                    warnings
+                );
+            }
             releasables.add(queryOperator);
             var extractFieldsOperator = extractFieldsOperator(shardContext.context, driverContext, request.extractFields);
             releasables.add(extractFieldsOperator);
@@ -18,7 +18,12 @@ import org.elasticsearch.compute.data.Block;
 import org.elasticsearch.compute.data.BlockFactory;
 import org.elasticsearch.compute.data.BlockStreamInput;
 import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.SourceOperator;
 import org.elasticsearch.compute.operator.Warnings;
+import org.elasticsearch.compute.operator.lookup.EnrichQuerySourceOperator;
+import org.elasticsearch.compute.operator.lookup.HashLookupSourceOperator;
+import org.elasticsearch.compute.operator.lookup.LookupHashTable;
 import org.elasticsearch.compute.operator.lookup.QueryList;
 import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasables;
@@ -48,6 +53,10 @@ import java.util.Objects;
 public class LookupFromIndexService extends AbstractLookupService<LookupFromIndexService.Request, LookupFromIndexService.TransportRequest> {
     public static final String LOOKUP_ACTION_NAME = EsqlQueryAction.NAME + "/lookup_from_index";
 
+    private static final String MULTI_VALUE_WARNING = "LOOKUP JOIN encountered multi-value";
+
+    private final LookupHashTables hashTables;
+
     public LookupFromIndexService(
         ClusterService clusterService,
         IndicesService indicesService,
@@ -69,6 +78,7 @@ public class LookupFromIndexService extends AbstractLookupService<LookupFromInde
             false,
             TransportRequest::readFrom
         );
+        this.hashTables = new LookupHashTables(clusterService.getSettings(), blockFactory);
     }
 
     @Override
@@ -97,7 +107,35 @@ public class LookupFromIndexService extends AbstractLookupService<LookupFromInde
     ) {
         return termQueryList(context.getFieldType(request.matchField), context, aliasFilter, inputBlock, inputDataType).onlySingleValues(
             warnings,
-            "LOOKUP JOIN encountered multi-value"
+            MULTI_VALUE_WARNING
+        );
+    }
+
+    @Override
+    protected SourceOperator hashLookupOperator(
+        TransportRequest request,
+        LookupShardContext shardContext,
+        AliasFilter aliasFilter,
+        Block inputBlock,
+        DriverContext driverContext,
+        Warnings warnings
+    ) throws IOException {
+        LookupHashTable table = hashTables.acquire(
+            shardContext.context(),
+            shardContext.executionContext().getFieldType(request.matchField),
+            request.inputDataType,
+            aliasFilter
+        );
+        if (table == null) {
+            return null;
+        }
+        return new HashLookupSourceOperator(
+            driverContext.blockFactory(),
+            EnrichQuerySourceOperator.DEFAULT_MAX_PAGE_SIZE,
+            table,
+            inputBlock,
+            warnings,
+            MULTI_VALUE_WARNING
         );
     }
 
@@ -0,0 +1,237 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.enrich;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.lucene.index.FilterLeafReader;
+import org.apache.lucene.index.IndexReader;
+import org.apache.lucene.index.LeafReader;
+import org.apache.lucene.index.LeafReaderContext;
+import org.apache.lucene.util.Bits;
+import org.elasticsearch.ExceptionsHelper;
+import org.elasticsearch.common.cache.Cache;
+import org.elasticsearch.common.cache.CacheBuilder;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.compute.data.BlockFactory;
+import org.elasticsearch.compute.data.DocVector;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.lucene.ValuesSourceReaderOperator;
+import org.elasticsearch.compute.operator.lookup.LookupHashTable;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.core.Releasables;
+import org.elasticsearch.index.mapper.BlockLoader;
+import org.elasticsearch.index.mapper.KeywordFieldMapper;
+import org.elasticsearch.index.mapper.MappedFieldType;
+import org.elasticsearch.search.internal.AliasFilter;
+import org.elasticsearch.xpack.core.security.authz.accesscontrol.DocumentSubsetReader;
+import org.elasticsearch.xpack.core.security.authz.accesscontrol.FieldSubsetReader;
+import org.elasticsearch.xpack.esql.core.type.DataType;
+import org.elasticsearch.xpack.esql.planner.EsPhysicalOperationProviders;
+import org.elasticsearch.xpack.esql.planner.PlannerUtils;
+import org.elasticsearch.xpack.esql.plugin.EsqlPlugin;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Node level cache of the {@link LookupHashTable}s used to run {@code LOOKUP JOIN} against small lookup indices
+ * without running a query per input row. A table is built the first time a lookup index is joined on a field and
+ * is then shared by every lookup against the same reader, so it is only rebuilt after the lookup index refreshes.
+ * Tables are released when the reader they were built from is closed, or when the least recently used tables must
+ * make room for the others to stay within {@link EsqlPlugin#LOOKUP_HASH_JOIN_CACHE_SIZE}.
+ * <p>
+ *     Hash lookups are only used when they are guaranteed to match the same documents as the term queries they
+ *     replace: the lookup reader must expose all of its documents and fields to every user (no alias filter, no document
+ *     or field level security), and the match field must be a field whose doc values are the exact terms that the input
+ *     values are compared to.
+ * </p>
+ */
+final class LookupHashTables {
+    private static final Logger logger = LogManager.getLogger(LookupHashTables.class);
+
+    private static final int LOAD_PAGE_SIZE = 8192;
+
+    private record Key(IndexReader.CacheKey readerKey, String matchField) {}
+
+    private final Cache<Key, LookupHashTable> tables;
+    private final BlockFactory blockFactory;
+    private final int maxDocs;
+
+    LookupHashTables(Settings settings, BlockFactory blockFactory) {
+        this.blockFactory = blockFactory;
+        this.maxDocs = EsqlPlugin.LOOKUP_HASH_JOIN_MAX_DOCS.get(settings);
+        // lookups that still hold a reference to a removed table keep probing it, the last one releases it
+        this.tables = CacheBuilder.<Key, LookupHashTable>builder()
+            .setMaximumWeight(EsqlPlugin.LOOKUP_HASH_JOIN_CACHE_SIZE.get(settings).getBytes())
+            .weigher((key, table) -> table.ramBytesUsed())
+            .removalListener(notification -> notification.getValue().decRef())
+            .build();
+    }
+
+    /**
+     * Returns a reference to the hash table of the match field of the lookup shard, building it if needed,
+     * or {@code null} if the lookup must run queries. The caller must {@link LookupHashTable#decRef} the table.
+     */
+    @Nullable
+    LookupHashTable acquire(
+        EsPhysicalOperationProviders.ShardContext shardContext,
+        @Nullable MappedFieldType matchFieldType,
+        DataType inputDataType,
+        AliasFilter aliasFilter
+    ) throws IOException {
+        if (aliasFilter != null && aliasFilter.getQueryBuilder() != null) {
+            return null;
+        }
+        if (supportsHashLookup(matchFieldType, inputDataType) == false) {
+            return null;
+        }
+        IndexReader reader = shardContext.searcher().getIndexReader();
+        if (reader.maxDoc() > maxDocs) {
+            return null;
+        }
+        if (hasAccessControl(reader)) {
+            return null;
+        }
+        IndexReader.CacheHelper cacheHelper = reader.getReaderCacheHelper();
+        if (cacheHelper == null) {
+            return null;
+        }
+        String matchField = matchFieldType.name();
+        Key key = new Key(cacheHelper.getKey(), matchField);
+        final LookupHashTable table;
+        try {
+            table = tables.computeIfAbsent(key, k -> {
+                cacheHelper.addClosedListener(closedKey -> tables.invalidate(k));
+                return build(shardContext, matchField, inputDataType);
+            });
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw ExceptionsHelper.convertToRuntime((Exception) e.getCause());
+        }
+        // the table may have been evicted in the meantime, in which case the lookup runs queries
+        return table.tryIncRef() ? table : null;
+    }
+
+    private LookupHashTable build(EsPhysicalOperationProviders.ShardContext shardContext, String matchField, DataType inputDataType)
+        throws IOException {
+        long startNanos = System.nanoTime();
+        IndexReader reader = shardContext.searcher().getIndexReader();
+        ElementType elementType = PlannerUtils.toElementType(inputDataType);
+        BlockLoader loader = shardContext.blockLoader(matchField, false, MappedFieldType.FieldExtractPreference.NONE);
+        ValuesSourceReaderOperator valuesReader = new ValuesSourceReaderOperator(
+            blockFactory,
+            List.of(new ValuesSourceReaderOperator.FieldInfo(matchField, elementType, shardIdx -> {
+                if (shardIdx != 0) {
+                    throw new IllegalStateException("only one shard");
+                }
+                return loader;
+            })),
+            List.of(
+                new ValuesSourceReaderOperator.ShardContext(
+                    reader,
+                    shardContext::newSourceLoader,
+                    EsqlPlugin.STORED_FIELDS_SEQUENTIAL_PROPORTION.getDefault(Settings.EMPTY)
+                )
+            ),
+            0
+        );
+        try (valuesReader; LookupHashTable.Builder builder = new LookupHashTable.Builder(blockFactory, elementType)) {
+            for (LeafReaderContext leaf : reader.leaves()) {
+                Bits liveDocs = leaf.reader().getLiveDocs();
+                int maxDoc = leaf.reader().maxDoc();
+                int doc = 0;
+                while (doc < maxDoc) {
+                    try (IntVector.Builder docs = blockFactory.newIntVectorBuilder(Math.min(LOAD_PAGE_SIZE, maxDoc - doc))) {
+                        int count = 0;
+                        for (; doc < maxDoc && count < LOAD_PAGE_SIZE; doc++) {
+                            if (liveDocs == null || liveDocs.get(doc)) {
+                                docs.appendInt(doc);
+                                count++;
+                            }
+                        }
+                        if (count > 0) {
+                            addDocs(valuesReader, builder, leaf.ord, docs.build(), count);
+                        }
+                    }
+                }
+            }
+            LookupHashTable table = builder.build();
+            logger.debug(
+                "built lookup hash table of [{}] on [{}] with [{}] documents in [{}ms]",
+                shardContext.shardIdentifier(),
+                matchField,
+                reader.numDocs(),
+                (System.nanoTime() - startNanos) / 1_000_000
+            );
+            return table;
+        }
+    }
+
+    private void addDocs(ValuesSourceReaderOperator valuesReader, LookupHashTable.Builder builder, int segment, IntVector docs, int count) {
+        IntVector shards = null;
+        IntVector segments = null;
+        Page input;
+        try {
+            shards = blockFactory.newConstantIntVector(0, count);
+            segments = blockFactory.newConstantIntVector(segment, count);
+            input = new Page(new DocVector(shards, segments, docs, true).asBlock());
+        } catch (RuntimeException e) {
+            Releasables.closeExpectNoException(shards, segments, docs);
+            throw e;
+        }
+        valuesReader.addInput(input);
+        Page output = valuesReader.getOutput();
+        try {
+            // the doc block shares the docs vector, so it must be released after the keys are added
+            builder.add(output.getBlock(1), segment, docs);
+        } finally {
+            output.releaseBlocks();
+        }
+    }
+
+    /**
+     * Whether the reader hides documents or fields from the user with document or field level security. The
+     * security wrappers delegate the cache helper of the top level reader, so readers over the same segments
+     * share a cache key whatever the user can see.
+     */
+    static boolean hasAccessControl(IndexReader reader) {
+        for (LeafReaderContext leaf : reader.leaves()) {
+            LeafReader leafReader = leaf.reader();
+            while (leafReader instanceof FilterLeafReader filter) {
+                if (filter instanceof DocumentSubsetReader || filter instanceof FieldSubsetReader) {
+                    return true;
+                }
+                leafReader = filter.getDelegate();
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Whether the terms that a term query on the match field compares the input values to are exactly the
+     * doc values of the field.
+     */
+    static boolean supportsHashLookup(@Nullable MappedFieldType fieldType, DataType inputDataType) {
+        if (fieldType == null || fieldType.hasDocValues() == false) {
+            return false;
+        }
+        return switch (inputDataType) {
+            case KEYWORD -> fieldType instanceof KeywordFieldMapper.KeywordFieldType keyword
+                && keyword.hasNormalizer() == false
+                && DataType.KEYWORD.esType().equals(fieldType.typeName());
+            case LONG, INTEGER, IP -> inputDataType.esType().equals(fieldType.typeName());
+            case null, default -> false;
+        };
+    }
+}
@@ -0,0 +1,185 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.expression.predicate.operator.comparison;
+
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.DoubleBlock;
+import org.elasticsearch.compute.data.DoubleVector;
+import org.elasticsearch.compute.data.IntBlock;
+import org.elasticsearch.compute.data.IntVector;
+import org.elasticsearch.compute.data.LongBlock;
+import org.elasticsearch.compute.data.LongVector;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.EvalOperator;
+import org.elasticsearch.core.Releasables;
+import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.EsqlBinaryComparison.BinaryComparisonOperation;
+
+/**
+ * Compares a numeric field to a constant, the usual shape of a {@code WHERE} condition. Dense pages of the field are compared
+ * by a loop per operation and type that reads the vector and writes a {@code boolean[]} without branching, with the constant
+ * hoisted out of the loop, which the JIT can compile to SIMD instructions. Pages with nulls or multivalued fields go through
+ * {@code fallback}, the generated evaluator for the comparison, which evaluates the field again and takes care of the warnings.
+ */
+record CompareToConstantEvaluator(
+    DriverContext driverContext,
+    BinaryComparisonOperation operation,
+    EvalOperator.ExpressionEvaluator field,
+    Number constant,
+    EvalOperator.ExpressionEvaluator fallback
+) implements EvalOperator.ExpressionEvaluator {
+
+    record Factory(
+        BinaryComparisonOperation operation,
+        EvalOperator.ExpressionEvaluator.Factory field,
+        Number constant,
+        EvalOperator.ExpressionEvaluator.Factory fallback
+    ) implements EvalOperator.ExpressionEvaluator.Factory {
+        @Override
+        public EvalOperator.ExpressionEvaluator get(DriverContext context) {
+            return new CompareToConstantEvaluator(context, operation, field.get(context), constant, fallback.get(context));
+        }
+
+        @Override
+        public String toString() {
+            return "CompareToConstantEvaluator[operation=" + operation + ", field=" + field + ", constant=" + constant + ']';
+        }
+    }
+
+    @Override
+    public Block eval(Page page) {
+        try (Block fieldBlock = field.eval(page)) {
+            if (fieldBlock.asVector() == null) {
+                return fallback.eval(page);
+            }
+            boolean[] result = new boolean[page.getPositionCount()];
+            switch (fieldBlock.elementType()) {
+                case INT -> compareInts(operation, ((IntBlock) fieldBlock).asVector(), constant.intValue(), result);
+                case LONG -> compareLongs(operation, ((LongBlock) fieldBlock).asVector(), constant.longValue(), result);
+                case DOUBLE -> compareDoubles(operation, ((DoubleBlock) fieldBlock).asVector(), constant.doubleValue(), result);
+                default -> throw new IllegalArgumentException("unsupported element type [" + fieldBlock.elementType() + "]");
+            }
+            return driverContext.blockFactory().newBooleanArrayVector(result, result.length).asBlock();
+        }
+    }
+
+    static void compareInts(BinaryComparisonOperation operation, IntVector v, int c, boolean[] result) {
+        switch (operation) {
+            case EQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) == c;
+                }
+            }
+            case NEQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) != c;
+                }
+            }
+            case GT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) > c;
+                }
+            }
+            case GTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) >= c;
+                }
+            }
+            case LT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) < c;
+                }
+            }
+            case LTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getInt(p) <= c;
+                }
+            }
+        }
+    }
+
+    static void compareLongs(BinaryComparisonOperation operation, LongVector v, long c, boolean[] result) {
+        switch (operation) {
+            case EQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) == c;
+                }
+            }
+            case NEQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) != c;
+                }
+            }
+            case GT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) > c;
+                }
+            }
+            case GTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) >= c;
+                }
+            }
+            case LT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) < c;
+                }
+            }
+            case LTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getLong(p) <= c;
+                }
+            }
+        }
+    }
+
+    static void compareDoubles(BinaryComparisonOperation operation, DoubleVector v, double c, boolean[] result) {
+        switch (operation) {
+            case EQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) == c;
+                }
+            }
+            case NEQ -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) != c;
+                }
+            }
+            case GT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) > c;
+                }
+            }
+            case GTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) >= c;
+                }
+            }
+            case LT -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) < c;
+                }
+            }
+            case LTE -> {
+                for (int p = 0; p < result.length; p++) {
+                    result[p] = v.getDouble(p) <= c;
+                }
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        Releasables.closeExpectNoException(field, fallback);
+    }
+
+    @Override
+    public String toString() {
+        return "CompareToConstantEvaluator[operation=" + operation + ", field=" + field + ", constant=" + constant + ']';
+    }
+}
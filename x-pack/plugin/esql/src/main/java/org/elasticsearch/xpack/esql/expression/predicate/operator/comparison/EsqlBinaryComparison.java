@@ -18,6 +18,7 @@ import org.elasticsearch.logging.Logger;
 import org.elasticsearch.xpack.esql.EsqlIllegalArgumentException;
 import org.elasticsearch.xpack.esql.capabilities.TranslationAware;
 import org.elasticsearch.xpack.esql.core.QlIllegalArgumentException;
+import org.elasticsearch.xpack.esql.core.expression.Attribute;
 import org.elasticsearch.xpack.esql.core.expression.Expression;
 import org.elasticsearch.xpack.esql.core.expression.Expressions;
 import org.elasticsearch.xpack.esql.core.expression.FieldAttribute;
@@ -241,7 +242,16 @@ public abstract class EsqlBinaryComparison extends BinaryComparison
         if (evaluatorMap.containsKey(commonType) == false) {
             throw new EsqlIllegalArgumentException("Unsupported type " + left().dataType());
         }
-        return evaluatorMap.get(commonType).apply(source(), lhs, rhs);
+        EvalOperator.ExpressionEvaluator.Factory evaluator = evaluatorMap.get(commonType).apply(source(), lhs, rhs);
+        if (left() instanceof Attribute
+            && left().dataType() == commonType
+            && (commonType == DataType.INTEGER || commonType == DataType.LONG || commonType == DataType.DOUBLE)
+            && right().foldable()
+            && valueOf(toEvaluator.foldCtx(), right()) instanceof Number constant) {
+            // literals are moved to the right by LiteralsOnTheRight, so this is what comparisons to a constant look like
+            return new CompareToConstantEvaluator.Factory(functionType, toEvaluator.apply(left()), constant, evaluator);
+        }
+        return evaluator;
     }
 
     @Override
@@ -17,14 +17,20 @@ import org.elasticsearch.xpack.esql.core.expression.AttributeMap;
 import org.elasticsearch.xpack.esql.core.expression.Expression;
 import org.elasticsearch.xpack.esql.core.expression.FieldAttribute;
 import org.elasticsearch.xpack.esql.core.expression.NamedExpression;
+import org.elasticsearch.xpack.esql.core.type.DataType;
+import org.elasticsearch.xpack.esql.core.type.MultiTypeEsField;
 import org.elasticsearch.xpack.esql.core.util.Queries;
 import org.elasticsearch.xpack.esql.core.util.StringUtils;
+import org.elasticsearch.xpack.esql.expression.function.aggregate.AggregateFunction;
 import org.elasticsearch.xpack.esql.expression.function.aggregate.Count;
+import org.elasticsearch.xpack.esql.expression.function.aggregate.Max;
+import org.elasticsearch.xpack.esql.expression.function.aggregate.Min;
 import org.elasticsearch.xpack.esql.optimizer.LocalPhysicalOptimizerContext;
 import org.elasticsearch.xpack.esql.optimizer.PhysicalOptimizerRules;
 import org.elasticsearch.xpack.esql.plan.physical.AggregateExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec;
+import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec.StatsType;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
 import org.elasticsearch.xpack.esql.planner.AbstractPhysicalOperationProviders;
 
@@ -36,6 +42,8 @@ import static java.util.Collections.emptyList;
 import static java.util.Collections.singletonList;
 import static org.elasticsearch.xpack.esql.capabilities.TranslationAware.translatable;
 import static org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec.StatsType.COUNT;
+import static org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec.StatsType.MAX;
+import static org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec.StatsType.MIN;
 import static org.elasticsearch.xpack.esql.planner.TranslatorHandler.TRANSLATOR_HANDLER;
 
 /**
@@ -119,6 +127,10 @@ public class PushStatsToSource extends PhysicalOptimizerRules.ParameterizedOptim
                                 }
                                 return new EsStatsQueryExec.Stat(fieldName, COUNT, query);
                             }
+                        } else if (child instanceof Min min) {
+                            return minMaxStat(min, MIN, context);
+                        } else if (child instanceof Max max) {
+                            return minMaxStat(max, MAX, context);
                         }
                     }
                     return null;
@@ -140,4 +152,24 @@ public class PushStatsToSource extends PhysicalOptimizerRules.ParameterizedOptim
 
         return tuple;
     }
+
+    /**
+     * {@code MIN} and {@code MAX} of integer, long and date fields can be read from the points or the doc values
+     * of each segment. Other numeric types are widened when mapped, so we can't tell how they're encoded.
+     */
+    private static EsStatsQueryExec.Stat minMaxStat(AggregateFunction agg, StatsType type, LocalPhysicalOptimizerContext context) {
+        if (agg.hasFilter() || agg.field() instanceof FieldAttribute fa == false) {
+            return null;
+        }
+        if (fa.field().isAlias() || fa.field() instanceof MultiTypeEsField) {
+            return null;
+        }
+        if (fa.dataType() != DataType.INTEGER && fa.dataType() != DataType.LONG && fa.dataType() != DataType.DATETIME) {
+            return null;
+        }
+        if (context.searchStats().hasDocValues(fa.fieldName()) == false) {
+            return null;
+        }
+        return new EsStatsQueryExec.Stat(fa.fieldName().string(), type, null);
+    }
 }
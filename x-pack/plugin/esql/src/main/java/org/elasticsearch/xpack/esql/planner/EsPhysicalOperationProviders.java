@@ -20,6 +20,8 @@ import org.elasticsearch.compute.aggregation.blockhash.BlockHash;
 import org.elasticsearch.compute.data.ElementType;
 import org.elasticsearch.compute.lucene.DataPartitioning;
 import org.elasticsearch.compute.lucene.LuceneCountOperator;
+import org.elasticsearch.compute.lucene.LuceneMaxFactory;
+import org.elasticsearch.compute.lucene.LuceneMinFactory;
 import org.elasticsearch.compute.lucene.LuceneOperator;
 import org.elasticsearch.compute.lucene.LuceneSliceQueue;
 import org.elasticsearch.compute.lucene.LuceneSourceOperator;
@@ -52,6 +54,7 @@ import org.elasticsearch.search.internal.AliasFilter;
 import org.elasticsearch.search.lookup.SearchLookup;
 import org.elasticsearch.search.sort.SortAndFormats;
 import org.elasticsearch.search.sort.SortBuilder;
+import org.elasticsearch.xpack.esql.EsqlIllegalArgumentException;
 import org.elasticsearch.xpack.esql.core.expression.Attribute;
 import org.elasticsearch.xpack.esql.core.expression.Expression;
 import org.elasticsearch.xpack.esql.core.expression.FieldAttribute;
@@ -64,6 +67,7 @@ import org.elasticsearch.xpack.esql.expression.function.scalar.convert.AbstractC
 import org.elasticsearch.xpack.esql.plan.physical.AggregateExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.EsQueryExec.Sort;
+import org.elasticsearch.xpack.esql.plan.physical.EsStatsQueryExec;
 import org.elasticsearch.xpack.esql.plan.physical.FieldExtractExec;
 import org.elasticsearch.xpack.esql.plan.physical.TimeSeriesAggregateExec;
 import org.elasticsearch.xpack.esql.plan.physical.TimeSeriesFieldExtractExec;
@@ -298,6 +302,51 @@ public class EsPhysicalOperationProviders extends AbstractPhysicalOperationProvi
         );
     }
 
+    /**
+     * Build a {@link SourceOperator.SourceOperatorFactory} that finds the min or max value of a numeric field
+     * in the search index, reading it from the points or the doc values instead of loading the values.
+     */
+    public LuceneOperator.Factory minMaxSource(
+        LocalExecutionPlannerContext context,
+        QueryBuilder queryBuilder,
+        Expression limit,
+        EsStatsQueryExec.Stat stat,
+        DataType dataType
+    ) {
+        int limitValue = limit == null ? NO_LIMIT : (Integer) limit.fold(context.foldCtx());
+        DataPartitioning dataPartitioning = context.queryPragmas().dataPartitioning(defaultDataPartitioning);
+        int taskConcurrency = context.queryPragmas().taskConcurrency();
+        return switch (stat.type()) {
+            case MIN -> new LuceneMinFactory(
+                shardContexts,
+                querySupplier(queryBuilder),
+                dataPartitioning,
+                taskConcurrency,
+                stat.name(),
+                switch (dataType) {
+                    case INTEGER -> LuceneMinFactory.NumberType.INTEGER;
+                    case LONG, DATETIME -> LuceneMinFactory.NumberType.LONG;
+                    default -> throw new EsqlIllegalArgumentException("min of [" + dataType + "] can't be read from the index");
+                },
+                limitValue
+            );
+            case MAX -> new LuceneMaxFactory(
+                shardContexts,
+                querySupplier(queryBuilder),
+                dataPartitioning,
+                taskConcurrency,
+                stat.name(),
+                switch (dataType) {
+                    case INTEGER -> LuceneMaxFactory.NumberType.INTEGER;
+                    case LONG, DATETIME -> LuceneMaxFactory.NumberType.LONG;
+                    default -> throw new EsqlIllegalArgumentException("max of [" + dataType + "] can't be read from the index");
+                },
+                limitValue
+            );
+            default -> throw new EsqlIllegalArgumentException("unsupported stat [" + stat.type() + "]");
+        };
+    }
+
     @Override
     public final Operator.OperatorFactory ordinalGroupingOperatorFactory(
         LocalExecutionPlanner.PhysicalOperation source,
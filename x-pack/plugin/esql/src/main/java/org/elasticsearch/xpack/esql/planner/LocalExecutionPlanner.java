@@ -370,7 +370,18 @@ public class LocalExecutionPlanner {
         EsStatsQueryExec.Stat stat = statsQuery.stats().get(0);
 
         EsPhysicalOperationProviders esProvider = (EsPhysicalOperationProviders) physicalOperationProviders;
-        final LuceneOperator.Factory luceneFactory = esProvider.countSource(context, stat.filter(statsQuery.query()), statsQuery.limit());
+        final LuceneOperator.Factory luceneFactory = switch (stat.type()) {
+            case COUNT -> esProvider.countSource(context, stat.filter(statsQuery.query()), statsQuery.limit());
+            // the first attribute is the min or max, the second tracks whether a value was seen
+            case MIN, MAX -> esProvider.minMaxSource(
+                context,
+                stat.filter(statsQuery.query()),
+                statsQuery.limit(),
+                stat,
+                statsQuery.output().get(0).dataType()
+            );
+            default -> throw new EsqlIllegalArgumentException("EsStatsQuery doesn't support [" + stat.type() + "]");
+        };
 
         Layout.Builder layout = new Layout.Builder();
         layout.append(statsQuery.outputSet());
@@ -23,10 +23,12 @@ import org.elasticsearch.compute.operator.Driver;
 import org.elasticsearch.compute.operator.DriverCompletionInfo;
 import org.elasticsearch.compute.operator.DriverTaskRunner;
 import org.elasticsearch.compute.operator.FailureCollector;
+import org.elasticsearch.compute.operator.FairDriverExecutor;
 import org.elasticsearch.compute.operator.exchange.ExchangeService;
 import org.elasticsearch.compute.operator.exchange.ExchangeSink;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkHandler;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceHandler;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
 import org.elasticsearch.core.Releasables;
 import org.elasticsearch.core.Tuple;
@@ -137,6 +139,8 @@ public class ComputeService {
     private final DataNodeComputeHandler dataNodeComputeHandler;
     private final ClusterComputeHandler clusterComputeHandler;
     private final ExchangeService exchangeService;
+    @Nullable
+    private final FairDriverExecutor fairDriverExecutor;
 
     private volatile DataPartitioning defaultDataPartitioning;
 
@@ -156,6 +160,13 @@ public class ComputeService {
         this.blockFactory = blockFactory;
         var esqlExecutor = threadPool.executor(ThreadPool.Names.SEARCH);
         this.driverRunner = new DriverTaskRunner(transportService, esqlExecutor);
+        this.fairDriverExecutor = EsqlPlugin.FAIR_DRIVER_SCHEDULING.get(transportActionServices.clusterService().getSettings())
+            ? new FairDriverExecutor(
+                threadPool.executor(ESQL_WORKER_THREAD_POOL_NAME),
+                threadPool.getThreadContext(),
+                threadPool.info(ESQL_WORKER_THREAD_POOL_NAME).getMax()
+            )
+            : null;
         this.enrichLookupService = enrichLookupService;
         this.lookupFromIndexService = lookupFromIndexService;
         this.inferenceRunner = transportActionServices.inferenceRunner();
@@ -168,7 +179,8 @@ public class ComputeService {
             searchService,
             transportService,
             exchangeService,
-            esqlExecutor
+            esqlExecutor,
+            EsqlPlugin.SHARED_SCAN_WINDOW.get(clusterService.getSettings())
         );
         this.clusterComputeHandler = new ClusterComputeHandler(
             this,
@@ -603,7 +615,9 @@ public class ComputeService {
         driverRunner.executeDrivers(
             task,
             drivers,
-            transportService.getThreadPool().executor(ESQL_WORKER_THREAD_POOL_NAME),
+            fairDriverExecutor != null
+                ? fairDriverExecutor.newQueue()
+                : transportService.getThreadPool().executor(ESQL_WORKER_THREAD_POOL_NAME),
             listenerCollectingStatus
         );
     }
@@ -635,12 +649,24 @@ public class ComputeService {
     }
 
     CancellableTask createGroupTask(Task parentTask, Supplier<String> description) throws TaskCancelledException {
+        return registerGroupTask(parentTask.taskInfo(transportService.getLocalNode().getId(), false).taskId(), description);
+    }
+
+    /**
+     * Creates a task for a computation that is shared by several queries, so it isn't cancelled with any of them.
+     * It must be unregistered once the computation completes.
+     */
+    CancellableTask createSharedTask(Supplier<String> description) {
+        return registerGroupTask(TaskId.EMPTY_TASK_ID, description);
+    }
+
+    private CancellableTask registerGroupTask(TaskId parentTask, Supplier<String> description) {
         final TaskManager taskManager = transportService.getTaskManager();
         try (var ignored = transportService.getThreadPool().getThreadContext().newTraceContext()) {
             return (CancellableTask) taskManager.register(
                 "transport",
                 "esql_compute_group",
-                new ComputeGroupTaskRequest(parentTask.taskInfo(transportService.getLocalNode().getId(), false).taskId(), description)
+                new ComputeGroupTaskRequest(parentTask, description)
             );
         }
     }
@@ -655,7 +681,6 @@ public class ComputeService {
 
         @Override
         public Task createTask(long id, String type, String action, TaskId parentTaskId, Map<String, String> headers) {
-            assert parentTaskId.isSet();
             return new CancellableTask(id, type, action, "", parentTaskId, headers);
         }
 
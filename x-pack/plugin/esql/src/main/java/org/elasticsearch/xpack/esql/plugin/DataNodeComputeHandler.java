@@ -18,13 +18,19 @@ import org.elasticsearch.action.support.RefCountingRunnable;
 import org.elasticsearch.cluster.node.DiscoveryNode;
 import org.elasticsearch.cluster.project.ProjectResolver;
 import org.elasticsearch.cluster.service.ClusterService;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.ConcurrentCollections;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
 import org.elasticsearch.compute.operator.DriverCompletionInfo;
 import org.elasticsearch.compute.operator.exchange.ExchangeService;
 import org.elasticsearch.compute.operator.exchange.ExchangeSink;
 import org.elasticsearch.compute.operator.exchange.ExchangeSinkHandler;
 import org.elasticsearch.compute.operator.exchange.ExchangeSourceHandler;
+import org.elasticsearch.compute.operator.exchange.FanOutExchangeSink;
 import org.elasticsearch.core.IOUtils;
+import org.elasticsearch.core.Nullable;
 import org.elasticsearch.core.Releasable;
+import org.elasticsearch.core.TimeValue;
 import org.elasticsearch.index.Index;
 import org.elasticsearch.index.shard.IndexShard;
 import org.elasticsearch.index.shard.ShardId;
@@ -41,6 +47,9 @@ import org.elasticsearch.transport.TransportChannel;
 import org.elasticsearch.transport.TransportRequestHandler;
 import org.elasticsearch.transport.TransportRequestOptions;
 import org.elasticsearch.transport.TransportService;
+import org.elasticsearch.xpack.core.security.SecurityContext;
+import org.elasticsearch.xpack.core.security.authc.Authentication;
+import org.elasticsearch.xpack.esql.Column;
 import org.elasticsearch.xpack.esql.core.expression.FoldContext;
 import org.elasticsearch.xpack.esql.plan.physical.ExchangeSinkExec;
 import org.elasticsearch.xpack.esql.plan.physical.PhysicalPlan;
@@ -48,9 +57,11 @@ import org.elasticsearch.xpack.esql.planner.PlanConcurrencyCalculator;
 import org.elasticsearch.xpack.esql.planner.PlannerUtils;
 import org.elasticsearch.xpack.esql.session.Configuration;
 
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
@@ -74,6 +85,8 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
     private final ExchangeService exchangeService;
     private final Executor esqlExecutor;
     private final ThreadPool threadPool;
+    @Nullable
+    private final SharedScans<SharedScanKey, SharedScanComputation> sharedScans;
 
     DataNodeComputeHandler(
         ComputeService computeService,
@@ -82,7 +95,8 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         SearchService searchService,
         TransportService transportService,
         ExchangeService exchangeService,
-        Executor esqlExecutor
+        Executor esqlExecutor,
+        TimeValue sharedScanWindow
     ) {
         this.computeService = computeService;
         this.clusterService = clusterService;
@@ -92,6 +106,9 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         this.exchangeService = exchangeService;
         this.esqlExecutor = esqlExecutor;
         this.threadPool = transportService.getThreadPool();
+        this.sharedScans = sharedScanWindow.compareTo(TimeValue.ZERO) > 0
+            ? new SharedScans<>(threadPool, sharedScanWindow, esqlExecutor, this::runSharedScan)
+            : null;
         transportService.registerRequestHandler(ComputeService.DATA_ACTION_NAME, esqlExecutor, DataNodeRequest::new, this);
     }
 
@@ -218,10 +235,16 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         );
     }
 
+    /**
+     * An exchange sink handler that receives the pages of a data node computation, the session it's registered under,
+     * and the listener that waits for its pages to be fetched: the one of the query, or the one of the shared scan.
+     */
+    private record ComputeSink(String sessionId, ExchangeSinkHandler handler, ComputeListener computeListener) {}
+
     private class DataNodeRequestExecutor {
         private final DataNodeRequest request;
         private final CancellableTask parentTask;
-        private final ExchangeSinkHandler exchangeSink;
+        private final List<ComputeSink> sinks;
         private final ComputeListener computeListener;
         private final int maxConcurrentShards;
         private final ExchangeSink blockingSink; // block until we have completed on all shards or the coordinator has enough data
@@ -231,7 +254,7 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         DataNodeRequestExecutor(
             DataNodeRequest request,
             CancellableTask parentTask,
-            ExchangeSinkHandler exchangeSink,
+            List<ComputeSink> sinks,
             int maxConcurrentShards,
             boolean failFastOnShardFailure,
             Map<ShardId, Exception> shardLevelFailures,
@@ -239,18 +262,44 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         ) {
             this.request = request;
             this.parentTask = parentTask;
-            this.exchangeSink = exchangeSink;
+            this.sinks = sinks;
             this.computeListener = computeListener;
             this.maxConcurrentShards = maxConcurrentShards;
             this.failFastOnShardFailure = failFastOnShardFailure;
             this.shardLevelFailures = shardLevelFailures;
-            this.blockingSink = exchangeSink.createExchangeSink(() -> {});
+            this.blockingSink = createExchangeSink(() -> {});
         }
 
         void start() {
             runBatch(0);
         }
 
+        private ExchangeSink createExchangeSink(Runnable onPageFetched) {
+            if (sinks.size() == 1) {
+                return sinks.get(0).handler().createExchangeSink(onPageFetched);
+            }
+            List<ExchangeSink> fanOut = new ArrayList<>(sinks.size());
+            for (ComputeSink sink : sinks) {
+                fanOut.add(sink.handler().createExchangeSink(onPageFetched));
+            }
+            return new FanOutExchangeSink(fanOut);
+        }
+
+        private boolean sinksFinished() {
+            for (ComputeSink sink : sinks) {
+                if (sink.handler().isFinished() == false) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void finishSinks(Exception e) {
+            for (ComputeSink sink : sinks) {
+                exchangeService.finishSinkHandler(sink.sessionId(), e);
+            }
+        }
+
         private void runBatch(int startBatchIndex) {
             final Configuration configuration = request.configuration();
             final String clusterAlias = request.clusterAlias();
@@ -280,7 +329,7 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
                     } else {
                         // TODO: add these to fatal failures so we can continue processing other shards.
                         try {
-                            exchangeService.finishSinkHandler(request.sessionId(), e);
+                            finishSinks(e);
                         } finally {
                             ref.onFailure(e);
                         }
@@ -301,7 +350,7 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
                     configuration,
                     configuration.newFoldContext(),
                     null,
-                    () -> exchangeSink.createExchangeSink(pagesProduced::incrementAndGet)
+                    () -> createExchangeSink(pagesProduced::incrementAndGet)
                 );
                 computeService.runCompute(parentTask, computeContext, request.plan(), batchListener);
             }, batchListener::onFailure));
@@ -376,14 +425,17 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         }
 
         private void onBatchCompleted(int lastBatchIndex) {
-            if (lastBatchIndex < request.shardIds().size() && exchangeSink.isFinished() == false) {
+            if (lastBatchIndex < request.shardIds().size() && sinksFinished() == false) {
                 runBatch(lastBatchIndex);
             } else {
                 // don't return until all pages are fetched
-                var completionListener = computeListener.acquireAvoid();
-                exchangeSink.addCompletionListener(
-                    ActionListener.runAfter(completionListener, () -> exchangeService.finishSinkHandler(request.sessionId(), null))
-                );
+                for (ComputeSink sink : sinks) {
+                    var completionListener = sink.computeListener().acquireAvoid();
+                    sink.handler()
+                        .addCompletionListener(
+                            ActionListener.runAfter(completionListener, () -> exchangeService.finishSinkHandler(sink.sessionId(), null))
+                        );
+                }
                 blockingSink.finish();
             }
         }
@@ -422,16 +474,31 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
                     exchangeService.finishSinkHandler(externalId, new TaskCancelledException(task.getReasonCancelled()));
                     exchangeService.finishSinkHandler(request.sessionId(), new TaskCancelledException(task.getReasonCancelled()));
                 });
-                DataNodeRequestExecutor dataNodeRequestExecutor = new DataNodeRequestExecutor(
-                    request,
-                    task,
-                    internalSink,
-                    request.configuration().pragmas().maxConcurrentShardsPerNode(),
-                    failFastOnShardFailure,
-                    shardLevelFailures,
-                    computeListener
-                );
-                dataNodeRequestExecutor.start();
+                var computeSink = new ComputeSink(request.sessionId(), internalSink, computeListener);
+                if (sharedScans != null && request.configuration().profile() == false) {
+                    sharedScans.join(
+                        sharedScanKey(request, failFastOnShardFailure, threadPool.getThreadContext()),
+                        new SharedScanComputation(
+                            request,
+                            task,
+                            computeSink,
+                            failFastOnShardFailure,
+                            shardLevelFailures,
+                            computeListener.acquireCompute()
+                        )
+                    );
+                } else {
+                    DataNodeRequestExecutor dataNodeRequestExecutor = new DataNodeRequestExecutor(
+                        request,
+                        task,
+                        List.of(computeSink),
+                        request.configuration().pragmas().maxConcurrentShardsPerNode(),
+                        failFastOnShardFailure,
+                        shardLevelFailures,
+                        computeListener
+                    );
+                    dataNodeRequestExecutor.start();
+                }
                 // run the node-level reduction
                 var exchangeSource = new ExchangeSourceHandler(1, esqlExecutor);
                 exchangeSource.addRemoteSink(internalSink::fetchPageAsync, true, () -> {}, 1, ActionListener.noop());
@@ -469,6 +536,124 @@ final class DataNodeComputeHandler implements TransportRequestHandler<DataNodeRe
         }
     }
 
+    /**
+     * Computations only share a scan if they compute the same pages: the same plan over the same shards, with the same
+     * settings for the local planning, and for the same user, as the scan runs with the document and field level
+     * security of the first one.
+     */
+    record SharedScanKey(
+        PhysicalPlan plan,
+        String clusterAlias,
+        List<ShardId> shardIds,
+        Map<Index, AliasFilter> aliasFilters,
+        QueryPragmas pragmas,
+        ZoneId zoneId,
+        Locale locale,
+        Map<String, Map<String, Column>> tables,
+        boolean failFastOnShardFailure,
+        @Nullable Authentication authentication
+    ) {}
+
+    private record SharedScanComputation(
+        DataNodeRequest request,
+        CancellableTask task,
+        ComputeSink sink,
+        boolean failFastOnShardFailure,
+        Map<ShardId, Exception> shardLevelFailures,
+        ActionListener<DriverCompletionInfo> listener
+    ) {}
+
+    static SharedScanKey sharedScanKey(DataNodeRequest request, boolean failFastOnShardFailure, ThreadContext threadContext) {
+        Configuration configuration = request.configuration();
+        return new SharedScanKey(
+            request.plan(),
+            request.clusterAlias(),
+            request.shardIds(),
+            request.aliasFilters(),
+            configuration.pragmas(),
+            configuration.zoneId(),
+            configuration.locale(),
+            configuration.tables(),
+            failFastOnShardFailure,
+            new SecurityContext(Settings.EMPTY, threadContext).getAuthentication()
+        );
+    }
+
+    /**
+     * Runs the computations of a {@link SharedScans} group. A single computation runs on its own. Several ones run the
+     * data node plan once, under a task of their own so that cancelling one of the queries doesn't fail the others, and
+     * each receives a copy of its pages to reduce them. Each query is released as soon as its own sink completes, and
+     * the scan stops early once none of the queries needs more pages.
+     */
+    private void runSharedScan(List<SharedScanComputation> computations) {
+        final SharedScanComputation first = computations.get(0);
+        final int maxConcurrentShards = first.request().configuration().pragmas().maxConcurrentShardsPerNode();
+        if (computations.size() == 1) {
+            new DataNodeRequestExecutor(
+                first.request(),
+                first.task(),
+                List.of(first.sink()),
+                maxConcurrentShards,
+                first.failFastOnShardFailure(),
+                first.shardLevelFailures(),
+                first.sink().computeListener()
+            ).start();
+            first.listener().onResponse(DriverCompletionInfo.EMPTY);
+            return;
+        }
+        final CancellableTask scanTask = computeService.createSharedTask(
+            () -> "shared scan: " + computations.size() + " queries on " + first.request().shardIds()
+        );
+        final Map<ShardId, Exception> shardLevelFailures = ConcurrentCollections.newConcurrentMap();
+        final List<ActionListener<DriverCompletionInfo>> queryListeners = new ArrayList<>(computations.size());
+        for (SharedScanComputation computation : computations) {
+            final var queryListener = ActionListener.notifyOnce(
+                ActionListener.runBefore(computation.listener(), () -> computation.shardLevelFailures().putAll(shardLevelFailures))
+            );
+            queryListeners.add(queryListener);
+            // release the query once it fetched all the pages it needs, it doesn't have to wait for the others
+            computation.sink()
+                .handler()
+                .addCompletionListener(
+                    ActionListener.runAfter(
+                        queryListener.map(ignored -> DriverCompletionInfo.EMPTY),
+                        () -> exchangeService.finishSinkHandler(computation.sink().sessionId(), null)
+                    )
+                );
+        }
+        final ActionListener<DriverCompletionInfo> listener = ActionListener.runAfter(new ActionListener<>() {
+            @Override
+            public void onResponse(DriverCompletionInfo info) {
+                for (ActionListener<DriverCompletionInfo> queryListener : queryListeners) {
+                    queryListener.onResponse(info);
+                }
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                for (ActionListener<DriverCompletionInfo> queryListener : queryListeners) {
+                    queryListener.onFailure(e);
+                }
+            }
+        }, () -> transportService.getTaskManager().unregister(scanTask));
+        try (var computeListener = new ComputeListener(threadPool, computeService.cancelQueryOnFailure(scanTask), listener)) {
+            // the scan waits for the pages of all queries to be fetched under its own listener
+            final List<ComputeSink> sinks = new ArrayList<>(computations.size());
+            for (SharedScanComputation computation : computations) {
+                sinks.add(new ComputeSink(computation.sink().sessionId(), computation.sink().handler(), computeListener));
+            }
+            new DataNodeRequestExecutor(
+                first.request(),
+                scanTask,
+                sinks,
+                maxConcurrentShards,
+                first.failFastOnShardFailure(),
+                shardLevelFailures,
+                computeListener
+            ).start();
+        }
+    }
+
     @Override
     public void messageReceived(DataNodeRequest request, TransportChannel channel, Task task) {
         final ActionListener<DataNodeComputeResponse> listener = new ChannelActionListener<>(channel);
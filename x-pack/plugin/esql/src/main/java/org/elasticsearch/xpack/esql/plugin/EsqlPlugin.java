@@ -164,6 +164,63 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
         Setting.Property.Dynamic
     );
 
+    /**
+     * The maximum total number of mapped fields of the optimized plans each node caches to skip analysis and optimization of
+     * repeated queries. Each plan counts the fields of the mappings it was built from, plus one. {@code 0} disables the cache.
+     */
+    public static final Setting<Integer> PLAN_CACHE_MAX_FIELDS = Setting.intSetting(
+        "esql.plan_cache.max_fields",
+        100_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * Whether the queries running drivers on a node share the threads of the {@code esql_worker} pool fairly, rather than
+     * in the order their drivers are scheduled.
+     */
+    public static final Setting<Boolean> FAIR_DRIVER_SCHEDULING = Setting.boolSetting(
+        "esql.fair_driver_scheduling",
+        true,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * How long the computation of a query on a data node waits for computations of other queries with the same plan
+     * over the same shards, such as the panels of a dashboard, to share a single scan of the shards with them. Only
+     * computations whose plan already ran on the same shards within that window wait, others run right away. Each
+     * query still reduces and returns the pages of the shared scan on its own. Date math in the request filter of
+     * the queries that join a scan is resolved against the start time of the first one. {@code 0} disables sharing.
+     */
+    public static final Setting<TimeValue> SHARED_SCAN_WINDOW = Setting.timeSetting(
+        "esql.shared_scan_window",
+        TimeValue.ZERO,
+        TimeValue.ZERO,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The maximum number of documents of a lookup index for {@code LOOKUP JOIN} to load the lookup index into a
+     * hash table, shared by all the joins against it until it refreshes, rather than running a query per input row.
+     * {@code 0} disables hash lookups.
+     */
+    public static final Setting<Integer> LOOKUP_HASH_JOIN_MAX_DOCS = Setting.intSetting(
+        "esql.lookup.hash_join.max_docs",
+        100_000,
+        0,
+        Setting.Property.NodeScope
+    );
+
+    /**
+     * The maximum memory of the hash tables that {@code LOOKUP JOIN} keeps on a node. The least recently used tables
+     * are released once the tables use more.
+     */
+    public static final Setting<ByteSizeValue> LOOKUP_HASH_JOIN_CACHE_SIZE = Setting.memorySizeSetting(
+        "esql.lookup.hash_join.cache_size",
+        "1%",
+        Setting.Property.NodeScope
+    );
+
     /**
      * Tuning parameter for deciding when to use the "merge" stored field loader.
      * Think of it as "how similar to a sequential block of documents do I have to
@@ -204,7 +261,8 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
                 new IndexResolver(services.client()),
                 services.telemetryProvider().getMeterRegistry(),
                 getLicenseState(),
-                new EsqlQueryLog(services.clusterService().getClusterSettings(), services.slowLogFieldProvider())
+                new EsqlQueryLog(services.clusterService().getClusterSettings(), services.slowLogFieldProvider()),
+                PLAN_CACHE_MAX_FIELDS.get(settings)
             ),
             new ExchangeService(
                 services.clusterService().getSettings(),
@@ -251,7 +309,12 @@ public class EsqlPlugin extends Plugin implements ActionPlugin {
             ESQL_QUERYLOG_THRESHOLD_WARN_SETTING,
             ESQL_QUERYLOG_INCLUDE_USER_SETTING,
             DEFAULT_DATA_PARTITIONING,
-            STORED_FIELDS_SEQUENTIAL_PROPORTION
+            STORED_FIELDS_SEQUENTIAL_PROPORTION,
+            LOOKUP_HASH_JOIN_MAX_DOCS,
+            LOOKUP_HASH_JOIN_CACHE_SIZE,
+            PLAN_CACHE_MAX_FIELDS,
+            FAIR_DRIVER_SCHEDULING,
+            SHARED_SCAN_WINDOW
         );
     }
 
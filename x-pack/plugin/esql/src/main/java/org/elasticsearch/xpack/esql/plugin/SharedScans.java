@@ -0,0 +1,104 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.plugin;
+
+import org.elasticsearch.common.util.concurrent.AbstractRunnable;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.threadpool.ThreadPool;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * Groups the computations of concurrent queries that can share a single scan of their shards on a data node.
+ * A computation whose key didn't run within the last window runs right away, on its own, so that queries that
+ * are not repeated never wait. A computation whose key did run within the last window opens a group and waits
+ * for the window to elapse, then the group runs with all the computations with the same key that joined it in
+ * the meantime. Computations arriving after that open a new group, as long as the key keeps being seen.
+ *
+ * @see EsqlPlugin#SHARED_SCAN_WINDOW
+ */
+final class SharedScans<K, T> {
+    private final ThreadPool threadPool;
+    private final TimeValue window;
+    private final Executor executor;
+    private final Consumer<List<T>> run;
+    private final Map<K, List<T>> open = new HashMap<>();
+    /**
+     * The keys that ran within the last window, and when they last did, in milliseconds.
+     */
+    private final Map<K, Long> recent = new HashMap<>();
+
+    /**
+     * @param run called on the executor with the computations of each group, in the order they joined, or on the
+     *            calling thread with a computation that runs on its own. It must notify the computations of any
+     *            failure itself.
+     */
+    SharedScans(ThreadPool threadPool, TimeValue window, Executor executor, Consumer<List<T>> run) {
+        this.threadPool = threadPool;
+        this.window = window;
+        this.executor = executor;
+        this.run = run;
+    }
+
+    void join(K key, T computation) {
+        final long now = threadPool.rawRelativeTimeInMillis();
+        final boolean repeated;
+        synchronized (open) {
+            List<T> group = open.get(key);
+            if (group != null) {
+                group.add(computation);
+                return;
+            }
+            recent.values().removeIf(lastRun -> now - lastRun >= window.millis());
+            repeated = recent.putIfAbsent(key, now) != null;
+            if (repeated) {
+                group = new ArrayList<>();
+                group.add(computation);
+                open.put(key, group);
+            }
+        }
+        if (repeated == false) {
+            run.accept(List.of(computation));
+            return;
+        }
+        threadPool.schedule(new AbstractRunnable() {
+            @Override
+            protected void doRun() {
+                final List<T> group;
+                synchronized (open) {
+                    group = open.remove(key);
+                    recent.put(key, threadPool.rawRelativeTimeInMillis());
+                }
+                run.accept(group);
+            }
+
+            @Override
+            public void onFailure(Exception e) {
+                assert false : e;
+                throw new IllegalStateException("failed to run shared scan", e);
+            }
+
+            @Override
+            public boolean isForceExecution() {
+                // the computations of the group are waiting for it
+                return true;
+            }
+        }, window, executor);
+    }
+
+    int openGroups() {
+        synchronized (open) {
+            return open.size();
+        }
+    }
+}
@@ -136,6 +136,16 @@ public class EsqlSession {
     private final IndicesExpressionGrouper indicesExpressionGrouper;
     private Set<String> configuredClusters;
     private final InferenceRunner inferenceRunner;
+    private final PlanCache planCache;
+    /**
+     * The request being executed, {@code null} when the plan cache must not be used.
+     */
+    private EsqlQueryRequest request;
+    /**
+     * Where to cache the plan once it is optimized, {@code null} if it must not be cached.
+     */
+    private PlanCache.Key planCacheKey;
+    private LogicalPlan planCacheAnalyzedPlan;
 
     public EsqlSession(
         String sessionId,
@@ -149,7 +159,8 @@ public class EsqlSession {
         Verifier verifier,
         PlanTelemetry planTelemetry,
         IndicesExpressionGrouper indicesExpressionGrouper,
-        TransportActionServices services
+        TransportActionServices services,
+        PlanCache planCache
     ) {
         this.sessionId = sessionId;
         this.configuration = configuration;
@@ -165,6 +176,7 @@ public class EsqlSession {
         this.indicesExpressionGrouper = indicesExpressionGrouper;
         this.inferenceRunner = services.inferenceRunner();
         this.preMapper = new PreMapper(services);
+        this.planCache = planCache;
     }
 
     public String sessionId() {
@@ -177,6 +189,7 @@ public class EsqlSession {
     public void execute(EsqlQueryRequest request, EsqlExecutionInfo executionInfo, PlanRunner planRunner, ActionListener<Result> listener) {
         assert executionInfo != null : "Null EsqlExecutionInfo";
         LOGGER.debug("ESQL query:\n{}", request.query());
+        this.request = request;
         analyzedPlan(
             parse(request.query(), request.params()),
             executionInfo,
@@ -184,10 +197,15 @@ public class EsqlSession {
             new EsqlCCSUtils.CssPartialErrorsActionListener(executionInfo, listener) {
                 @Override
                 public void onResponse(LogicalPlan analyzedPlan) {
+                    if (analyzedPlan.optimized()) {
+                        // found in the plan cache
+                        ActionListener.run(listener, l -> executeOptimizedPlan(request, executionInfo, planRunner, analyzedPlan, l));
+                        return;
+                    }
                     preMapper.preMapper(
                         analyzedPlan,
                         listener.delegateFailureAndWrap(
-                            (l, p) -> executeOptimizedPlan(request, executionInfo, planRunner, optimizedPlan(p), l)
+                            (l, p) -> executeOptimizedPlan(request, executionInfo, planRunner, maybeCachePlan(optimizedPlan(p)), l)
                         )
                     );
                 }
@@ -322,8 +340,17 @@ public class EsqlSession {
                 new AnalyzerContext(configuration, functionRegistry, l.indices, l.lookupIndices, l.enrichResolution, l.inferenceResolution),
                 verifier
             );
+            PlanCache.Key cacheKey = request == null ? null : planCache.key(request, configuration, l);
+            PlanCache.Entry cached = cacheKey == null ? null : planCache.get(cacheKey);
+            if (cached != null) {
+                LOGGER.debug("Using the cached plan");
+                analyzer.verifyAnalyzed(parsed, cached.analyzed());
+                return cached.optimized();
+            }
             LogicalPlan plan = analyzer.analyze(parsed);
             plan.setAnalyzed();
+            planCacheKey = cacheKey;
+            planCacheAnalyzedPlan = plan;
             return plan;
         };
         // Capture configured remotes list to ensure consistency throughout the session
@@ -778,6 +805,13 @@ public class EsqlSession {
         return EstimatesRowSize.estimateRowSize(0, physicalPlan);
     }
 
+    private LogicalPlan maybeCachePlan(LogicalPlan optimizedPlan) {
+        if (planCacheKey != null) {
+            planCache.put(planCacheKey, planCacheAnalyzedPlan, optimizedPlan);
+        }
+        return optimizedPlan;
+    }
+
     public LogicalPlan optimizedPlan(LogicalPlan logicalPlan) {
         if (logicalPlan.analyzed() == false) {
             throw new IllegalStateException("Expected analyzed plan");
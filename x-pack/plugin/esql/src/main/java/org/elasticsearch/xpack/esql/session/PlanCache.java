@@ -0,0 +1,176 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.session;
+
+import org.elasticsearch.common.cache.Cache;
+import org.elasticsearch.common.cache.CacheBuilder;
+import org.elasticsearch.core.Nullable;
+import org.elasticsearch.xpack.esql.action.EsqlQueryRequest;
+import org.elasticsearch.xpack.esql.analysis.EnrichResolution;
+import org.elasticsearch.xpack.esql.core.expression.Expression;
+import org.elasticsearch.xpack.esql.core.type.EsField;
+import org.elasticsearch.xpack.esql.core.util.Holder;
+import org.elasticsearch.xpack.esql.enrich.ResolvedEnrichPolicy;
+import org.elasticsearch.xpack.esql.expression.function.fulltext.FullTextFunction;
+import org.elasticsearch.xpack.esql.expression.function.scalar.EsqlConfigurationFunction;
+import org.elasticsearch.xpack.esql.index.IndexResolution;
+import org.elasticsearch.xpack.esql.parser.QueryParam;
+import org.elasticsearch.xpack.esql.parser.QueryParams;
+import org.elasticsearch.xpack.esql.plan.logical.LogicalPlan;
+import org.elasticsearch.xpack.esql.plan.logical.inference.InferencePlan;
+import org.elasticsearch.xpack.esql.plan.logical.local.LocalRelation;
+import org.elasticsearch.xpack.esql.telemetry.Metrics;
+
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Node level cache of the optimized logical plans of the queries run by {@link EsqlSession}, so that repeated queries
+ * skip the analysis and the logical optimization.
+ * <p>
+ *     Plans are keyed on the query text and parameters, the parts of the {@link Configuration} that analysis and logical
+ *     optimization depend on, and the resolution of the indices, lookup indices and enrich policies. The resolutions
+ *     still run for every query: they are the mappings the plan was built from, so a mapping change, or a user who
+ *     can see different fields, changes the key. Entries for stale mappings are evicted as the cache fills up.
+ * </p>
+ * <p>
+ *     Both the key and the analyzed plan grow with the mappings, so the cache is bounded by the number of mapped
+ *     fields of the cached entries rather than by their count. Each entry weighs one plus the number of fields of
+ *     the indices, lookup indices and enrich policies it was resolved against.
+ * </p>
+ * <p>
+ *     Only plans that don't depend on the time of the query ({@code NOW()}), on the data of the indices (full text
+ *     functions are rewritten against the indices before optimization), on external services (inference) or that
+ *     carry data ({@link LocalRelation}s) are cached.
+ * </p>
+ */
+public class PlanCache {
+    private final Cache<Key, Entry> cache;
+    private final Metrics metrics;
+
+    /**
+     * @param maxFields the maximum total weight of the cached plans, see {@link #weight}, {@code 0} disables the cache
+     */
+    public PlanCache(int maxFields, Metrics metrics) {
+        this.cache = maxFields > 0
+            ? CacheBuilder.<Key, Entry>builder().setMaximumWeight(maxFields).weigher((key, entry) -> weight(key)).build()
+            : null;
+        this.metrics = metrics;
+    }
+
+    /**
+     * The key of the plan of the query, or {@code null} if its plan can't be cached.
+     */
+    @Nullable
+    Key key(EsqlQueryRequest request, Configuration configuration, EsqlSession.PreAnalysisResult result) {
+        if (cache == null || configuration.tables().isEmpty() == false) {
+            return null;
+        }
+        QueryParams params = request.params();
+        List<QueryParam> paramValues = new ArrayList<>(params.size());
+        for (int i = 1; i <= params.size(); i++) {
+            paramValues.add(params.get(i));
+        }
+        return new Key(
+            request.query(),
+            paramValues,
+            configuration.zoneId(),
+            configuration.locale(),
+            configuration.resultTruncationDefaultSize(),
+            configuration.resultTruncationMaxSize(),
+            result.indices(),
+            Map.copyOf(result.lookupIndices()),
+            result.enrichResolution()
+        );
+    }
+
+    @Nullable
+    Entry get(Key key) {
+        Entry entry = cache.get(key);
+        if (entry == null) {
+            metrics.planCacheMiss();
+        } else {
+            metrics.planCacheHit();
+        }
+        return entry;
+    }
+
+    void put(Key key, LogicalPlan analyzed, LogicalPlan optimized) {
+        if (isCacheable(analyzed) && isCacheable(optimized)) {
+            cache.put(key, new Entry(analyzed, optimized));
+        }
+    }
+
+    /**
+     * The number of cached plans.
+     */
+    public int count() {
+        return cache == null ? 0 : cache.count();
+    }
+
+    static long weight(Key key) {
+        long fields = 1 + fieldCount(key.indices());
+        for (IndexResolution lookupIndex : key.lookupIndices().values()) {
+            fields += fieldCount(lookupIndex);
+        }
+        for (ResolvedEnrichPolicy policy : key.enrichResolution().resolvedEnrichPolicies()) {
+            fields += fieldCount(policy.mapping());
+        }
+        return fields;
+    }
+
+    private static long fieldCount(IndexResolution resolution) {
+        return resolution.isValid() ? fieldCount(resolution.get().mapping()) : 0;
+    }
+
+    private static long fieldCount(Map<String, EsField> mapping) {
+        long count = mapping.size();
+        for (EsField field : mapping.values()) {
+            count += fieldCount(field.getProperties());
+        }
+        return count;
+    }
+
+    static boolean isCacheable(LogicalPlan plan) {
+        if (plan.anyMatch(p -> p instanceof LocalRelation || p instanceof InferencePlan<?>)) {
+            return false;
+        }
+        Holder<Boolean> cacheable = new Holder<>(true);
+        plan.forEachExpressionDown(Expression.class, e -> {
+            if (e instanceof EsqlConfigurationFunction || e instanceof FullTextFunction) {
+                cacheable.set(false);
+            }
+        });
+        return cacheable.get();
+    }
+
+    /**
+     * The parameters are keyed by their names, values and types in the order of the request rather than as
+     * {@link QueryParams}, which also holds the tokens of the parsed query.
+     */
+    record Key(
+        String query,
+        List<QueryParam> params,
+        ZoneId zoneId,
+        Locale locale,
+        int resultTruncationDefaultSize,
+        int resultTruncationMaxSize,
+        IndexResolution indices,
+        Map<String, IndexResolution> lookupIndices,
+        EnrichResolution enrichResolution
+    ) {}
+
+    /**
+     * A cached plan. The analyzed plan is kept to verify it again for every query that uses the cached plan, which
+     * checks the license and collects the telemetry of the query.
+     */
+    record Entry(LogicalPlan analyzed, LogicalPlan optimized) {}
+}
@@ -39,6 +39,7 @@ public class Metrics {
     protected static final String FEATURES_PREFIX = "features.";
     protected static final String FUNC_PREFIX = "functions.";
     protected static final String TOOK_PREFIX = "took.";
+    protected static final String PLAN_CACHE_PREFIX = "plan_cache.";
 
     // map that holds total/failed counters for each client type (rest, kibana)
     private final Map<QueryMetric, Map<OperationType, CounterMetric>> opsByTypeMetrics;
@@ -46,6 +47,8 @@ public class Metrics {
     private final Map<FeatureMetric, CounterMetric> featuresMetrics;
     private final Map<String, CounterMetric> functionMetrics;
     private final TookMetrics tookMetrics = new TookMetrics();
+    private final CounterMetric planCacheHits = new CounterMetric();
+    private final CounterMetric planCacheMisses = new CounterMetric();
 
     private final EsqlFunctionRegistry functionRegistry;
     private final Map<Class<?>, String> classToFunctionName;
@@ -125,6 +128,21 @@ public class Metrics {
         tookMetrics.count(tookMillis);
     }
 
+    /**
+     * Counts a query whose plan was found in the {@link org.elasticsearch.xpack.esql.session.PlanCache}.
+     */
+    public void planCacheHit() {
+        planCacheHits.inc();
+    }
+
+    /**
+     * Counts a query whose plan could have been, but was not, found in the
+     * {@link org.elasticsearch.xpack.esql.session.PlanCache}.
+     */
+    public void planCacheMiss() {
+        planCacheMisses.inc();
+    }
+
     public Counters stats() {
         Counters counters = new Counters();
 
@@ -153,6 +171,9 @@ public class Metrics {
 
         tookMetrics.counters(TOOK_PREFIX, counters);
 
+        counters.inc(PLAN_CACHE_PREFIX + "hits", planCacheHits.count());
+        counters.inc(PLAN_CACHE_PREFIX + "misses", planCacheMisses.count());
+
         return counters;
     }
 }
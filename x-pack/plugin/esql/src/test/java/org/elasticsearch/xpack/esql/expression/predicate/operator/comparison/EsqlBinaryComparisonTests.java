@@ -12,11 +12,33 @@ import org.elasticsearch.common.io.stream.BytesStreamOutput;
 import org.elasticsearch.common.io.stream.NamedWriteableAwareStreamInput;
 import org.elasticsearch.common.io.stream.NamedWriteableRegistry;
 import org.elasticsearch.common.io.stream.StreamInput;
+import org.elasticsearch.common.util.BigArrays;
+import org.elasticsearch.compute.data.Block;
+import org.elasticsearch.compute.data.BlockUtils;
+import org.elasticsearch.compute.data.ElementType;
+import org.elasticsearch.compute.data.Page;
+import org.elasticsearch.compute.operator.DriverContext;
+import org.elasticsearch.compute.operator.EvalOperator;
+import org.elasticsearch.compute.test.TestBlockFactory;
 import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.xpack.esql.core.expression.Expression;
+import org.elasticsearch.xpack.esql.core.expression.FieldAttribute;
+import org.elasticsearch.xpack.esql.core.expression.FoldContext;
+import org.elasticsearch.xpack.esql.core.expression.Literal;
+import org.elasticsearch.xpack.esql.core.tree.Source;
+import org.elasticsearch.xpack.esql.core.type.DataType;
+import org.elasticsearch.xpack.esql.core.type.EsField;
+import org.elasticsearch.xpack.esql.evaluator.EvalMapper;
 import org.elasticsearch.xpack.esql.expression.predicate.operator.comparison.EsqlBinaryComparison.BinaryComparisonOperation;
+import org.elasticsearch.xpack.esql.planner.Layout;
+import org.elasticsearch.xpack.esql.planner.PlannerUtils;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
 
 public class EsqlBinaryComparisonTests extends ESTestCase {
 
@@ -31,6 +53,59 @@ public class EsqlBinaryComparisonTests extends ESTestCase {
         }
     }
 
+    public void testCompareToConstant() {
+        DriverContext driverContext = new DriverContext(BigArrays.NON_RECYCLING_INSTANCE, TestBlockFactory.getNonBreakingInstance());
+        for (BinaryComparisonOperation op : BinaryComparisonOperation.values()) {
+            for (DataType type : List.of(DataType.INTEGER, DataType.LONG, DataType.DOUBLE)) {
+                FieldAttribute field = new FieldAttribute(Source.EMPTY, "f", new EsField("f", type, Map.of(), true));
+                Expression comparison = op.buildNewInstance(Source.EMPTY, field, new Literal(Source.EMPTY, value(type, 5), type));
+                Layout.Builder layout = new Layout.Builder();
+                layout.append(field);
+                var factory = EvalMapper.toEvaluator(FoldContext.small(), comparison, layout.build());
+                assertThat(factory.toString(), startsWith("CompareToConstantEvaluator"));
+
+                int positions = between(1, 1000);
+                boolean dense = randomBoolean();
+                Object[] values = new Object[positions];
+                ElementType elementType = PlannerUtils.toElementType(type);
+                try (Block.Builder builder = elementType.newBlockBuilder(positions, driverContext.blockFactory())) {
+                    for (int p = 0; p < positions; p++) {
+                        if (dense == false && randomBoolean()) {
+                            builder.appendNull();
+                            continue;
+                        }
+                        values[p] = value(type, between(0, 10));
+                        BlockUtils.appendValue(builder, values[p], elementType);
+                    }
+                    Page page = new Page(builder.build());
+                    try (EvalOperator.ExpressionEvaluator evaluator = factory.get(driverContext); Block result = evaluator.eval(page)) {
+                        for (int p = 0; p < positions; p++) {
+                            Object expected = values[p] == null
+                                ? null
+                                : op.buildNewInstance(
+                                    Source.EMPTY,
+                                    new Literal(Source.EMPTY, values[p], type),
+                                    new Literal(Source.EMPTY, value(type, 5), type)
+                                ).fold(FoldContext.small());
+                            assertThat(op + " " + type + " at " + p, BlockUtils.toJavaObject(result, p), equalTo(expected));
+                        }
+                    } finally {
+                        page.releaseBlocks();
+                    }
+                }
+            }
+        }
+    }
+
+    private static Object value(DataType type, int value) {
+        return switch (type) {
+            case INTEGER -> value;
+            case LONG -> (long) value;
+            case DOUBLE -> (double) value;
+            default -> throw new IllegalArgumentException(type.toString());
+        };
+    }
+
     /**
      * Test that a serialized
      * {@code BinaryComparisonOperation}
@@ -33,6 +33,8 @@ import org.elasticsearch.search.vectors.RescoreVectorBuilder;
 import org.elasticsearch.test.VersionUtils;
 import org.elasticsearch.xpack.core.enrich.EnrichPolicy;
 import org.elasticsearch.xpack.esql.EsqlTestUtils;
+import org.elasticsearch.xpack.esql.EsqlTestUtils.TestConfigurableSearchStats;
+import org.elasticsearch.xpack.esql.EsqlTestUtils.TestConfigurableSearchStats.Config;
 import org.elasticsearch.xpack.esql.EsqlTestUtils.TestSearchStats;
 import org.elasticsearch.xpack.esql.action.EsqlCapabilities;
 import org.elasticsearch.xpack.esql.analysis.Analyzer;
@@ -555,6 +557,43 @@ public class LocalPhysicalPlanOptimizerTests extends MapperServiceTestCase {
         assertThat(plan.anyMatch(EsQueryExec.class::isInstance), is(true));
     }
 
+    /**
+     * Expects
+     * LimitExec[1000[INTEGER]]
+     * \_AggregateExec[[],[MIN(salary{f}#8) AS m],FINAL,null]
+     *   \_ExchangeExec[[min{r}#14, seen{r}#15],true]
+     *     \_EsStatsQueryExec[test], stats[Stat[name=salary, type=MIN, query=null]]],
+     *     query[{"esql_single_value":{"field":"emp_no","next":{"range":{"emp_no":{"gt":10040,"boost":1.0}}}}}][min{r}#30, seen{r}#31],
+     *       limit[],
+     */
+    public void testMinFieldWithFilter() {
+        var plan = plannerOptimizer.plan("from test | where emp_no > 10040 | stats m = min(salary)");
+        var stat = queryStatsFor(plan);
+        assertThat(stat.type(), is(StatsType.MIN));
+        assertThat(stat.name(), is("salary"));
+        assertThat(stat.query(), is(nullValue()));
+    }
+
+    public void testMaxDateField() {
+        var plan = plannerOptimizer.plan("from test | stats m = max(hire_date)");
+        var stat = queryStatsFor(plan);
+        assertThat(stat.type(), is(StatsType.MAX));
+        assertThat(stat.name(), is("hire_date"));
+        assertThat(stat.query(), is(nullValue()));
+    }
+
+    // min and max are read from the doc values
+    public void testMaxFieldWithoutDocValues() {
+        var stats = new TestConfigurableSearchStats().exclude(Config.DOC_VALUES, "salary");
+        var plan = plannerOptimizer.plan("from test | stats m = max(salary)", stats);
+        assertThat(plan.anyMatch(EsStatsQueryExec.class::isInstance), is(false));
+    }
+
+    public void testMinFieldWithAggFilter() {
+        var plan = plannerOptimizer.plan("from test | stats m = min(salary) where emp_no > 10040");
+        assertThat(plan.anyMatch(EsStatsQueryExec.class::isInstance), is(false));
+    }
+
     /**
      * Expecting
      * LimitExec[1000[INTEGER]]
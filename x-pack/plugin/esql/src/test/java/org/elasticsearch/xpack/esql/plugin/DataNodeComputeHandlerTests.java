@@ -0,0 +1,83 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.plugin;
+
+import org.elasticsearch.action.support.IndicesOptions;
+import org.elasticsearch.common.settings.Settings;
+import org.elasticsearch.common.util.concurrent.ThreadContext;
+import org.elasticsearch.index.Index;
+import org.elasticsearch.index.query.TermQueryBuilder;
+import org.elasticsearch.index.shard.ShardId;
+import org.elasticsearch.search.internal.AliasFilter;
+import org.elasticsearch.test.ESTestCase;
+import org.elasticsearch.xpack.core.security.authc.Authentication;
+import org.elasticsearch.xpack.core.security.authc.AuthenticationTestHelper;
+import org.elasticsearch.xpack.core.security.user.User;
+import org.elasticsearch.xpack.esql.session.Configuration;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import static org.elasticsearch.xpack.esql.ConfigurationTestUtils.randomConfiguration;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.not;
+
+public class DataNodeComputeHandlerTests extends ESTestCase {
+
+    public void testSharedScanKeyOfIdenticalRequests() throws IOException {
+        Configuration configuration = randomConfiguration();
+        Authentication user = AuthenticationTestHelper.builder().user(new User("user")).build(false);
+        assertThat(
+            sharedScanKey(request(configuration, Map.of()), user),
+            equalTo(sharedScanKey(request(configuration, Map.of()), user))
+        );
+    }
+
+    public void testNoSharedScanBetweenUsers() throws IOException {
+        Configuration configuration = randomConfiguration();
+        Authentication user1 = AuthenticationTestHelper.builder().user(new User("user1")).build(false);
+        Authentication user2 = AuthenticationTestHelper.builder().user(new User("user2")).build(false);
+        assertThat(
+            sharedScanKey(request(configuration, Map.of()), user1),
+            not(equalTo(sharedScanKey(request(configuration, Map.of()), user2)))
+        );
+    }
+
+    public void testNoSharedScanBetweenAliasFilters() throws IOException {
+        Configuration configuration = randomConfiguration();
+        Authentication user = AuthenticationTestHelper.builder().user(new User("user")).build(false);
+        Index index = new Index("index", "n/a");
+        var filter1 = Map.of(index, AliasFilter.of(new TermQueryBuilder("id", "1"), "alias-1"));
+        var filter2 = Map.of(index, AliasFilter.of(new TermQueryBuilder("id", "2"), "alias-2"));
+        var key = sharedScanKey(request(configuration, filter1), user);
+        assertThat(key, not(equalTo(sharedScanKey(request(configuration, filter2), user))));
+        assertThat(key, not(equalTo(sharedScanKey(request(configuration, Map.of()), user))));
+    }
+
+    private static DataNodeRequest request(Configuration configuration, Map<Index, AliasFilter> aliasFilters) {
+        return new DataNodeRequest(
+            randomAlphaOfLength(10),
+            configuration,
+            "",
+            List.of(new ShardId("index", "n/a", 0)),
+            aliasFilters,
+            null,
+            new String[] { "index" },
+            IndicesOptions.strictExpandOpen(),
+            true
+        );
+    }
+
+    private static DataNodeComputeHandler.SharedScanKey sharedScanKey(DataNodeRequest request, Authentication authentication)
+        throws IOException {
+        ThreadContext threadContext = new ThreadContext(Settings.EMPTY);
+        authentication.writeToContext(threadContext);
+        return DataNodeComputeHandler.sharedScanKey(request, false, threadContext);
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Elasticsearch B.V. and/or licensed to Elasticsearch B.V. under one
+ * or more contributor license agreements. Licensed under the Elastic License
+ * 2.0; you may not use this file except in compliance with the Elastic License
+ * 2.0.
+ */
+
+package org.elasticsearch.xpack.esql.plugin;
+
+import org.elasticsearch.common.util.concurrent.DeterministicTaskQueue;
+import org.elasticsearch.common.util.concurrent.EsExecutors;
+import org.elasticsearch.core.TimeValue;
+import org.elasticsearch.test.ESTestCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+
+public class SharedScansTests extends ESTestCase {
+
+    public void testGroupByKeyWithinWindow() {
+        DeterministicTaskQueue taskQueue = new DeterministicTaskQueue();
+        List<List<String>> groups = new ArrayList<>();
+        TimeValue window = TimeValue.timeValueMillis(between(1, 100));
+        SharedScans<Integer, String> scans = new SharedScans<>(
+            taskQueue.getThreadPool(),
+            window,
+            EsExecutors.DIRECT_EXECUTOR_SERVICE,
+            groups::add
+        );
+        // keys that didn't run recently don't wait
+        scans.join(1, "a");
+        scans.join(2, "b");
+        assertThat(groups, equalTo(List.of(List.of("a"), List.of("b"))));
+        assertThat(scans.openGroups(), equalTo(0));
+
+        // repeated keys wait for the others within the window
+        scans.join(1, "c");
+        scans.join(2, "d");
+        scans.join(1, "e");
+        assertThat(scans.openGroups(), equalTo(2));
+        taskQueue.runAllRunnableTasks();
+        assertThat(groups, hasSize(2));
+
+        taskQueue.runAllTasks();
+        assertThat(groups.subList(2, groups.size()), containsInAnyOrder(List.of("c", "e"), List.of("d")));
+        assertThat(scans.openGroups(), equalTo(0));
+
+        // the key ran within the window, so a new computation with the same key starts a new group
+        scans.join(1, "f");
+        assertThat(scans.openGroups(), equalTo(1));
+        taskQueue.runAllTasks();
+        assertThat(groups, hasSize(5));
+        assertThat(groups.get(4), equalTo(List.of("f")));
+
+        // once the key didn't run for a whole window, computations run right away again
+        taskQueue.scheduleAt(taskQueue.getCurrentTimeMillis() + window.millis(), () -> {});
+        taskQueue.runAllTasks();
+        scans.join(1, "g");
+        assertThat(scans.openGroups(), equalTo(0));
+        assertThat(groups, hasSize(6));
+        assertThat(groups.get(5), equalTo(List.of("g")));
+    }
+}
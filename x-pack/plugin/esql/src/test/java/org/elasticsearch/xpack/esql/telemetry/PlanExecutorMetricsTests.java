@@ -35,10 +35,14 @@ import org.elasticsearch.xpack.esql.action.EsqlQueryRequest;
 import org.elasticsearch.xpack.esql.action.EsqlResolveFieldsAction;
 import org.elasticsearch.xpack.esql.analysis.EnrichResolution;
 import org.elasticsearch.xpack.esql.core.expression.FoldContext;
+import org.elasticsearch.xpack.esql.core.util.DateUtils;
 import org.elasticsearch.xpack.esql.enrich.EnrichPolicyResolver;
 import org.elasticsearch.xpack.esql.execution.PlanExecutor;
+import org.elasticsearch.xpack.esql.parser.QueryParams;
 import org.elasticsearch.xpack.esql.plugin.EsqlPlugin;
+import org.elasticsearch.xpack.esql.plugin.QueryPragmas;
 import org.elasticsearch.xpack.esql.querylog.EsqlQueryLog;
+import org.elasticsearch.xpack.esql.session.Configuration;
 import org.elasticsearch.xpack.esql.session.EsqlSession;
 import org.elasticsearch.xpack.esql.session.IndexResolver;
 import org.elasticsearch.xpack.esql.session.Result;
@@ -51,8 +55,10 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 
+import static org.elasticsearch.xpack.esql.EsqlTestUtils.paramAsConstant;
 import static org.elasticsearch.xpack.esql.EsqlTestUtils.withDefaultLimitWarning;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.mockito.ArgumentMatchers.any;
@@ -150,7 +156,13 @@ public class PlanExecutorMetricsTests extends ESTestCase {
             return null;
         }).when(esqlClient).execute(eq(EsqlResolveFieldsAction.TYPE), any(), any());
 
-        var planExecutor = new PlanExecutor(indexResolver, MeterRegistry.NOOP, new XPackLicenseState(() -> 0L), mockQueryLog());
+        var planExecutor = new PlanExecutor(
+            indexResolver,
+            MeterRegistry.NOOP,
+            new XPackLicenseState(() -> 0L),
+            mockQueryLog(),
+            between(0, 100)
+        );
         var enrichResolver = mockEnrichResolver();
 
         var request = new EsqlQueryRequest();
@@ -220,6 +232,93 @@ public class PlanExecutorMetricsTests extends ESTestCase {
         assertEquals(1, planExecutor.metrics().stats().get("features.stats"));
     }
 
+    public void testPlanCacheMetric() {
+        var planExecutor = planCacheExecutor();
+        int runs = between(2, 5);
+        for (int i = 0; i < runs; i++) {
+            var request = new EsqlQueryRequest();
+            request.query("from test | stats m = max(foo)");
+            runWithPlanCache(planExecutor, request);
+        }
+
+        assertEquals(1, planExecutor.metrics().stats().get("plan_cache.misses"));
+        assertEquals(runs - 1, planExecutor.metrics().stats().get("plan_cache.hits"));
+        // queries that use the cached plan still count in the telemetry
+        assertEquals(runs, planExecutor.metrics().stats().get("features.stats"));
+        assertEquals(0, planExecutor.metrics().stats().get("queries._all.failed"));
+    }
+
+    public void testPlanCacheWithParams() {
+        var planExecutor = planCacheExecutor();
+        int runs = between(2, 5);
+        for (int i = 0; i < runs; i++) {
+            // every request parses its own copy of the parameters
+            var request = new EsqlQueryRequest();
+            request.query("from test | where foo > ?limit | stats m = max(foo)");
+            request.params(new QueryParams(List.of(paramAsConstant("limit", 10))));
+            runWithPlanCache(planExecutor, request);
+        }
+        assertEquals(1, planExecutor.metrics().stats().get("plan_cache.misses"));
+        assertEquals(runs - 1, planExecutor.metrics().stats().get("plan_cache.hits"));
+
+        // a different value is a different plan
+        var request = new EsqlQueryRequest();
+        request.query("from test | where foo > ?limit | stats m = max(foo)");
+        request.params(new QueryParams(List.of(paramAsConstant("limit", 20))));
+        runWithPlanCache(planExecutor, request);
+        assertEquals(2, planExecutor.metrics().stats().get("plan_cache.misses"));
+        assertEquals(runs - 1, planExecutor.metrics().stats().get("plan_cache.hits"));
+        assertEquals(0, planExecutor.metrics().stats().get("queries._all.failed"));
+    }
+
+    private PlanExecutor planCacheExecutor() {
+        String[] indices = new String[] { "test" };
+        Client esqlClient = mock(Client.class);
+        IndexResolver indexResolver = new IndexResolver(esqlClient);
+        doAnswer((Answer<Void>) invocation -> {
+            @SuppressWarnings("unchecked")
+            ActionListener<FieldCapabilitiesResponse> listener = (ActionListener<FieldCapabilitiesResponse>) invocation.getArguments()[2];
+            listener.onResponse(new FieldCapabilitiesResponse(indexFieldCapabilities(indices), List.of()));
+            return null;
+        }).when(esqlClient).execute(eq(EsqlResolveFieldsAction.TYPE), any(), any());
+
+        return new PlanExecutor(indexResolver, MeterRegistry.NOOP, new XPackLicenseState(() -> 0L), mockQueryLog(), 100);
+    }
+
+    private void runWithPlanCache(PlanExecutor planExecutor, EsqlQueryRequest request) {
+        // plans aren't cached for requests with tables, so the configuration has none
+        Configuration configuration = new Configuration(
+            DateUtils.UTC,
+            Locale.US,
+            null,
+            null,
+            new QueryPragmas(Settings.EMPTY),
+            EsqlPlugin.QUERY_RESULT_TRUNCATION_MAX_SIZE.getDefault(Settings.EMPTY),
+            EsqlPlugin.QUERY_RESULT_TRUNCATION_DEFAULT_SIZE.getDefault(Settings.EMPTY),
+            "",
+            false,
+            Map.of(),
+            System.nanoTime(),
+            false
+        );
+        IndicesExpressionGrouper groupIndicesByCluster = (remoteClusterNames, indicesOptions, indexExpressions) -> Map.of(
+            "",
+            new OriginalIndices(new String[] { "test" }, IndicesOptions.DEFAULT)
+        );
+        planExecutor.esql(
+            request,
+            randomAlphaOfLength(10),
+            configuration,
+            FoldContext.small(),
+            mockEnrichResolver(),
+            new EsqlExecutionInfo(randomBoolean()),
+            groupIndicesByCluster,
+            (p, r) -> r.onResponse(null),
+            EsqlTestUtils.MOCK_TRANSPORT_ACTION_SERVICES,
+            ActionListener.noop()
+        );
+    }
+
     private List<FieldCapabilitiesIndexResponse> indexFieldCapabilities(String[] indices) {
         List<FieldCapabilitiesIndexResponse> responses = new ArrayList<>();
         for (String idx : indices) {